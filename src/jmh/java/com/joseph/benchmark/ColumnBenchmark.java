@@ -0,0 +1,71 @@
+package com.joseph.benchmark;
+
+import com.joseph.column.Columns;
+import com.joseph.rule.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks validating a column of 100k values at once against validating it row by row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnBenchmark {
+    /**
+     * Ages, about 1% of them out of range
+     */
+    private final int[] ages = new Random(42).ints(100_000, 0, 122).map(age -> age == 0 ? -1 : age).toArray();
+
+    /**
+     * Temperatures, about 1% of them NaN
+     */
+    private final double[] celsius = new Random(42).doubles(100_000, -40.0, 50.0).map(t -> t < -39.1 ? Double.NaN : t).toArray();
+
+    /**
+     * Validates the int column at once.
+     * @return the failing rows
+     */
+    @Benchmark
+    public BitSet intColumn() {
+        return Columns.of(ages).range(0, 120).validate();
+    }
+
+    /**
+     * Validates the int column row by row with IntRule.
+     * @return the failing rows
+     */
+    @Benchmark
+    public BitSet intRows() {
+        BitSet failing = new BitSet(ages.length);
+        for (int row = 0; row < ages.length; row++) {
+            if (!Rule.on(ages[row], "age").min(0).max(120).getViolations().isEmpty()) {
+                failing.set(row);
+            }
+        }
+        return failing;
+    }
+
+    /**
+     * Validates the double column at once.
+     * @return the failing rows
+     */
+    @Benchmark
+    public BitSet doubleColumn() {
+        return Columns.of(celsius).range(-50.0, 60.0).notNaN().validate();
+    }
+}
@@ -0,0 +1,61 @@
+package com.joseph.benchmark;
+
+import com.joseph.exception.RecordValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating RecordValidationException, with and without a stack trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionBenchmark {
+    /**
+     * Errors carried by the exceptions
+     */
+    private final Map<String, List<String>> errors = Map.of(
+            "email", List.of("must be a valid email"),
+            "age", List.of("must be at least 18"));
+
+    /**
+     * Creates an exception with a stack trace.
+     * @return the exception
+     */
+    @Benchmark
+    public RecordValidationException withStackTrace() {
+        return new RecordValidationException(errors, true);
+    }
+
+    /**
+     * Creates a stackless exception.
+     * @return the exception
+     */
+    @Benchmark
+    public RecordValidationException stackless() {
+        return new RecordValidationException(errors, false);
+    }
+
+    /**
+     * Creates a stackless exception and formats its message.
+     * @return the message
+     */
+    @Benchmark
+    public String stacklessWithMessage() {
+        return new RecordValidationException(errors, false).getMessage();
+    }
+}
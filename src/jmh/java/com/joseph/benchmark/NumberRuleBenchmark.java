@@ -0,0 +1,111 @@
+package com.joseph.benchmark;
+
+import com.joseph.rule.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks min/max checks across the boxed number types and the primitive rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberRuleBenchmark {
+    /**
+     * Boxed integer outside of the Integer cache
+     */
+    private Integer boxedInt = 4_096;
+
+    /**
+     * Boxed long
+     */
+    private Long boxedLong = 4_096L;
+
+    /**
+     * Boxed double
+     */
+    private Double boxedDouble = 4_096.5;
+
+    /**
+     * Big decimal
+     */
+    private BigDecimal bigDecimal = new BigDecimal("4096.5");
+
+    /**
+     * Primitive int
+     */
+    private int primitiveInt = 4_096;
+
+    /**
+     * Primitive double
+     */
+    private double primitiveDouble = 4_096.5;
+
+    /**
+     * Validates a boxed Integer.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> boxedInteger() {
+        return Rule.on(boxedInt, "value").min(0).max(10_000).getViolations();
+    }
+
+    /**
+     * Validates a boxed Long.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> boxedLong() {
+        return Rule.on(boxedLong, "value").min(0L).max(10_000L).getViolations();
+    }
+
+    /**
+     * Validates a boxed Double.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> boxedDouble() {
+        return Rule.on(boxedDouble, "value").min(0.0).max(10_000.0).getViolations();
+    }
+
+    /**
+     * Validates a BigDecimal.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> bigDecimal() {
+        return Rule.on(bigDecimal, "value").min(BigDecimal.ZERO).max(BigDecimal.TEN.pow(4)).getViolations();
+    }
+
+    /**
+     * Validates a primitive int.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> primitiveInt() {
+        return Rule.on(primitiveInt, "value").min(0).max(10_000).getViolations();
+    }
+
+    /**
+     * Validates a primitive double.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> primitiveDouble() {
+        return Rule.on(primitiveDouble, "value").min(0.0).max(10_000.0).getViolations();
+    }
+}
@@ -0,0 +1,84 @@
+package com.joseph.benchmark;
+
+import com.joseph.RecordRules;
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.StringRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks validating every element of large lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectRuleBenchmark {
+    /**
+     * Number of list elements
+     */
+    @Param({"1000", "50000"})
+    private int size;
+
+    /**
+     * Valid SKUs
+     */
+    private List<String> skus;
+
+    /**
+     * Creates the list.
+     */
+    @Setup
+    public void setUp() {
+        skus = IntStream.range(0, size).mapToObj(i -> "SKU-" + i).toList();
+    }
+
+    /**
+     * Validates every element through forEach.
+     * @return the violations
+     */
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public List<String> forEach() {
+        return Rule.on(skus, "skus").required().maxSize(100_000)
+                .forEach((sku, i) -> RecordRules.check(Rule.on((String) sku, "skus[" + i + "]").required().notBlank()))
+                .getViolations();
+    }
+
+    /**
+     * Validates every element against a single element rule.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> each() {
+        return Rule.on(skus, "skus").required().maxSize(100_000)
+                .each(StringRule::new, sku -> sku.required().notBlank())
+                .getViolations();
+    }
+
+    /**
+     * Validates every element against a single element rule in parallel.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> eachParallel() {
+        return Rule.on(skus, "skus").required().maxSize(100_000)
+                .each(StringRule::new, sku -> sku.required().notBlank()).parallel(10_000)
+                .getViolations();
+    }
+}
@@ -0,0 +1,77 @@
+package com.joseph.benchmark;
+
+import com.joseph.RecordRules;
+import com.joseph.result.ValidationResult;
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.StringRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks validating a record with several heavy fields sequentially and concurrently,
+ * and a cheap record through the parallel entry point, which stays sequential.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelCheckBenchmark {
+    /**
+     * Emails of the heavy collection fields
+     */
+    private final List<String> emails = IntStream.range(0, 2_000).mapToObj(i -> "user" + i + "@example.com").collect(Collectors.toList());
+
+    /**
+     * Builds the rules of a record with four heavy collection fields.
+     * @return the rules
+     */
+    private Rule<?, ?>[] heavyRules() {
+        return new Rule<?, ?>[] {
+            Rule.on(emails, "to").each(StringRule::new, s -> s.email().matches("user\\d+@example\\.com")),
+            Rule.on(emails, "cc").each(StringRule::new, s -> s.email().matches("user\\d+@example\\.com")),
+            Rule.on(emails, "bcc").each(StringRule::new, s -> s.email().matches("user\\d+@example\\.com")),
+            Rule.on(emails, "replyTo").each(StringRule::new, s -> s.email().matches("user\\d+@example\\.com"))
+        };
+    }
+
+    /**
+     * Validates the heavy record field after field.
+     * @return the result
+     */
+    @Benchmark
+    public ValidationResult heavySequential() {
+        return RecordRules.validate(heavyRules());
+    }
+
+    /**
+     * Validates the heavy record with its fields evaluated concurrently.
+     * @return the result
+     */
+    @Benchmark
+    public ValidationResult heavyParallel() {
+        return RecordRules.validateParallel(heavyRules());
+    }
+
+    /**
+     * Validates a cheap record through the parallel entry point.
+     * @return the result
+     */
+    @Benchmark
+    public ValidationResult cheapParallel() {
+        return RecordRules.validateParallel(Rule.on("test@example.com", "email").required().email(), Rule.on(25, "age").min(18).max(120));
+    }
+}
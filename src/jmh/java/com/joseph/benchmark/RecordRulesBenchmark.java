@@ -0,0 +1,120 @@
+package com.joseph.benchmark;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.StringRule;
+import com.joseph.schema.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building rule chains and validating whole records, per call and through a schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordRulesBenchmark {
+    /**
+     * Record validated by the benchmarks.
+     * @param email Email
+     * @param age Age
+     * @param username Username
+     */
+    public record User(String email, int age, String username) {
+    }
+
+    /**
+     * Schema equivalent to the per-call rule chain
+     */
+    private static final Schema<User> USER_SCHEMA = RecordRules.schema(User.class)
+            .field("email", User::email, StringRule::new, s -> s.required().email())
+            .intField("age", User::age, r -> r.min(18).max(120))
+            .field("username", User::username, StringRule::new, s -> s.required().notBlank())
+            .build();
+
+    /**
+     * Valid record
+     */
+    private final User valid = new User("test@example.com", 25, "java_dev");
+
+    /**
+     * Record with a violation on every field
+     */
+    private final User invalid = new User("bad-email", 15, "  ");
+
+    /**
+     * Builds a rule chain without evaluating it.
+     * @return the rule, so that the chain is not eliminated
+     */
+    @Benchmark
+    public Rule<?, ?> buildChain() {
+        return Rule.on(valid.email(), "email").required().email().length(3, 64);
+    }
+
+    /**
+     * Builds and checks the rule chains of a valid record.
+     * @return the record
+     */
+    @Benchmark
+    public User checkValid() {
+        check(valid);
+        return valid;
+    }
+
+    /**
+     * Builds and checks the rule chains of an invalid record, catching the exception.
+     * @return the caught exception
+     */
+    @Benchmark
+    public RecordValidationException checkInvalid() {
+        try {
+            check(invalid);
+            return null;
+        } catch (RecordValidationException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Checks a valid record through the precompiled schema.
+     * @return the record
+     */
+    @Benchmark
+    public User schemaCheckValid() {
+        USER_SCHEMA.check(valid);
+        return valid;
+    }
+
+    /**
+     * Validates an invalid record through the precompiled schema without throwing.
+     * @return whether the record is valid
+     */
+    @Benchmark
+    public boolean schemaValidateInvalid() {
+        return USER_SCHEMA.validate(invalid).isValid();
+    }
+
+    /**
+     * The rule chain a record would run in its compact constructor.
+     * @param user Record to validate
+     */
+    private static void check(final User user) {
+        RecordRules.check(
+                Rule.on(user.email(), "email").required().email(),
+                Rule.on(user.age(), "age").min(18).max(120),
+                Rule.on(user.username(), "username").required().notBlank());
+    }
+}
@@ -0,0 +1,92 @@
+package com.joseph.benchmark;
+
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.StringRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks the pattern based string rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringRuleBenchmark {
+    /**
+     * Regex used by the matches benchmarks
+     */
+    private static final String ZIP_REGEX = "\\d{5}(-\\d{4})?";
+
+    /**
+     * Precompiled form of {@link #ZIP_REGEX}
+     */
+    private static final Pattern ZIP_PATTERN = Pattern.compile(ZIP_REGEX);
+
+    /**
+     * Email to validate
+     */
+    @Param({"first.last+tag@sub.example.com", "not-an-email@"})
+    private String email;
+
+    /**
+     * Whether emails are checked with the regex rather than the scanner
+     */
+    @Param({"false", "true"})
+    private boolean emailRegex;
+
+    /**
+     * Zip code to validate
+     */
+    private final String zip = "12345-6789";
+
+    /**
+     * Selects the email implementation.
+     */
+    @Setup
+    public void setUp() {
+        StringRule.setEmailRegexEnabled(emailRegex);
+    }
+
+    /**
+     * Validates an email.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> email() {
+        return Rule.on(email, "email").email().getViolations();
+    }
+
+    /**
+     * Validates against a regex given as a string.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> matchesRegex() {
+        return Rule.on(zip, "zip").matches(ZIP_REGEX).getViolations();
+    }
+
+    /**
+     * Validates against a precompiled pattern.
+     * @return the violations
+     */
+    @Benchmark
+    public List<String> matchesPattern() {
+        return Rule.on(zip, "zip").matches(ZIP_PATTERN).getViolations();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks of the validation hot paths
+ */
+package com.joseph.benchmark;
@@ -1,16 +1,43 @@
 package com.joseph;
 
-import com.joseph.exception.RecordValidationException;
+import com.joseph.metrics.ValidationListeners;
+import com.joseph.result.ErrorCollector;
+import com.joseph.result.ValidationResult;
+import com.joseph.rule.AsyncLookups;
 import com.joseph.rule.Rule;
+import com.joseph.schema.BatchReport;
+import com.joseph.schema.RecordSchemas;
+import com.joseph.schema.Schema;
+import com.joseph.time.ValidationClock;
+import com.joseph.time.ValidationTime;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * RecordRules is a utility class that provides a static method for validating records.
+ * RecordRules is a utility class that provides static methods for validating records.
  */
 public final class RecordRules {
+    /**
+     * Default estimated cost above which {@link #validateParallel(Rule[])} evaluates rules
+     * concurrently, in units of a constant-time check; a regex weighs 16
+     */
+    public static final long PARALLEL_COST_THRESHOLD = 256L;
+
+    /**
+     * Estimated cost from which a single rule is handed to another thread; cheaper rules
+     * run on the calling thread
+     */
+    private static final long PARALLEL_RULE_COST = 16L;
 
     /**
      * RecordRules constructor.
@@ -20,18 +47,393 @@ public final class RecordRules {
 
     /**
      * Validates a list of rules and throws a RecordValidationException if any of the rules are violated.
+     * Failed constraints and the validation time are reported to the registered
+     * {@link com.joseph.metrics.ValidationListener}, if any.
      *
      * @param rules the rules to validate
      */
     public static void check(final Rule<?, ?>... rules) {
-        Map<String, List<String>> allErrors = new HashMap<>();
+        validate(rules).throwIfInvalid();
+    }
+
+    /**
+     * Validates a list of rules against the time of the given clock, e.g. a fixed clock in tests,
+     * and throws a RecordValidationException if any of the rules are violated.
+     *
+     * @param clock the clock the temporal constraints read "now" from
+     * @param rules the rules to validate
+     */
+    public static void check(final Clock clock, final Rule<?, ?>... rules) {
+        validate(clock, rules).throwIfInvalid();
+    }
+
+    /**
+     * Validates a list of rules without throwing. Use it where invalid input is expected,
+     * e.g. in batch jobs, to avoid creating and unwinding an exception per invalid record.
+     * The error map is only created once the first violation is found. Errors of nested
+     * values validated through {@code ObjectRule.valid} or {@code ObjectRule.each} are
+     * filed under hierarchical paths, such as {@code address.zip} or {@code items[42].sku}.
+     * The call is a validation pass: every temporal constraint sees the same "now", read once
+     * from the global {@link ValidationClock}.
+     *
+     * @param rules the rules to validate
+     * @return the validation result
+     */
+    public static ValidationResult validate(final Rule<?, ?>... rules) {
+        return validate(ValidationClock.getClock(), rules);
+    }
+
+    /**
+     * Validates a list of rules without throwing, against the time of the given clock, read
+     * once for the whole validation, instead of the global {@link ValidationClock}.
+     *
+     * @param clock the clock the temporal constraints read "now" from
+     * @param rules the rules to validate
+     * @return the validation result
+     */
+    public static ValidationResult validate(final Clock clock, final Rule<?, ?>... rules) {
+        return ValidationClock.pass(clock, () -> validateRules(rules));
+    }
+
+    private static ValidationResult validateRules(final Rule<?, ?>[] rules) {
+        boolean timed = ValidationListeners.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        Map<String, List<String>> allErrors = null;
+        if (isComposite(rules)) {
+            allErrors = collect(rules, Integer.MAX_VALUE);
+        } else {
+            for (Rule<?, ?> rule : rules) {
+                List<String> violations = rule.getViolations();
+                if (!violations.isEmpty()) {
+                    if (allErrors == null) {
+                        allErrors = new HashMap<>();
+                    }
+                    allErrors.put(rule.getFieldName(), violations);
+                }
+            }
+        }
+        if (timed) {
+            ValidationListeners.get().onValidation(System.nanoTime() - start, allErrors == null);
+        }
+        return ValidationResult.of(allErrors);
+    }
+
+    /**
+     * Validates a list of rules without throwing, running the lookups of their
+     * {@code satisfiesAsync} constraints concurrently on the shared
+     * {@linkplain AsyncLookups#defaultExecutor() lookup executor}.
+     *
+     * @param timeout the maximum time to wait for the lookups
+     * @param rules the rules to validate
+     * @return the validation result, completing exceptionally with a TimeoutException if the lookups time out
+     */
+    public static CompletableFuture<ValidationResult> validateAsync(final Duration timeout, final Rule<?, ?>... rules) {
+        return validateAsync(AsyncLookups.defaultExecutor(), timeout, rules);
+    }
+
+    /**
+     * Validates a list of rules without throwing, running the lookups of their
+     * {@code satisfiesAsync} constraints concurrently on the given executor. The validation
+     * takes as long as the slowest lookup, then evaluates every rule as {@link #validate(Rule[])} does.
+     *
+     * @param executor the executor running the lookups
+     * @param timeout the maximum time to wait for the lookups
+     * @param rules the rules to validate
+     * @return the validation result, completing exceptionally with a TimeoutException if the lookups time out
+     */
+    public static CompletableFuture<ValidationResult> validateAsync(final Executor executor, final Duration timeout, final Rule<?, ?>... rules) {
+        AsyncLookups lookups = new AsyncLookups(executor);
+        for (Rule<?, ?> rule : rules) {
+            rule.startLookups(lookups);
+        }
+        return lookups.thenValidate(() -> validate(rules), timeout);
+    }
+
+    /**
+     * Validates a list of rules, running the lookups of their {@code satisfiesAsync}
+     * constraints concurrently on the shared lookup executor.
+     *
+     * @param timeout the maximum time to wait for the lookups
+     * @param rules the rules to validate
+     * @return a future completing exceptionally with a RecordValidationException if any rule is violated
+     */
+    public static CompletableFuture<Void> checkAsync(final Duration timeout, final Rule<?, ?>... rules) {
+        return checkAsync(AsyncLookups.defaultExecutor(), timeout, rules);
+    }
+
+    /**
+     * Validates a list of rules, running the lookups of their {@code satisfiesAsync}
+     * constraints concurrently on the given executor.
+     *
+     * @param executor the executor running the lookups
+     * @param timeout the maximum time to wait for the lookups
+     * @param rules the rules to validate
+     * @return a future completing exceptionally with a RecordValidationException if any rule is violated
+     */
+    public static CompletableFuture<Void> checkAsync(final Executor executor, final Duration timeout, final Rule<?, ?>... rules) {
+        return validateAsync(executor, timeout, rules).thenAccept(ValidationResult::throwIfInvalid);
+    }
+
+    /**
+     * Validates a list of rules without throwing, evaluating expensive rules concurrently on the
+     * common fork/join pool once the estimated cost of all the rules reaches
+     * {@link #PARALLEL_COST_THRESHOLD}.
+     *
+     * @param rules the rules to validate
+     * @return the validation result
+     * @see #validateParallel(Executor, long, Rule[])
+     */
+    public static ValidationResult validateParallel(final Rule<?, ?>... rules) {
+        return validateParallel(ForkJoinPool.commonPool(), PARALLEL_COST_THRESHOLD, rules);
+    }
+
+    /**
+     * Validates a list of rules without throwing, evaluating independent rules concurrently,
+     * so that a record with several heavy fields, such as large regexes or large collections
+     * validated through {@code each}, takes about as long as its slowest field rather than the
+     * sum of all of them. The cost of each rule is {@linkplain Rule#estimateCost() estimated}
+     * first: when the total is below the threshold, the rules are evaluated sequentially as by
+     * {@link #validate(Rule[])}, so cheap records do not pay for the handoff. Otherwise every
+     * rule costing at least as much as a regex, except the most expensive one, is handed to
+     * the executor, and the remaining rules run on the calling thread. The errors are the same
+     * as in a sequential validation, and every rule sees the same "now".
+     *
+     * @param executor the executor running the expensive rules, such as a fork/join pool
+     * @param costThreshold the estimated cost from which the rules are evaluated concurrently
+     * @param rules the rules to validate
+     * @return the validation result
+     */
+    public static ValidationResult validateParallel(final Executor executor, final long costThreshold, final Rule<?, ?>... rules) {
+        long[] costs = new long[rules.length];
+        long total = 0L;
+        int heaviest = 0;
+        for (int i = 0; i < rules.length; i++) {
+            costs[i] = rules[i].estimateCost();
+            total += costs[i];
+            if (costs[i] > costs[heaviest]) {
+                heaviest = i;
+            }
+        }
+        if (rules.length < 2 || total < costThreshold) {
+            return validate(rules);
+        }
+        boolean timed = ValidationListeners.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        ValidationTime now = ValidationClock.now();
+        List<CompletableFuture<Map<String, List<String>>>> forked = new ArrayList<>(rules.length);
+        for (int i = 0; i < rules.length; i++) {
+            Rule<?, ?> rule = rules[i];
+            forked.add(i != heaviest && costs[i] >= PARALLEL_RULE_COST
+                    ? CompletableFuture.supplyAsync(() -> ValidationClock.pinned(now, () -> errorsOf(rule)), executor)
+                    : null);
+        }
+        List<Map<String, List<String>>> errors = ValidationClock.pinned(now, () -> {
+            List<Map<String, List<String>>> inline = new ArrayList<>(rules.length);
+            for (int i = 0; i < rules.length; i++) {
+                inline.add(forked.get(i) == null ? errorsOf(rules[i]) : null);
+            }
+            return inline;
+        });
+        Map<String, List<String>> allErrors = null;
+        for (int i = 0; i < rules.length; i++) {
+            Map<String, List<String>> ruleErrors = forked.get(i) == null ? errors.get(i) : join(forked.get(i));
+            if (ruleErrors != null) {
+                if (allErrors == null) {
+                    allErrors = new LinkedHashMap<>();
+                }
+                allErrors.putAll(ruleErrors);
+            }
+        }
+        if (timed) {
+            ValidationListeners.get().onValidation(System.nanoTime() - start, allErrors == null);
+        }
+        return ValidationResult.of(allErrors);
+    }
+
+    /**
+     * Validates a list of rules, evaluating expensive rules concurrently on the common
+     * fork/join pool once their estimated cost reaches {@link #PARALLEL_COST_THRESHOLD}.
+     *
+     * @param rules the rules to validate
+     */
+    public static void checkParallel(final Rule<?, ?>... rules) {
+        validateParallel(rules).throwIfInvalid();
+    }
+
+    /**
+     * Validates a list of rules, evaluating independent rules concurrently on the executor
+     * once their estimated cost reaches the threshold.
+     *
+     * @param executor the executor running the expensive rules, such as a fork/join pool
+     * @param costThreshold the estimated cost from which the rules are evaluated concurrently
+     * @param rules the rules to validate
+     */
+    public static void checkParallel(final Executor executor, final long costThreshold, final Rule<?, ?>... rules) {
+        validateParallel(executor, costThreshold, rules).throwIfInvalid();
+    }
+
+    /**
+     * Evaluates a single rule, filing nested errors under hierarchical paths.
+     *
+     * @param rule the rule to validate
+     * @return Map of paths to list of error messages, or null if the rule passed
+     */
+    private static Map<String, List<String>> errorsOf(final Rule<?, ?> rule) {
+        if (rule.isComposite()) {
+            return collect(new Rule<?, ?>[] {rule}, Integer.MAX_VALUE);
+        }
+        List<String> violations = rule.getViolations();
+        return violations.isEmpty() ? null : Map.of(rule.getFieldName(), violations);
+    }
+
+    /**
+     * Waits for a rule evaluated on another thread, rethrowing its failure unwrapped.
+     *
+     * @param future the pending evaluation
+     * @return the errors of the rule, or null if it passed
+     */
+    private static Map<String, List<String>> join(final CompletableFuture<Map<String, List<String>>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            if (e.getCause() instanceof Error failure) {
+                throw failure;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Validates a list of rules but stops at the first violation, skipping every remaining
+     * constraint and rule. Use it on hot paths that only need to reject bad input.
+     *
+     * @param rules the rules to validate
+     */
+    public static void checkFast(final Rule<?, ?>... rules) {
+        checkFast(1, rules);
+    }
+
+    /**
+     * Validates a list of rules but stops once the given number of violations has been found,
+     * skipping every remaining constraint and rule.
+     *
+     * @param maxViolations the maximum number of violations to collect, at least 1
+     * @param rules the rules to validate
+     */
+    public static void checkFast(final int maxViolations, final Rule<?, ?>... rules) {
+        if (maxViolations < 1) {
+            throw new IllegalArgumentException("maxViolations must be positive: " + maxViolations);
+        }
+        ValidationClock.pass(ValidationClock.getClock(), () -> checkRules(maxViolations, rules)).throwIfInvalid();
+    }
+
+    private static ValidationResult checkRules(final int maxViolations, final Rule<?, ?>[] rules) {
+        boolean timed = ValidationListeners.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        Map<String, List<String>> allErrors = null;
+        if (isComposite(rules)) {
+            allErrors = collect(rules, maxViolations);
+        } else {
+            int remaining = maxViolations;
+            for (Rule<?, ?> rule : rules) {
+                List<String> violations = rule.getViolations(remaining);
+                if (!violations.isEmpty()) {
+                    if (allErrors == null) {
+                        allErrors = new HashMap<>();
+                    }
+                    allErrors.put(rule.getFieldName(), violations);
+                    remaining -= violations.size();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (timed) {
+            ValidationListeners.get().onValidation(System.nanoTime() - start, allErrors == null);
+        }
+        return ValidationResult.of(allErrors);
+    }
+
+    /**
+     * Whether a rule nests other validations, whose errors need hierarchical paths.
+     *
+     * @param rules the rules to validate
+     * @return true if any rule is composite
+     */
+    private static boolean isComposite(final Rule<?, ?>[] rules) {
         for (Rule<?, ?> rule : rules) {
-            if (!rule.getViolations().isEmpty()) {
-                allErrors.put(rule.getFieldName(), rule.getViolations());
+            if (rule.isComposite()) {
+                return true;
             }
         }
-        if (!allErrors.isEmpty()) {
-            throw new RecordValidationException(allErrors);
+        return false;
+    }
+
+    /**
+     * Validates the rules through a collector, filing nested errors under paths such as {@code address.zip}.
+     *
+     * @param rules the rules to validate
+     * @param maxViolations the maximum number of violations to collect
+     * @return Map of paths to list of error messages, or null if every rule passed
+     */
+    private static Map<String, List<String>> collect(final Rule<?, ?>[] rules, final int maxViolations) {
+        ErrorCollector collector = new ErrorCollector(maxViolations);
+        for (int i = 0; i < rules.length && !collector.isFull(); i++) {
+            rules[i].collect(collector);
         }
+        return collector.getCount() == 0 ? null : collector.getErrors();
+    }
+
+    /**
+     * Validates a batch of rows against a schema in parallel on the common fork/join pool.
+     *
+     * @param rows the rows to validate
+     * @param schema the schema applied to each row
+     * @param <T> Type of the validated rows
+     * @return the batch report, mapping invalid row indexes to their field errors
+     */
+    public static <T> BatchReport validateAll(final List<T> rows, final Schema<T> schema) {
+        return schema.validateAll(rows);
+    }
+
+    /**
+     * Starts building a reusable, thread-safe schema for the given type.
+     * The schema is built once and can then validate any number of instances
+     * without creating new rule chains per call.
+     *
+     * @param type the type validated by the schema
+     * @param <T> Type of the validated instances
+     * @return a new schema builder
+     */
+    public static <T> Schema.Builder<T> schema(final Class<T> type) {
+        return Schema.builder(type);
+    }
+
+    /**
+     * Validates a record against the annotations on its components, e.g. {@code @Email}
+     * or {@code @Min(18)}, without throwing. The components are introspected once per class
+     * and the resulting schema is cached, so only the first call per class pays for reflection.
+     *
+     * @param record the record to validate
+     * @return the validation result
+     * @throws IllegalArgumentException if an annotation does not fit its component
+     */
+    public static ValidationResult validate(final Record record) {
+        return RecordSchemas.validate(record);
+    }
+
+    /**
+     * Builds the cached schemas of the given record classes eagerly, so that the first
+     * {@link #validate(Record)} of each class does not pay for the introspection.
+     *
+     * @param types the record classes
+     * @throws IllegalArgumentException if a type is not a record or an annotation does not fit its component
+     */
+    public static void warmUp(final Class<?>... types) {
+        RecordSchemas.warmUp(types);
     }
-}
\ No newline at end of file
+}
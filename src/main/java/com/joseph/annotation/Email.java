@@ -0,0 +1,20 @@
+package com.joseph.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the string record component is a valid email.
+ * Same semantics as {@link com.joseph.rule.child.StringRule#email()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Email {
+    /**
+     * Custom error message, empty to use the default message.
+     * @return the error message
+     */
+    String message() default "";
+}
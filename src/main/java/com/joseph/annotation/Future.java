@@ -0,0 +1,20 @@
+package com.joseph.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the LocalDate, LocalDateTime, Instant or OffsetDateTime record component is in the future.
+ * Same semantics as {@link com.joseph.rule.child.TemporalRule#isFuture()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Future {
+    /**
+     * Custom error message, empty to use the default message.
+     * @return the error message
+     */
+    String message() default "";
+}
@@ -0,0 +1,32 @@
+package com.joseph.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the length of the string record component is between min and max.
+ * Same semantics as {@link com.joseph.rule.child.StringRule#length(int, int)}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Length {
+    /**
+     * Minimum length.
+     * @return the minimum length
+     */
+    int min() default 0;
+
+    /**
+     * Maximum length.
+     * @return the maximum length
+     */
+    int max() default Integer.MAX_VALUE;
+
+    /**
+     * Custom error message, empty to use the default message.
+     * @return the error message
+     */
+    String message() default "";
+}
@@ -0,0 +1,26 @@
+package com.joseph.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the string record component matches a regex, checked when the validator is generated.
+ * Same semantics as {@link com.joseph.rule.child.StringRule#matches(String)}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Matches {
+    /**
+     * Regex to match.
+     * @return the regex
+     */
+    String value();
+
+    /**
+     * Custom error message, empty to use the default message.
+     * @return the error message
+     */
+    String message() default "";
+}
@@ -0,0 +1,26 @@
+package com.joseph.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the numeric record component is at least the given value.
+ * Same semantics as {@link com.joseph.rule.child.NumberRule#min(Number)}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Min {
+    /**
+     * Minimum value.
+     * @return the minimum value
+     */
+    long value();
+
+    /**
+     * Custom error message, empty to use the default message.
+     * @return the error message
+     */
+    String message() default "";
+}
@@ -0,0 +1,43 @@
+package com.joseph.annotation;
+
+import com.joseph.metrics.ValidationListeners;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ValidatorSupport holds the helpers called by the validators generated from the annotations.
+ * It is not meant to be used directly.
+ */
+public final class ValidatorSupport {
+    private ValidatorSupport() {
+    }
+
+    /**
+     * Adds a violation, creating the error map and the field's list on the first violation.
+     * The violation is also reported to the registered listener.
+     * @param errors Errors found so far, may be null
+     * @param fieldName Field name
+     * @param code Code of the failed constraint
+     * @param message Error message
+     * @return the error map
+     */
+    public static Map<String, List<String>> addViolation(final Map<String, List<String>> errors, final String fieldName,
+            final String code, final String message) {
+        Map<String, List<String>> result = errors == null ? new LinkedHashMap<>() : errors;
+        result.computeIfAbsent(fieldName, key -> new ArrayList<>(2)).add(message);
+        ValidationListeners.get().onViolation(fieldName, code);
+        return result;
+    }
+
+    /**
+     * Returns the collected errors, or an immutable empty map when there are none.
+     * @param errors Errors found, may be null
+     * @return the error map
+     */
+    public static Map<String, List<String>> toErrors(final Map<String, List<String>> errors) {
+        return errors == null ? Map.of() : errors;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Annotations on record components, from which validators are generated at compile time
+ * by the processor or built at runtime by {@link com.joseph.schema.RecordSchemas}
+ */
+package com.joseph.annotation;
@@ -0,0 +1,265 @@
+package com.joseph.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * BoundedCache is a small, thread-safe cache with a maximum size.
+ * When the cache grows past its maximum size, the least recently used entries are evicted
+ * in a batch, down to seven eighths of the maximum size, so that the scan of the entries is
+ * paid once per batch of misses rather than on every miss of a full cache. Recency is tracked
+ * per entry without a shared lock, so eviction is approximate under concurrent access.
+ * Entries can also expire a fixed time after they were loaded, and are then loaded again on
+ * the next lookup. Hits, misses, evictions and expirations are counted.
+ * @param <K> Type of the keys
+ * @param <V> Type of the cached values
+ */
+public final class BoundedCache<K, V> {
+    /**
+     * Divisor of the maximum size giving the number of entries evicted at once, beyond the excess
+     */
+    private static final int EVICTION_BATCH_DIVISOR = 8;
+
+    /**
+     * Maximum number of entries
+     */
+    private final int maximumSize;
+
+    /**
+     * Time after which an entry expires, in nanoseconds, or 0 if entries never expire
+     */
+    private final long expireAfterWriteNanos;
+
+    /**
+     * Cached entries
+     */
+    private final Map<K, Node<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Guards eviction so that only one thread scans the entries at a time
+     */
+    private final Object evictionLock = new Object();
+
+    /**
+     * Number of lookups served from the cache
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of lookups that had to load the value
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Number of evicted entries
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Number of expired entries
+     */
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * A cached value, the time it was loaded and the time it was last read.
+     * @param <V> Type of the cached value
+     */
+    private static final class Node<V> {
+        private final V value;
+        private final long loadTime;
+        private volatile long lastAccess;
+
+        Node(final V value) {
+            this.value = value;
+            this.loadTime = System.nanoTime();
+            this.lastAccess = loadTime;
+        }
+    }
+
+    /**
+     * BoundedCache constructor.
+     * @param maximumSize Maximum number of entries, must be positive
+     */
+    public BoundedCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = 0L;
+    }
+
+    /**
+     * BoundedCache constructor for entries that expire.
+     * @param maximumSize Maximum number of entries, must be positive
+     * @param expireAfterWrite Time after which an entry is loaded again, must be positive
+     */
+    public BoundedCache(final int maximumSize, final Duration expireAfterWrite) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("expireAfterWrite must be positive: " + expireAfterWrite);
+        }
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+    }
+
+    /**
+     * Returns the cached value for the key, loading and caching it on a miss. The loader runs
+     * outside of the map, so it may itself use the cache, and concurrent misses of a key may
+     * load it more than once, in which case the first value stored is kept.
+     * @param key Key to look up
+     * @param loader Computes the value on a miss
+     * @return the cached or loaded value
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        Node<V> node = entries.get(key);
+        if (node != null) {
+            long now = System.nanoTime();
+            if (!isExpired(node, now)) {
+                node.lastAccess = now;
+                hits.increment();
+                return node.value;
+            }
+            if (entries.remove(key, node)) {
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        Node<V> loaded = new Node<>(loader.apply(key));
+        node = entries.putIfAbsent(key, loaded);
+        if (node != null) {
+            return node.value;
+        }
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+        return loaded.value;
+    }
+
+    private boolean isExpired(final Node<V> node, final long now) {
+        return expireAfterWriteNanos != 0L && now - node.loadTime >= expireAfterWriteNanos;
+    }
+
+    /**
+     * Removes the expired entries, then the least recently used entries until the cache is back
+     * to seven eighths of its maximum size. The entries are scanned once to find the access time
+     * below which they are evicted, then once more to remove them; entries read in the meantime
+     * may survive, so a batch is repeated while the cache is still full. Threads arriving while
+     * an eviction runs wait for it and find the cache below its maximum size.
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            while (entries.size() > maximumSize) {
+                evictBatch();
+            }
+        }
+    }
+
+    private void evictBatch() {
+        long now = System.nanoTime();
+        long[] accessTimes = new long[entries.size()];
+        int count = 0;
+        for (Map.Entry<K, Node<V>> entry : entries.entrySet()) {
+            Node<V> node = entry.getValue();
+            if (isExpired(node, now)) {
+                if (entries.remove(entry.getKey(), node)) {
+                    expirations.increment();
+                }
+            } else {
+                if (count == accessTimes.length) {
+                    accessTimes = Arrays.copyOf(accessTimes, count * 2 + 1);
+                }
+                accessTimes[count++] = node.lastAccess;
+            }
+        }
+        int excess = entries.size() - (maximumSize - maximumSize / EVICTION_BATCH_DIVISOR);
+        if (excess <= 0 || count == 0) {
+            return;
+        }
+        Arrays.sort(accessTimes, 0, count);
+        long threshold = accessTimes[Math.min(excess, count) - 1];
+        for (Map.Entry<K, Node<V>> entry : entries.entrySet()) {
+            if (excess == 0) {
+                break;
+            }
+            if (entry.getValue().lastAccess <= threshold && entries.remove(entry.getKey(), entry.getValue())) {
+                evictions.increment();
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the current number of entries.
+     * @return the number of cached entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to load the value.
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted to respect the maximum size.
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the number of entries removed because they expired.
+     * @return the expiration count
+     */
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    /**
+     * Gets the ratio of lookups served from the cache.
+     * @return the hit rate, between 0 and 1, or 1 if there was no lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Removes all entries and resets the counters.
+     */
+    public void clear() {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        expirations.reset();
+    }
+}
@@ -0,0 +1,42 @@
+package com.joseph.cache;
+
+import java.util.regex.Pattern;
+
+/**
+ * PatternCache keeps the compiled form of the regular expressions used by the rules,
+ * so each distinct regex is compiled once per JVM instead of on every evaluation.
+ */
+public final class PatternCache {
+    /**
+     * Maximum number of compiled patterns kept in memory
+     */
+    public static final int MAXIMUM_SIZE = 512;
+
+    /**
+     * Compiled patterns by regex
+     */
+    private static final BoundedCache<String, Pattern> PATTERNS = new BoundedCache<>(MAXIMUM_SIZE);
+
+    /**
+     * PatternCache constructor.
+     */
+    private PatternCache() {
+    }
+
+    /**
+     * Returns the compiled pattern for the regex, compiling it on first use.
+     * @param regex Regex to compile
+     * @return the compiled pattern
+     */
+    public static Pattern compile(final String regex) {
+        return PATTERNS.get(regex, Pattern::compile);
+    }
+
+    /**
+     * Gets the underlying cache, e.g. to read its hit and miss counters.
+     * @return the pattern cache
+     */
+    public static BoundedCache<String, Pattern> getCache() {
+        return PATTERNS;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Cache package
+ */
+package com.joseph.cache;
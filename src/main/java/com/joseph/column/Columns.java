@@ -0,0 +1,39 @@
+package com.joseph.column;
+
+/**
+ * Columns validates whole columns of primitive values, as held by loaders before the
+ * records are assembled, e.g. {@code Columns.of(ages).range(0, 120).validate()}.
+ * The bounds are checked in one tight, branch-free loop per column, without boxing or
+ * lambdas, and the result is a bitmap of the failing rows.
+ */
+public final class Columns {
+    private Columns() {
+    }
+
+    /**
+     * Starts validating a column of ints.
+     * @param values Values of the column, by row
+     * @return IntColumnRule
+     */
+    public static IntColumnRule of(final int[] values) {
+        return new IntColumnRule(values);
+    }
+
+    /**
+     * Starts validating a column of longs.
+     * @param values Values of the column, by row
+     * @return LongColumnRule
+     */
+    public static LongColumnRule of(final long[] values) {
+        return new LongColumnRule(values);
+    }
+
+    /**
+     * Starts validating a column of doubles.
+     * @param values Values of the column, by row
+     * @return DoubleColumnRule
+     */
+    public static DoubleColumnRule of(final double[] values) {
+        return new DoubleColumnRule(values);
+    }
+}
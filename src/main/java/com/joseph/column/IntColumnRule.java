@@ -0,0 +1,85 @@
+package com.joseph.column;
+
+import java.util.BitSet;
+
+/**
+ * IntColumnRule validates a column of ints against a minimum and a maximum.
+ * Bounds accumulate, so {@code min(0).min(5)} keeps the stricter minimum of 5.
+ */
+public final class IntColumnRule {
+    /**
+     * Values of the column, by row
+     */
+    private final int[] values;
+
+    /**
+     * Smallest valid value
+     */
+    private int min = Integer.MIN_VALUE;
+
+    /**
+     * Largest valid value
+     */
+    private int max = Integer.MAX_VALUE;
+
+    /**
+     * IntColumnRule constructor.
+     * @param values Values of the column, by row
+     */
+    public IntColumnRule(final int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Validates that every value is at least the given minimum.
+     * @param minimum Minimum value
+     * @return the current rule
+     */
+    public IntColumnRule min(final int minimum) {
+        min = Math.max(min, minimum);
+        return this;
+    }
+
+    /**
+     * Validates that every value is at most the given maximum.
+     * @param maximum Maximum value
+     * @return the current rule
+     */
+    public IntColumnRule max(final int maximum) {
+        max = Math.min(max, maximum);
+        return this;
+    }
+
+    /**
+     * Validates that every value is between the given bounds, inclusive.
+     * @param minimum Minimum value
+     * @param maximum Maximum value
+     * @return the current rule
+     */
+    public IntColumnRule range(final int minimum, final int maximum) {
+        return min(minimum).max(maximum);
+    }
+
+    /**
+     * Validates the column. Rows are checked 64 at a time, each block filling one word of
+     * the bitmap with non-short-circuit comparisons, a loop the JIT compiles without branches.
+     * @return the bitmap of the failing rows, empty if every row is valid
+     */
+    public BitSet validate() {
+        int rows = values.length;
+        long[] words = new long[(rows + 63) >>> 6];
+        int lo = min;
+        int hi = max;
+        for (int block = 0; block < words.length; block++) {
+            int from = block << 6;
+            int to = Math.min(rows, from + 64);
+            long word = 0L;
+            for (int row = from; row < to; row++) {
+                int value = values[row];
+                word |= (value < lo | value > hi ? 1L : 0L) << (row - from);
+            }
+            words[block] = word;
+        }
+        return BitSet.valueOf(words);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Columnar validation package
+ */
+package com.joseph.column;
@@ -1,25 +1,95 @@
 package com.joseph.exception;
 
+import com.joseph.result.Violations;
+
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * RecordValidationException is an exception that is thrown when a record fails validation.
+ * Its message is only formatted when it is first requested. The stack trace can be
+ * disabled globally, either with {@link #setStackTraceEnabled(boolean)} or by starting
+ * the JVM with {@code -Drecordrules.stackless=true}, which makes throwing it cheap when
+ * most inputs fail validation. An exception thrown by a schema carries the compact
+ * {@link Violations} of the instance, and only builds its map of errors on first request.
  */
 public class RecordValidationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Whether newly created exceptions capture a stack trace
+     */
+    private static volatile boolean stackTraceEnabled = !Boolean.getBoolean("recordrules.stackless");
+
+    /**
+     * Map of field names to list of error messages, built from the violations on first request
+     */
+    private Map<String, List<String>> errors;
+
+    /**
+     * Compact violations, null if the exception was created from a map of errors
+     */
+    private final Violations violations;
+
     /**
-     * Map of field names to list of error messages
+     * Formatted message, created on first request
      */
-    private final Map<String, List<String>> errors;
+    private String message;
 
     /**
      * RecordValidationException constructor.
+     * Captures a stack trace unless stack traces have been disabled globally.
      * @param errors Map of field names to list of error messages
      */
     public RecordValidationException(final Map<String, List<String>> errors) {
-        super("Validation failed: " + formatErrors(errors));
+        this(errors, stackTraceEnabled);
+    }
+
+    /**
+     * RecordValidationException constructor.
+     * @param errors Map of field names to list of error messages
+     * @param writableStackTrace Whether to capture a stack trace
+     */
+    public RecordValidationException(final Map<String, List<String>> errors, final boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
         this.errors = errors;
+        this.violations = null;
+    }
+
+    /**
+     * RecordValidationException constructor.
+     * Captures a stack trace unless stack traces have been disabled globally.
+     * @param violations Compact violations, not empty
+     */
+    public RecordValidationException(final Violations violations) {
+        this(violations, stackTraceEnabled);
+    }
+
+    /**
+     * RecordValidationException constructor.
+     * @param violations Compact violations, not empty
+     * @param writableStackTrace Whether to capture a stack trace
+     */
+    public RecordValidationException(final Violations violations, final boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.violations = violations;
+    }
+
+    /**
+     * Enables or disables stack traces for exceptions created afterwards.
+     * @param enabled false to create stackless exceptions
+     */
+    public static void setStackTraceEnabled(final boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    /**
+     * Whether newly created exceptions capture a stack trace.
+     * @return true unless stack traces have been disabled
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
     }
 
     /**
@@ -28,14 +98,50 @@ public class RecordValidationException extends RuntimeException {
      * @return String
      */
     private static String formatErrors(final Map<String, List<String>> errors) {
-        return errors.entrySet().stream().map(e -> e.getKey() + ": " + e.getValue()).collect(Collectors.joining(", ", "[", "]"));
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<Map.Entry<String, List<String>>> entries = errors.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, List<String>> entry = entries.next();
+            builder.append(entry.getKey()).append(": ").append(entry.getValue());
+            if (entries.hasNext()) {
+                builder.append(", ");
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Gets the message, formatting it from the errors on first call.
+     * @return the validation failure message
+     */
+    @Override
+    public String getMessage() {
+        String formatted = message;
+        if (formatted == null) {
+            formatted = "Validation failed: " + formatErrors(getErrors());
+            message = formatted;
+        }
+        return formatted;
     }
 
     /**
-     * Gets the errors.
+     * Gets the errors, built from the compact violations on first request.
      * @return Map of field names to list of error messages
      */
     public Map<String, List<String>> getErrors() {
-        return errors;
+        Map<String, List<String>> map = errors;
+        if (map == null) {
+            map = violations.getErrors();
+            errors = map;
+        }
+        return map;
+    }
+
+    /**
+     * Gets the compact violations, with the code of each failed constraint.
+     * @return the violations, or null if the exception was created from a map of errors
+     */
+    public Violations getViolations() {
+        return violations;
     }
-}
\ No newline at end of file
+}
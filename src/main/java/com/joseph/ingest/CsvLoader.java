@@ -0,0 +1,513 @@
+package com.joseph.ingest;
+
+import com.joseph.exception.RecordValidationException;
+import com.joseph.result.Violations;
+import com.joseph.rule.child.DoubleRule;
+import com.joseph.rule.child.LongRule;
+import com.joseph.rule.child.StringRule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * CsvLoader loads the rows of a CSV file into records, validating every field before the
+ * record is built. The file is memory-mapped and split into chunks at line boundaries,
+ * which are loaded in parallel. Numeric columns are parsed and checked straight from the
+ * mapped bytes, string columns are decoded once per row, and the mapper only runs for rows
+ * that passed, so rejected rows never pay for a record, nor for the exception of its compact
+ * constructor. Rows whose mapper still throws, such as a record constructor rejecting the row,
+ * are reported like any other rejected row. A loader is immutable and thread-safe.
+ * <pre>{@code
+ * CsvLoader<User> loader = CsvLoader.builder(row -> new User(row.getString(0), row.getInt(1)))
+ *         .header()
+ *         .stringColumn("email", s -> s.required().email())
+ *         .longColumn("age", n -> n.min(18).max(120))
+ *         .build();
+ * CsvReport<User> report = loader.load(Path.of("users.csv"));
+ * }</pre>
+ * Large files can be streamed to a sink instead of being collected in the report, e.g.
+ * {@code loader.load(file, repository::save)}.
+ * @param <T> Type of the records
+ */
+public final class CsvLoader<T> {
+    /**
+     * Default size of the chunks loaded in parallel, in bytes
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+
+    /**
+     * Default maximum number of rejected rows whose errors are kept
+     */
+    public static final int DEFAULT_MAX_ERRORS = 10_000;
+
+    /**
+     * Code of the violation reporting a row whose mapper threw
+     */
+    public static final String MAPPING = "MAPPING";
+
+    /**
+     * Size of the reads that look for the line break ending a chunk
+     */
+    private static final int SCAN_SIZE = 8192;
+
+    /**
+     * Builds a record from a valid row
+     */
+    private final Function<CsvRow, T> mapper;
+
+    /**
+     * Columns of the file, in order
+     */
+    private final Column[] columns;
+
+    /**
+     * Names of the columns, parallel to {@link #columns}
+     */
+    private final String[] names;
+
+    /**
+     * Whether the first line is a header
+     */
+    private final boolean header;
+
+    /**
+     * Field delimiter
+     */
+    private final byte delimiter;
+
+    /**
+     * Nominal size of the chunks, in bytes
+     */
+    private final int chunkSize;
+
+    /**
+     * Maximum number of rejected rows whose errors are kept
+     */
+    private final int maxErrors;
+
+    /**
+     * Validation of one column of a row.
+     */
+    private interface Column {
+        /**
+         * Validates the column of a row.
+         * @param row Row to validate
+         * @param index Index of the column
+         * @param name Name of the column
+         * @param violations Violations of the row so far, or null to create the list on the first violation
+         * @return the list of violations, or null if it was null and the field is valid
+         */
+        Violations validate(CsvRow row, int index, String name, Violations violations);
+    }
+
+    private CsvLoader(final Builder<T> builder) {
+        this.mapper = builder.mapper;
+        this.columns = builder.columns.toArray(new Column[0]);
+        this.names = builder.names.toArray(new String[0]);
+        this.header = builder.header;
+        this.delimiter = builder.delimiter;
+        this.chunkSize = builder.chunkSize;
+        this.maxErrors = builder.maxErrors;
+    }
+
+    /**
+     * Starts building a loader.
+     * @param mapper Builds a record from a valid row, e.g. {@code row -> new User(row.getString(0), row.getInt(1))}
+     * @param <T> Type of the records
+     * @return a new builder
+     */
+    public static <T> Builder<T> builder(final Function<CsvRow, T> mapper) {
+        return new Builder<>(mapper);
+    }
+
+    /**
+     * Loads a file in parallel on the common fork/join pool.
+     * @param file CSV file, UTF-8 encoded
+     * @return the report of the load
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public CsvReport<T> load(final Path file) {
+        return load(file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads a file in parallel on the given pool.
+     * @param file CSV file, UTF-8 encoded
+     * @param pool Pool loading the chunks
+     * @return the report of the load
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public CsvReport<T> load(final Path file, final ForkJoinPool pool) {
+        return load(file, pool, null);
+    }
+
+    /**
+     * Loads a file in parallel on the common fork/join pool, handing every record to a sink
+     * as soon as it is built instead of collecting the records in the report, so the memory
+     * used does not grow with the file.
+     * @param file CSV file, UTF-8 encoded
+     * @param sink Receives the records; it is called concurrently from the pool threads,
+     *             in file order within a chunk but in no particular order across chunks
+     * @return the report of the load, without records
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public CsvReport<T> load(final Path file, final Consumer<? super T> sink) {
+        return load(file, ForkJoinPool.commonPool(), sink);
+    }
+
+    /**
+     * Loads a file in parallel on the given pool, handing every record to a sink.
+     * @param file CSV file, UTF-8 encoded
+     * @param pool Pool loading the chunks
+     * @param sink Receives the records, concurrently; see {@link #load(Path, Consumer)}.
+     *             If null, the records are collected in the report
+     * @return the report of the load
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public CsvReport<T> load(final Path file, final ForkJoinPool pool, final Consumer<? super T> sink) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<Callable<Chunk<T>>> tasks = new ArrayList<>();
+            long size = channel.size();
+            long start = 0L;
+            while (start < size) {
+                long end = lineBoundary(channel, Math.min(size, start + chunkSize), size);
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new IOException("Line longer than 2 GB after offset " + start);
+                }
+                long chunkStart = start;
+                boolean first = start == 0L;
+                tasks.add(() -> load(channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, end - chunkStart), first, sink));
+                start = end;
+            }
+            List<Chunk<T>> chunks = new ArrayList<>(tasks.size());
+            for (Future<Chunk<T>> future : pool.invokeAll(tasks)) {
+                chunks.add(future.get());
+            }
+            return merge(chunks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new UncheckedIOException((IOException) e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + file, e);
+        }
+    }
+
+    /**
+     * Finds the offset past the first line break at or after the given offset.
+     * @param channel File
+     * @param offset Nominal end of a chunk
+     * @param size Size of the file
+     * @return the end of the chunk, at a line boundary or at the end of the file
+     */
+    private static long lineBoundary(final FileChannel channel, final long offset, final long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+        long position = offset;
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Loads the lines of a chunk.
+     * @param buffer Mapped chunk, starting at a line boundary
+     * @param first Whether the chunk starts the file
+     * @param sink Receives the records, or null to collect them in the chunk
+     * @return the outcome of the chunk, with line numbers relative to the chunk
+     */
+    private Chunk<T> load(final MappedByteBuffer buffer, final boolean first, final Consumer<? super T> sink) {
+        Chunk<T> chunk = new Chunk<>();
+        Consumer<? super T> target = sink == null ? chunk.records::add : sink;
+        CsvRow row = new CsvRow(buffer, delimiter);
+        int limit = buffer.limit();
+        int position = 0;
+        while (position < limit) {
+            int end = position;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            int next = end + 1;
+            if (end > position && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            chunk.lineCount++;
+            if (end > position && !(first && header && chunk.lineCount == 1)) {
+                row.reset(position, end);
+                chunk.rowCount++;
+                Violations rowErrors = validate(row);
+                if (rowErrors == null) {
+                    T mapped;
+                    try {
+                        mapped = mapper.apply(row);
+                    } catch (RecordValidationException e) {
+                        rowErrors = violationsOf(e);
+                        mapped = null;
+                    } catch (RuntimeException e) {
+                        rowErrors = new Violations();
+                        rowErrors.add("row", MAPPING, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+                        mapped = null;
+                    }
+                    if (rowErrors == null) {
+                        target.accept(mapped);
+                    } else {
+                        chunk.reject(chunk.lineCount, rowErrors, maxErrors);
+                    }
+                } else {
+                    chunk.reject(chunk.lineCount, rowErrors, maxErrors);
+                }
+            }
+            position = next;
+        }
+        return chunk;
+    }
+
+    /**
+     * Validates every column of a row.
+     * @param row Row to validate
+     * @return the violations of the row, or null if the row is valid
+     */
+    private Violations validate(final CsvRow row) {
+        if (row.getFieldCount() != columns.length) {
+            Violations violations = new Violations();
+            violations.add("columns", "COLUMNS", "expected " + columns.length + " columns but found " + row.getFieldCount());
+            return violations;
+        }
+        Violations violations = null;
+        for (int i = 0; i < columns.length; i++) {
+            violations = columns[i].validate(row, i, names[i], violations);
+        }
+        return violations;
+    }
+
+    private static Violations violationsOf(final RecordValidationException e) {
+        Violations violations = e.getViolations();
+        if (violations == null) {
+            violations = new Violations();
+            violations.addAll(e.getErrors(), Violations.NESTED);
+        }
+        return violations;
+    }
+
+    private CsvReport<T> merge(final List<Chunk<T>> chunks) {
+        List<T> records = new ArrayList<>();
+        long rowCount = 0L;
+        long rejectedCount = 0L;
+        long[] lines = new long[0];
+        List<Violations> errors = new ArrayList<>();
+        long lineBase = 0L;
+        for (Chunk<T> chunk : chunks) {
+            records.addAll(chunk.records);
+            rowCount += chunk.rowCount;
+            rejectedCount += chunk.rejectedCount;
+            int kept = Math.min(chunk.size, maxErrors - errors.size());
+            if (kept > 0) {
+                int offset = lines.length;
+                lines = Arrays.copyOf(lines, offset + kept);
+                for (int i = 0; i < kept; i++) {
+                    lines[offset + i] = lineBase + chunk.lines[i];
+                    errors.add(chunk.errors.get(i));
+                }
+            }
+            lineBase += chunk.lineCount;
+        }
+        return new CsvReport<>(records, rowCount, rejectedCount, lines, errors.toArray(new Violations[0]));
+    }
+
+    /**
+     * Outcome of a chunk, with line numbers relative to the chunk.
+     * @param <T> Type of the records
+     */
+    private static final class Chunk<T> {
+        private final List<T> records = new ArrayList<>();
+        private final List<Violations> errors = new ArrayList<>();
+        private long[] lines = new long[8];
+        private int size;
+        private long lineCount;
+        private long rowCount;
+        private long rejectedCount;
+
+        void reject(final long line, final Violations rowErrors, final int maxErrors) {
+            rejectedCount++;
+            if (size < maxErrors) {
+                if (size == lines.length) {
+                    lines = Arrays.copyOf(lines, size * 2);
+                }
+                lines[size++] = line;
+                errors.add(rowErrors);
+            }
+        }
+    }
+
+    /**
+     * Builder collects the columns of a loader. A builder is not thread-safe.
+     * @param <T> Type of the records
+     */
+    public static final class Builder<T> {
+        private final Function<CsvRow, T> mapper;
+        private final List<Column> columns = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private boolean header;
+        private byte delimiter = ',';
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int maxErrors = DEFAULT_MAX_ERRORS;
+
+        private Builder(final Function<CsvRow, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        /**
+         * Skips the first line of the file.
+         * @return the current builder
+         */
+        public Builder<T> header() {
+            this.header = true;
+            return this;
+        }
+
+        /**
+         * Sets the field delimiter, a comma by default.
+         * @param separator ASCII delimiter
+         * @return the current builder
+         */
+        public Builder<T> delimiter(final char separator) {
+            if (separator > 127 || separator == '"' || separator == '\n' || separator == '\r') {
+                throw new IllegalArgumentException("Unsupported delimiter: " + separator);
+            }
+            this.delimiter = (byte) separator;
+            return this;
+        }
+
+        /**
+         * Sets the nominal size of the chunks loaded in parallel.
+         * @param bytes Chunk size in bytes, must be positive
+         * @return the current builder
+         */
+        public Builder<T> chunkSize(final int bytes) {
+            if (bytes < 1) {
+                throw new IllegalArgumentException("chunkSize must be positive: " + bytes);
+            }
+            this.chunkSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of rejected rows whose errors are kept.
+         * @param max Maximum number of rejected rows, not negative
+         * @return the current builder
+         */
+        public Builder<T> maxErrors(final int max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("maxErrors must not be negative: " + max);
+            }
+            this.maxErrors = max;
+            return this;
+        }
+
+        /**
+         * Adds a string column. An empty unquoted field is null.
+         * @param name Column name, used in the errors
+         * @param rules Configures the rule of the column
+         * @return the current builder
+         */
+        public Builder<T> stringColumn(final String name, final Consumer<StringRule> rules) {
+            StringRule rule = new StringRule(null, name);
+            rules.accept(rule);
+            return add(name, (row, index, column, violations) -> rule.evaluate(row.getString(index), Integer.MAX_VALUE, column, violations));
+        }
+
+        /**
+         * Adds an integer column, parsed from the bytes without decoding a string.
+         * @param name Column name, used in the errors
+         * @param rules Configures the rule of the column
+         * @return the current builder
+         */
+        public Builder<T> longColumn(final String name, final Consumer<LongRule> rules) {
+            LongRule rule = new LongRule(0L, name);
+            rules.accept(rule);
+            return add(name, (row, index, column, violations) -> row.tryParseLong(index)
+                    ? rule.evaluate(row.getParsedLong(), Integer.MAX_VALUE, column, violations)
+                    : typeViolation(violations, column, "must be an integer"));
+        }
+
+        /**
+         * Adds a floating point column.
+         * @param name Column name, used in the errors
+         * @param rules Configures the rule of the column
+         * @return the current builder
+         */
+        public Builder<T> doubleColumn(final String name, final Consumer<DoubleRule> rules) {
+            DoubleRule rule = new DoubleRule(0.0, name);
+            rules.accept(rule);
+            return add(name, (row, index, column, violations) -> {
+                double value;
+                try {
+                    value = row.getDouble(index);
+                } catch (NumberFormatException e) {
+                    return typeViolation(violations, column, "must be a number");
+                }
+                return rule.evaluate(value, Integer.MAX_VALUE, column, violations);
+            });
+        }
+
+        /**
+         * Adds a column that is not validated.
+         * @param name Column name
+         * @return the current builder
+         */
+        public Builder<T> column(final String name) {
+            return add(name, (row, index, column, violations) -> violations);
+        }
+
+        private static Violations typeViolation(final Violations violations, final String column, final String message) {
+            Violations result = violations == null ? new Violations() : violations;
+            result.add(column, "TYPE", message);
+            return result;
+        }
+
+        private Builder<T> add(final String name, final Column column) {
+            names.add(name);
+            columns.add(column);
+            return this;
+        }
+
+        /**
+         * Builds the loader.
+         * @return the loader
+         */
+        public CsvLoader<T> build() {
+            return new CsvLoader<>(this);
+        }
+    }
+}
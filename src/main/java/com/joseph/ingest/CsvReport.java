@@ -0,0 +1,125 @@
+package com.joseph.ingest;
+
+import com.joseph.result.Violations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CsvReport is the outcome of loading a CSV file: the records built from the valid rows,
+ * in file order, and the errors of the rejected rows by line number. At most the configured
+ * number of rejected rows keep their errors; rejected rows beyond that cap are only counted.
+ * @param <T> Type of the records
+ */
+public final class CsvReport<T> {
+    /**
+     * Records built from the valid rows, in file order
+     */
+    private final List<T> records;
+
+    /**
+     * Number of data rows, header and blank lines excluded
+     */
+    private final long rowCount;
+
+    /**
+     * Number of rejected rows, including the ones whose errors were not kept
+     */
+    private final long rejectedCount;
+
+    /**
+     * Line numbers of the kept rejected rows, ascending
+     */
+    private final long[] lines;
+
+    /**
+     * Errors of the kept rejected rows, parallel to {@link #lines}
+     */
+    private final Violations[] errors;
+
+    /**
+     * CsvReport constructor.
+     * @param records Records built from the valid rows
+     * @param rowCount Number of data rows
+     * @param rejectedCount Number of rejected rows
+     * @param lines Line numbers of the kept rejected rows, ascending
+     * @param errors Errors of the kept rejected rows
+     */
+    CsvReport(final List<T> records, final long rowCount, final long rejectedCount, final long[] lines,
+            final Violations[] errors) {
+        this.records = records;
+        this.rowCount = rowCount;
+        this.rejectedCount = rejectedCount;
+        this.lines = lines;
+        this.errors = errors;
+    }
+
+    /**
+     * Gets the records built from the valid rows.
+     * @return the records, in file order, empty if they were handed to a sink
+     */
+    public List<T> getRecords() {
+        return records;
+    }
+
+    /**
+     * Whether every row was loaded.
+     * @return true if no row was rejected
+     */
+    public boolean isValid() {
+        return rejectedCount == 0;
+    }
+
+    /**
+     * Gets the number of data rows, header and blank lines excluded.
+     * @return the row count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of rejected rows.
+     * @return the rejected row count
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Whether some rejected rows were only counted because the error cap was reached.
+     * @return true if errors were dropped
+     */
+    public boolean isTruncated() {
+        return rejectedCount > lines.length;
+    }
+
+    /**
+     * Gets the line numbers of the rejected rows whose errors were kept.
+     * @return the line numbers, starting at 1, ascending
+     */
+    public long[] getRejectedLines() {
+        return lines.clone();
+    }
+
+    /**
+     * Gets the errors of a rejected row.
+     * @param line Line number, starting at 1
+     * @return Map of column names to list of error messages, empty if the row was loaded or its errors were not kept
+     */
+    public Map<String, List<String>> getErrors(final long line) {
+        return getViolations(line).getErrors();
+    }
+
+    /**
+     * Gets the compact violations of a line, with the code of each failed constraint;
+     * fields that could not be parsed have the {@code TYPE} code.
+     * @param line Line number, starting at 1
+     * @return the violations, empty if the line was loaded or was not kept
+     */
+    public Violations getViolations(final long line) {
+        int index = Arrays.binarySearch(lines, line);
+        return index < 0 ? Violations.none() : errors[index];
+    }
+}
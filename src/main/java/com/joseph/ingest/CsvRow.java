@@ -0,0 +1,233 @@
+package com.joseph.ingest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CsvRow is a view of one line of a memory-mapped CSV file. The fields are located by
+ * byte offsets and only decoded when requested: integers are parsed straight from the
+ * bytes, and strings are decoded once per line, then shared by the validation and the
+ * record mapper. A row is reused for every line of a chunk, so it must not be kept.
+ */
+public final class CsvRow {
+    /**
+     * Mapped bytes of the chunk
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Field delimiter
+     */
+    private final byte delimiter;
+
+    /**
+     * Offsets of the first byte of each field, past the opening quote of quoted fields
+     */
+    private int[] starts = new int[16];
+
+    /**
+     * Offsets past the last byte of each field, before the closing quote of quoted fields
+     */
+    private int[] ends = new int[16];
+
+    /**
+     * Whether each field is quoted
+     */
+    private boolean[] quoted = new boolean[16];
+
+    /**
+     * Decoded strings of the line, by field
+     */
+    private String[] strings = new String[16];
+
+    /**
+     * Number of fields of the line
+     */
+    private int count;
+
+    /**
+     * Value of the last successful {@link #tryParseLong(int)}
+     */
+    private long parsedLong;
+
+    /**
+     * CsvRow constructor.
+     * @param buffer Mapped bytes of the chunk
+     * @param delimiter Field delimiter
+     */
+    CsvRow(final ByteBuffer buffer, final byte delimiter) {
+        this.buffer = buffer;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Splits a line into fields. Quoted fields may contain delimiters and doubled quotes,
+     * but not line breaks.
+     * @param from Offset of the first byte of the line
+     * @param to Offset past the last byte of the line, line terminator excluded
+     */
+    void reset(final int from, final int to) {
+        Arrays.fill(strings, 0, count, null);
+        count = 0;
+        int position = from;
+        while (true) {
+            if (count == starts.length) {
+                grow();
+            }
+            if (position < to && buffer.get(position) == '"') {
+                int end = position + 1;
+                while (end < to && !(buffer.get(end) == '"' && (end + 1 >= to || buffer.get(end + 1) != '"'))) {
+                    end += buffer.get(end) == '"' ? 2 : 1;
+                }
+                starts[count] = position + 1;
+                ends[count] = Math.min(end, to);
+                quoted[count++] = true;
+                position = end + 1;
+                while (position < to && buffer.get(position) != delimiter) {
+                    position++;
+                }
+            } else {
+                int end = position;
+                while (end < to && buffer.get(end) != delimiter) {
+                    end++;
+                }
+                starts[count] = position;
+                ends[count] = end;
+                quoted[count++] = false;
+                position = end;
+            }
+            if (position >= to) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void grow() {
+        int capacity = starts.length * 2;
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        quoted = Arrays.copyOf(quoted, capacity);
+        strings = Arrays.copyOf(strings, capacity);
+    }
+
+    /**
+     * Gets the number of fields of the row.
+     * @return the field count
+     */
+    public int getFieldCount() {
+        return count;
+    }
+
+    /**
+     * Whether a field is missing or empty and unquoted.
+     * @param index Index of the field
+     * @return true if the field has no value
+     */
+    public boolean isNull(final int index) {
+        return index >= count || !quoted[index] && starts[index] == ends[index];
+    }
+
+    /**
+     * Gets a field as a string, decoded from UTF-8 on first request.
+     * @param index Index of the field
+     * @return the string, or null if the field is missing or empty and unquoted
+     */
+    public String getString(final int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        String value = strings[index];
+        if (value == null) {
+            byte[] bytes = new byte[ends[index] - starts[index]];
+            buffer.get(starts[index], bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            if (quoted[index]) {
+                value = value.replace("\"\"", "\"");
+            }
+            strings[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Gets a field as a long, parsed from the bytes.
+     * @param index Index of the field
+     * @return the value
+     * @throws NumberFormatException if the field is not a decimal integer in the long range
+     */
+    public long getLong(final int index) {
+        if (!tryParseLong(index)) {
+            throw new NumberFormatException("Not an integer in field " + index);
+        }
+        return parsedLong;
+    }
+
+    /**
+     * Gets a field as an int, parsed from the bytes.
+     * @param index Index of the field
+     * @return the value
+     * @throws NumberFormatException if the field is not a decimal integer in the int range
+     */
+    public int getInt(final int index) {
+        long value = getLong(index);
+        if (value != (int) value) {
+            throw new NumberFormatException("Not an int in field " + index);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Gets a field as a double.
+     * @param index Index of the field
+     * @return the value
+     * @throws NumberFormatException if the field is not a number
+     */
+    public double getDouble(final int index) {
+        if (isNull(index)) {
+            throw new NumberFormatException("Not a number in field " + index);
+        }
+        return Double.parseDouble(getString(index).trim());
+    }
+
+    /**
+     * Parses a field as a decimal integer without allocating or throwing.
+     * @param index Index of the field
+     * @return true if the field is an integer, then available through {@link #getParsedLong()}
+     */
+    boolean tryParseLong(final int index) {
+        if (isNull(index)) {
+            return false;
+        }
+        int position = starts[index];
+        int end = ends[index];
+        boolean negative = buffer.get(position) == '-';
+        if (negative || buffer.get(position) == '+') {
+            position++;
+        }
+        if (position == end) {
+            return false;
+        }
+        // Accumulates negatively, since Long.MIN_VALUE has no positive counterpart
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0L;
+        for (; position < end; position++) {
+            int digit = buffer.get(position) - '0';
+            if (digit < 0 || digit > 9 || value < limit / 10) {
+                return false;
+            }
+            value *= 10;
+            if (value < limit + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        parsedLong = negative ? value : -value;
+        return true;
+    }
+
+    long getParsedLong() {
+        return parsedLong;
+    }
+}
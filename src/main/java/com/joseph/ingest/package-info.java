@@ -0,0 +1,4 @@
+/**
+ * Bulk ingest package
+ */
+package com.joseph.ingest;
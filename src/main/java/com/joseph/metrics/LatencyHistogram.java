@@ -0,0 +1,117 @@
+package com.joseph.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram records durations into power-of-two buckets without locking.
+ * Bucket {@code i} counts durations in {@code [2^i, 2^(i+1))} nanoseconds, bucket 0 also
+ * counts zero. Recording is a leading-zero count and a striped counter increment.
+ */
+public final class LatencyHistogram {
+    /**
+     * Number of buckets, one per bit of a long
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * Counts per bucket
+     */
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    /**
+     * Sum of all recorded durations
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * LatencyHistogram constructor.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos Duration in nanoseconds, negative values are recorded as zero
+     */
+    public void record(final long nanos) {
+        long value = Math.max(0L, nanos);
+        counts[bucketOf(value)].increment();
+        total.add(value);
+    }
+
+    /**
+     * Gets the bucket of a duration.
+     * @param nanos Duration in nanoseconds, not negative
+     * @return the bucket index
+     */
+    static int bucketOf(final long nanos) {
+        return nanos == 0L ? 0 : BUCKETS - 1 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     * @return the count
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : counts) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the sum of the recorded durations.
+     * @return the total in nanoseconds
+     */
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * Gets a snapshot of the bucket counts.
+     * @return the count of each bucket
+     */
+    public long[] getBuckets() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Estimates a percentile as the upper bound of the bucket that contains it.
+     * @param percentile Percentile between 0 and 100
+     * @return the estimated duration in nanoseconds, 0 if nothing was recorded
+     */
+    public long getPercentile(final double percentile) {
+        long[] snapshot = getBuckets();
+        long count = 0;
+        for (long bucket : snapshot) {
+            count += bucket;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank && seen > 0) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Clears every bucket.
+     */
+    public void reset() {
+        for (LongAdder bucket : counts) {
+            bucket.reset();
+        }
+        total.reset();
+    }
+}
@@ -0,0 +1,127 @@
+package com.joseph.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsListener is the built-in, lock-free listener. It counts failures per field and
+ * per constraint with striped counters, and records validation latencies in a histogram.
+ * The getters return snapshots meant to be scraped by an exporter.
+ */
+public final class MetricsListener implements ValidationListener {
+    /**
+     * Failures per field, then per constraint code
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> failures = new ConcurrentHashMap<>();
+
+    /**
+     * Number of validations that passed
+     */
+    private final LongAdder valid = new LongAdder();
+
+    /**
+     * Number of validations that failed
+     */
+    private final LongAdder invalid = new LongAdder();
+
+    /**
+     * Validation latencies
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Counts the failed constraint.
+     * @param fieldName Name of the validated field
+     * @param constraintCode Code of the failed constraint
+     */
+    @Override
+    public void onViolation(final String fieldName, final String constraintCode) {
+        ConcurrentMap<String, LongAdder> byConstraint = failures.get(fieldName);
+        if (byConstraint == null) {
+            byConstraint = failures.computeIfAbsent(fieldName, k -> new ConcurrentHashMap<>());
+        }
+        LongAdder counter = byConstraint.get(constraintCode);
+        if (counter == null) {
+            counter = byConstraint.computeIfAbsent(constraintCode, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Counts the validation and records its latency.
+     * @param elapsedNanos Time spent evaluating the rules, in nanoseconds
+     * @param isValid Whether every rule passed
+     */
+    @Override
+    public void onValidation(final long elapsedNanos, final boolean isValid) {
+        (isValid ? valid : invalid).increment();
+        latency.record(elapsedNanos);
+    }
+
+    /**
+     * Gets the number of failures per field.
+     * @return a snapshot of the field failure counts
+     */
+    public Map<String, Long> getFieldFailures() {
+        Map<String, Long> snapshot = new HashMap<>();
+        failures.forEach((field, byConstraint) -> {
+            long sum = 0;
+            for (LongAdder counter : byConstraint.values()) {
+                sum += counter.sum();
+            }
+            snapshot.put(field, sum);
+        });
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of failures per field and constraint code.
+     * @return a snapshot of the failure counts, by field then by constraint code
+     */
+    public Map<String, Map<String, Long>> getConstraintFailures() {
+        Map<String, Map<String, Long>> snapshot = new HashMap<>();
+        failures.forEach((field, byConstraint) -> {
+            Map<String, Long> counts = new HashMap<>();
+            byConstraint.forEach((code, counter) -> counts.put(code, counter.sum()));
+            snapshot.put(field, counts);
+        });
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of validations that passed.
+     * @return the valid count
+     */
+    public long getValidCount() {
+        return valid.sum();
+    }
+
+    /**
+     * Gets the number of validations that failed.
+     * @return the invalid count
+     */
+    public long getInvalidCount() {
+        return invalid.sum();
+    }
+
+    /**
+     * Gets the latency histogram.
+     * @return the histogram of validation latencies
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Clears every counter and the histogram.
+     */
+    public void reset() {
+        failures.clear();
+        valid.reset();
+        invalid.reset();
+        latency.reset();
+    }
+}
@@ -0,0 +1,30 @@
+package com.joseph.metrics;
+
+/**
+ * ValidationListener is notified of validation outcomes, e.g. to export metrics.
+ * Register an implementation through {@link ValidationListeners#register(ValidationListener)}.
+ * Implementations are called from the validating threads and must be thread-safe and cheap.
+ */
+public interface ValidationListener {
+    /**
+     * Listener that ignores every notification, used while no listener is registered.
+     */
+    ValidationListener NONE = new ValidationListener() {
+    };
+
+    /**
+     * Called for every failed constraint.
+     * @param fieldName Name of the validated field
+     * @param constraintCode Code of the failed constraint, such as {@code MIN} or {@code EMAIL}
+     */
+    default void onViolation(final String fieldName, final String constraintCode) {
+    }
+
+    /**
+     * Called once per validated record or rule list.
+     * @param elapsedNanos Time spent evaluating the rules, in nanoseconds
+     * @param valid Whether every rule passed
+     */
+    default void onValidation(final long elapsedNanos, final boolean valid) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.joseph.metrics;
+
+/**
+ * ValidationListeners holds the listener notified by the validation entry points.
+ * While no listener is registered, the entry points skip the notifications and the
+ * clock reads, so the cost of the feature is a single field read.
+ */
+public final class ValidationListeners {
+    /**
+     * Registered listener
+     */
+    private static volatile ValidationListener listener = ValidationListener.NONE;
+
+    /**
+     * ValidationListeners constructor.
+     */
+    private ValidationListeners() {
+    }
+
+    /**
+     * Registers the listener, replacing the previous one.
+     * @param validationListener Listener to notify, or null to disable notifications
+     */
+    public static void register(final ValidationListener validationListener) {
+        listener = validationListener == null ? ValidationListener.NONE : validationListener;
+    }
+
+    /**
+     * Gets the registered listener.
+     * @return the listener, {@link ValidationListener#NONE} if none is registered
+     */
+    public static ValidationListener get() {
+        return listener;
+    }
+
+    /**
+     * Whether a listener is registered.
+     * @return true if notifications are enabled
+     */
+    public static boolean isEnabled() {
+        return listener != ValidationListener.NONE;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Validation metrics package
+ */
+package com.joseph.metrics;
@@ -0,0 +1,440 @@
+package com.joseph.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * ValidatorProcessor generates a validator class for every record whose components carry
+ * the annotations of {@code com.joseph.annotation}. The generated class is named after the
+ * record with a {@code Validator} suffix, lives in the same package and contains straight-line
+ * checks with the same semantics and messages as the fluent rules, so that a compact
+ * constructor can call {@code UserValidator.check(email, age)} without building any rule.
+ */
+@SupportedAnnotationTypes("com.joseph.annotation.*")
+public final class ValidatorProcessor extends AbstractProcessor {
+    private static final String ANNOTATION_PACKAGE = "com.joseph.annotation.";
+
+    /**
+     * Types of the components accepted by {@code @Future} and {@code @Past}
+     */
+    private static final List<String> TEMPORAL_TYPES = List.of("java.time.LocalDate", "java.time.LocalDateTime", "java.time.Instant",
+            "java.time.OffsetDateTime");
+
+    /**
+     * Name of the local variable holding the errors, which cannot clash with a component name
+     */
+    private static final String ERRORS = "$errors";
+
+    /**
+     * Declaration of the local variable holding the time of the validation, read once before the checks
+     */
+    private static final String NOW = "        final com.joseph.time.ValidationTime $now = com.joseph.time.ValidationClock.now();\n";
+
+    /**
+     * Gets the latest supported source version, since only records are inspected.
+     * @return the latest source version
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Generates the validators of the records whose components are annotated in this round.
+     * @param annotations Annotation types requested to be processed
+     * @param roundEnv Environment of the current round
+     * @return true, the annotations are claimed by this processor
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        Set<TypeElement> records = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.RECORD_COMPONENT) {
+                    records.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement record : records) {
+            generate(record);
+        }
+        return true;
+    }
+
+    /**
+     * Generates the validator of a record, or reports why it cannot be generated.
+     * @param record Record to generate the validator for
+     */
+    private void generate(final TypeElement record) {
+        for (Element type = record; type.getKind() != ElementKind.PACKAGE; type = type.getEnclosingElement()) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                error("validated records must not be private", type, null);
+                return;
+            }
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        String simpleName = validatorName(record);
+        StringBuilder fields = new StringBuilder();
+        StringBuilder checks = new StringBuilder();
+        boolean valid = true;
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            for (AnnotationMirror annotation : component.getAnnotationMirrors()) {
+                valid &= appendCheck(component, annotation, fields, checks);
+            }
+        }
+        if (!valid) {
+            return;
+        }
+        String source = validatorSource(record, packageName, simpleName, fields, checks);
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, record).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            error("could not write " + qualifiedName + ": " + e.getMessage(), record, null);
+        }
+    }
+
+    /**
+     * Gets the name of the validator, which is the record name prefixed by the names of
+     * its enclosing types for nested records.
+     * @param record Record
+     * @return the simple name of the validator
+     */
+    private static String validatorName(final TypeElement record) {
+        StringBuilder name = new StringBuilder(record.getSimpleName()).append("Validator");
+        for (Element type = record.getEnclosingElement(); type.getKind() != ElementKind.PACKAGE; type = type.getEnclosingElement()) {
+            name.insert(0, type.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    /**
+     * Appends the check of one annotation on a component.
+     * @param component Annotated component
+     * @param annotation Annotation on the component
+     * @param fields Static fields of the validator
+     * @param checks Body of the validation method
+     * @return false if the annotation is misused, in which case an error has been reported
+     */
+    private boolean appendCheck(final RecordComponentElement component, final AnnotationMirror annotation,
+            final StringBuilder fields, final StringBuilder checks) {
+        String annotationName = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+        if (!annotationName.startsWith(ANNOTATION_PACKAGE)) {
+            return true;
+        }
+        String kind = annotationName.substring(ANNOTATION_PACKAGE.length());
+        String name = component.getSimpleName().toString();
+        boolean primitive = component.asType().getKind().isPrimitive();
+        String custom = (String) value(annotation, "message");
+        switch (kind) {
+            case "Required":
+                if (!primitive) {
+                    appendViolation(checks, name + " == null", name, "REQUIRED", custom, "must not be null");
+                }
+                return true;
+            case "NotBlank":
+                return requireString(component, annotation)
+                        && appendViolation(checks, name + " != null && " + name + ".isBlank()", name, "NOT_BLANK", custom, "must not be blank");
+            case "Email":
+                return requireString(component, annotation)
+                        && appendViolation(checks, name + " != null && !com.joseph.rule.child.StringRule.isEmail(" + name + ")",
+                                name, "EMAIL", custom, "must be a valid email");
+            case "Matches":
+                return requireString(component, annotation) && appendMatches(component, annotation, fields, checks, custom);
+            case "Length":
+                return requireString(component, annotation) && appendLength(component, annotation, checks, custom);
+            case "Min":
+            case "Max":
+                return appendBound(component, annotation, kind.equals("Max"), checks, custom);
+            case "Future":
+                return requireTemporal(component, annotation) && declareNow(checks)
+                        && appendViolation(checks, name + " != null && $now.compare(" + name + ") <= 0",
+                                name, "FUTURE", custom, isType(component, "java.time.LocalDate") ? "must be a future date" : "must be in the future");
+            case "Past":
+                return requireTemporal(component, annotation) && declareNow(checks)
+                        && appendViolation(checks, name + " != null && $now.compare(" + name + ") >= 0",
+                                name, "PAST", custom, isType(component, "java.time.LocalDate") ? "must be a past date" : "must be in the past");
+            default:
+                return true;
+        }
+    }
+
+    private boolean appendMatches(final RecordComponentElement component, final AnnotationMirror annotation,
+            final StringBuilder fields, final StringBuilder checks, final String custom) {
+        String regex = (String) value(annotation, "value");
+        try {
+            Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            error("invalid regex: " + e.getDescription(), component, annotation);
+            return false;
+        }
+        String name = component.getSimpleName().toString();
+        String field = "PATTERN_" + name;
+        fields.append("    private static final java.util.regex.Pattern ").append(field)
+                .append(" = com.joseph.cache.PatternCache.compile(").append(literal(regex)).append(");\n");
+        return appendViolation(checks, name + " != null && !" + field + ".matcher(" + name + ").matches()",
+                name, "MATCHES", custom, "must match pattern " + regex);
+    }
+
+    private boolean appendLength(final RecordComponentElement component, final AnnotationMirror annotation,
+            final StringBuilder checks, final String custom) {
+        int min = (Integer) value(annotation, "min");
+        int max = (Integer) value(annotation, "max");
+        if (min > max) {
+            error("min must not be greater than max", component, annotation);
+            return false;
+        }
+        String name = component.getSimpleName().toString();
+        return appendViolation(checks, name + " != null && (" + name + ".length() < " + min + " || " + name + ".length() > " + max + ")",
+                name, "LENGTH", custom, "must be between " + min + " and " + max + " characters");
+    }
+
+    private boolean appendBound(final RecordComponentElement component, final AnnotationMirror annotation, final boolean upper,
+            final StringBuilder checks, final String custom) {
+        long bound = (Long) value(annotation, "value");
+        String name = component.getSimpleName().toString();
+        TypeMirror type = component.asType();
+        String operator = upper ? " > " : " < ";
+        String condition;
+        // DoubleRule prints its bounds as doubles
+        String boundText = type.getKind() == TypeKind.DOUBLE || type.getKind() == TypeKind.FLOAT ? String.valueOf((double) bound) : String.valueOf(bound);
+        if (isNumericPrimitive(type)) {
+            condition = name + operator + bound + "L";
+        } else if (isAssignable(type, "java.lang.Number")) {
+            condition = name + " != null && " + name + ".doubleValue()" + operator + bound + "L";
+        } else {
+            error("@" + (upper ? "Max" : "Min") + " requires a numeric component", component, annotation);
+            return false;
+        }
+        return appendViolation(checks, condition, name, upper ? "MAX" : "MIN", custom, (upper ? "must be at most " : "must be at least ") + boundText);
+    }
+
+    /**
+     * Declares the time of the validation before the first temporal check, so that every
+     * {@code @Future} and {@code @Past} check of a call compares with the same "now".
+     * @param checks Body of the validation method
+     * @return true
+     */
+    private static boolean declareNow(final StringBuilder checks) {
+        if (checks.indexOf(NOW) < 0) {
+            checks.insert(0, NOW);
+        }
+        return true;
+    }
+
+    /**
+     * Appends a check that adds a violation when the condition holds.
+     * @param checks Body of the validation method
+     * @param condition Java expression that is true when the component is invalid
+     * @param name Component name
+     * @param code Constraint code
+     * @param custom Custom message, empty for the default message
+     * @param message Default message
+     * @return true
+     */
+    private static boolean appendViolation(final StringBuilder checks, final String condition, final String name, final String code,
+            final String custom, final String message) {
+        checks.append("        if (").append(condition).append(") {\n")
+                .append("            ").append(ERRORS).append(" = ValidatorSupport.addViolation(").append(ERRORS).append(", ")
+                .append(literal(name)).append(", ").append(literal(code)).append(", ")
+                .append(literal(custom.isEmpty() ? message : custom)).append(");\n")
+                .append("        }\n");
+        return true;
+    }
+
+    private boolean requireString(final RecordComponentElement component, final AnnotationMirror annotation) {
+        return requireType(component, annotation, "java.lang.String");
+    }
+
+    private boolean requireTemporal(final RecordComponentElement component, final AnnotationMirror annotation) {
+        for (String typeName : TEMPORAL_TYPES) {
+            if (isType(component, typeName)) {
+                return true;
+            }
+        }
+        error("@" + annotation.getAnnotationType().asElement().getSimpleName() + " requires a " + String.join(", ", TEMPORAL_TYPES)
+                + " component", component, annotation);
+        return false;
+    }
+
+    private boolean requireType(final RecordComponentElement component, final AnnotationMirror annotation, final String typeName) {
+        if (isType(component, typeName)) {
+            return true;
+        }
+        error("@" + annotation.getAnnotationType().asElement().getSimpleName() + " requires a " + typeName + " component", component, annotation);
+        return false;
+    }
+
+    private boolean isType(final RecordComponentElement component, final String typeName) {
+        TypeMirror expected = processingEnv.getElementUtils().getTypeElement(typeName).asType();
+        return processingEnv.getTypeUtils().isSameType(component.asType(), expected);
+    }
+
+    private boolean isAssignable(final TypeMirror type, final String typeName) {
+        TypeMirror target = processingEnv.getElementUtils().getTypeElement(typeName).asType();
+        return processingEnv.getTypeUtils().isAssignable(type, target);
+    }
+
+    private static boolean isNumericPrimitive(final TypeMirror type) {
+        TypeKind kind = type.getKind();
+        return kind.isPrimitive() && kind != TypeKind.BOOLEAN && kind != TypeKind.CHAR;
+    }
+
+    private Object value(final AnnotationMirror annotation, final String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException("No attribute " + name + " on " + annotation);
+    }
+
+    /**
+     * Writes the source of the validator.
+     * @param record Validated record
+     * @param packageName Package of the record
+     * @param simpleName Name of the validator
+     * @param fields Static fields
+     * @param checks Body of the validation method
+     * @return the Java source
+     */
+    private static String validatorSource(final TypeElement record, final String packageName, final String simpleName,
+            final CharSequence fields, final CharSequence checks) {
+        String typeParameters = typeParameters(record.getTypeParameters());
+        String recordType = record.getQualifiedName() + typeArguments(record.getTypeParameters());
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder arguments = new StringBuilder();
+        StringBuilder accessors = new StringBuilder();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            String separator = parameters.length() == 0 ? "" : ", ";
+            parameters.append(separator).append("final ").append(component.asType()).append(' ').append(component.getSimpleName());
+            arguments.append(separator).append(component.getSimpleName());
+            accessors.append(separator).append("value.").append(component.getSimpleName()).append("()");
+        }
+        String errorsType = "java.util.Map<String, java.util.List<String>>";
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.joseph.annotation.ValidatorSupport;\n\n")
+                .append("/**\n * Validator of {@link ").append(record.getQualifiedName()).append("}, generated from the annotations on its components.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" {\n")
+                .append(fields).append(fields.length() == 0 ? "" : "\n")
+                .append("    private ").append(simpleName).append("() {\n    }\n\n")
+                .append("    /**\n     * Gets the violations of the components.\n")
+                .append("     * @return Map of field names to list of error messages, empty if the components are valid\n     */\n")
+                .append("    public static ").append(typeParameters).append(errorsType).append(" getViolations(").append(parameters).append(") {\n")
+                .append("        ").append(errorsType).append(' ').append(ERRORS).append(" = null;\n")
+                .append(checks)
+                .append("        return ValidatorSupport.toErrors(").append(ERRORS).append(");\n    }\n\n")
+                .append("    /**\n     * Validates the components without throwing.\n     * @return the validation result\n     */\n")
+                .append("    public static ").append(typeParameters).append("com.joseph.result.ValidationResult validate(").append(parameters).append(") {\n")
+                .append("        return com.joseph.result.ValidationResult.of(getViolations(").append(arguments).append("));\n    }\n\n")
+                .append("    /**\n     * Validates the components, to be called from the compact constructor.\n")
+                .append("     * @throws com.joseph.exception.RecordValidationException if a component is invalid\n     */\n")
+                .append("    public static ").append(typeParameters).append("void check(").append(parameters).append(") {\n")
+                .append("        ").append(errorsType).append(' ').append(ERRORS).append(" = getViolations(").append(arguments).append(");\n")
+                .append("        if (!").append(ERRORS).append(".isEmpty()) {\n")
+                .append("            throw new com.joseph.exception.RecordValidationException(").append(ERRORS).append(");\n")
+                .append("        }\n    }\n\n")
+                .append("    /**\n     * Validates an existing record without throwing.\n     * @return the validation result\n     */\n")
+                .append("    public static ").append(typeParameters).append("com.joseph.result.ValidationResult validate(final ")
+                .append(recordType).append(" value) {\n")
+                .append("        return validate(").append(accessors).append(");\n    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static String typeParameters(final List<? extends TypeParameterElement> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder("<");
+        for (TypeParameterElement parameter : parameters) {
+            builder.append(builder.length() == 1 ? "" : ", ").append(parameter.getSimpleName());
+            String separator = " extends ";
+            for (TypeMirror bound : parameter.getBounds()) {
+                if (!bound.toString().equals("java.lang.Object")) {
+                    builder.append(separator).append(bound);
+                    separator = " & ";
+                }
+            }
+        }
+        return builder.append("> ").toString();
+    }
+
+    private static String typeArguments(final List<? extends TypeParameterElement> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder("<");
+        for (TypeParameterElement parameter : parameters) {
+            builder.append(builder.length() == 1 ? "" : ", ").append(parameter.getSimpleName());
+        }
+        return builder.append('>').toString();
+    }
+
+    /**
+     * Quotes a string as a Java string literal.
+     * @param value String to quote
+     * @return the literal
+     */
+    static String literal(final String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private void error(final String message, final Element element, final AnnotationMirror annotation) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, annotation);
+    }
+}
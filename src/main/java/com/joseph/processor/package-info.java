@@ -0,0 +1,4 @@
+/**
+ * Annotation processor generating validators for annotated records
+ */
+package com.joseph.processor;
@@ -0,0 +1,282 @@
+package com.joseph.result;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ErrorCollector accumulates the errors of a validation that walks an object graph.
+ * It keeps a stack of the path segments being validated, e.g. {@code order}, {@code items},
+ * {@code [42]}, {@code sku}, and files every error into a {@link Violations} list under the
+ * path of the stack, here {@code order.items[42].sku}. The segments only enter the path table
+ * of the list, and the list is only created, when an error is added, so walking a valid graph
+ * allocates nothing but the collector; paths and messages are rendered on request.
+ * A collector is used by a single validation at a time and is not thread-safe.
+ */
+public final class ErrorCollector {
+    /**
+     * Marker of a named segment in {@link #indexes}
+     */
+    private static final int NAMED = -1;
+
+    /**
+     * Maximum number of errors, after which every further error is dropped
+     */
+    private int maxViolations;
+
+    /**
+     * Number of errors collected
+     */
+    private int count;
+
+    /**
+     * List the errors are filed into, created on the first error unless given
+     */
+    private Violations violations;
+
+    /**
+     * Code of every collected error, or null to keep the code of each error
+     */
+    private final String code;
+
+    /**
+     * Names of the segments, null for index segments
+     */
+    private String[] names;
+
+    /**
+     * Indexes of the segments, {@link #NAMED} for named segments
+     */
+    private int[] indexes;
+
+    /**
+     * Path of each segment in the path table of the list, valid up to {@link #resolved}
+     */
+    private int[] paths;
+
+    /**
+     * Number of segments of the current path
+     */
+    private int depth;
+
+    /**
+     * Number of segments whose path in the path table is known
+     */
+    private int resolved;
+
+    /**
+     * ErrorCollector constructor.
+     * @param maxViolations Maximum number of errors to collect, at least 1
+     */
+    public ErrorCollector(final int maxViolations) {
+        this(maxViolations, null, null);
+    }
+
+    /**
+     * ErrorCollector constructor filing the errors into an existing list, such as the
+     * violations of the enclosing rule, so they are not copied once collected.
+     * @param maxViolations Maximum number of errors to collect, at least 1
+     * @param violations List to file the errors into, or null to create one on the first error
+     * @param code Code of every collected error, such as {@link Violations#NESTED}, or null to keep their codes
+     */
+    public ErrorCollector(final int maxViolations, final Violations violations, final String code) {
+        if (maxViolations < 1) {
+            throw new IllegalArgumentException("maxViolations must be positive: " + maxViolations);
+        }
+        this.maxViolations = maxViolations;
+        this.violations = violations;
+        this.code = code;
+    }
+
+    /**
+     * Enters a named child, such as a field.
+     * @param name Name of the child
+     */
+    public void push(final String name) {
+        grow();
+        names[depth] = name;
+        indexes[depth++] = NAMED;
+    }
+
+    /**
+     * Enters an element of a collection.
+     * @param index Index of the element
+     */
+    public void push(final int index) {
+        grow();
+        names[depth] = null;
+        indexes[depth++] = index;
+    }
+
+    private void grow() {
+        if (names == null) {
+            names = new String[8];
+            indexes = new int[8];
+            paths = new int[8];
+        } else if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+            paths = Arrays.copyOf(paths, depth * 2);
+        }
+    }
+
+    /**
+     * Leaves the child entered last.
+     */
+    public void pop() {
+        if (depth == 0) {
+            throw new IllegalStateException("No path segment to leave");
+        }
+        depth--;
+        resolved = Math.min(resolved, depth);
+    }
+
+    /**
+     * Gets the current path, e.g. {@code items[42].sku}, empty at the root.
+     * @return the current path
+     */
+    public String getPath() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            if (indexes[i] != NAMED) {
+                builder.append('[').append(indexes[i]).append(']');
+            } else {
+                if (builder.length() > 0) {
+                    builder.append('.');
+                }
+                builder.append(names[i]);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets the list the errors are filed into, creating it if needed, and resolves the
+     * segments of the current path in its path table.
+     * @return the path of the current path in the path table, {@link Violations#ROOT} at the root
+     */
+    private int resolve() {
+        if (violations == null) {
+            violations = new Violations();
+        }
+        for (; resolved < depth; resolved++) {
+            int parent = resolved == 0 ? Violations.ROOT : paths[resolved - 1];
+            int index = indexes[resolved];
+            paths[resolved] = index == NAMED ? violations.name(parent, names[resolved]) : violations.path(parent, index);
+        }
+        return depth == 0 ? Violations.ROOT : paths[depth - 1];
+    }
+
+    /**
+     * Adds an error under the current path, unless the collector is full.
+     * @param message Error message
+     */
+    public void add(final String message) {
+        if (count < maxViolations) {
+            int path = resolve();
+            violations.add(violations.path(path, ""), code, message, 0L);
+            count++;
+        }
+    }
+
+    /**
+     * Adds errors under the current path, up to the remaining capacity.
+     * @param messages Error messages
+     */
+    public void addAll(final List<String> messages) {
+        for (int i = 0; i < messages.size() && count < maxViolations; i++) {
+            add(messages.get(i));
+        }
+    }
+
+    /**
+     * Adds the errors of a separate validation, whose paths are relative to the current path,
+     * up to the remaining capacity.
+     * @param relativeErrors Map of relative paths to list of error messages
+     */
+    public void addAll(final Map<String, List<String>> relativeErrors) {
+        for (Map.Entry<String, List<String>> entry : relativeErrors.entrySet()) {
+            if (count >= maxViolations) {
+                return;
+            }
+            int base = resolve();
+            int path = violations.path(base, entry.getKey());
+            List<String> messages = entry.getValue();
+            for (int i = 0; i < messages.size() && count < maxViolations; i++) {
+                violations.add(path, code, messages.get(i), 0L);
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Adds the violations of a separate validation, whose paths are relative to the current
+     * path, up to the remaining capacity. Their codes, unless this collector replaces them,
+     * and their messages are kept as they are, so no message is rendered.
+     * @param relative Violations to add
+     */
+    public void addAll(final Violations relative) {
+        if (!relative.isEmpty() && count < maxViolations) {
+            int path = resolve();
+            count += violations.addAll(relative, path, code, maxViolations - count);
+        }
+    }
+    /**
+     * Lowers the capacity so that at most the given number of further errors is collected.
+     * @param max Maximum number of further errors
+     * @return the previous capacity, to pass to {@link #restoreLimit(int)}
+     */
+    public int limit(final int max) {
+        int previous = maxViolations;
+        maxViolations = (int) Math.min(previous, (long) count + max);
+        return previous;
+    }
+
+    /**
+     * Restores the capacity saved by {@link #limit(int)}.
+     * @param previous Capacity returned by {@link #limit(int)}
+     */
+    public void restoreLimit(final int previous) {
+        maxViolations = previous;
+    }
+
+    /**
+     * Whether no further error can be collected.
+     * @return true once the maximum number of errors has been reached
+     */
+    public boolean isFull() {
+        return count >= maxViolations;
+    }
+
+    /**
+     * Gets the number of errors that can still be collected.
+     * @return the remaining capacity
+     */
+    public int getRemaining() {
+        return maxViolations - count;
+    }
+
+    /**
+     * Gets the number of errors collected.
+     * @return the error count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the errors.
+     * @return Map of paths to list of error messages, or an immutable empty map if there are none
+     */
+    public Map<String, List<String>> getErrors() {
+        return count == 0 ? Map.of() : violations.getErrors();
+    }
+
+    /**
+     * Gets the errors as a compact list of violations.
+     * @return the list of violations, or null if there is none
+     */
+    public Violations getViolations() {
+        return count == 0 ? null : violations;
+    }
+}
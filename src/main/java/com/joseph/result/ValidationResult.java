@@ -0,0 +1,90 @@
+package com.joseph.result;
+
+import com.joseph.exception.RecordValidationException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ValidationResult is the outcome of a validation that does not throw.
+ * A valid result is a shared constant, so successful validations allocate nothing.
+ */
+public final class ValidationResult {
+    /**
+     * Shared result of every successful validation
+     */
+    private static final ValidationResult VALID = new ValidationResult(Map.of());
+
+    /**
+     * Map of field names to list of error messages, empty when valid
+     */
+    private final Map<String, List<String>> errors;
+
+    /**
+     * ValidationResult constructor.
+     * @param errors Map of field names to list of error messages
+     */
+    private ValidationResult(final Map<String, List<String>> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Gets the result of a successful validation.
+     * @return the valid result
+     */
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * Creates a result from the collected errors.
+     * @param errors Map of field names to list of error messages, null or empty when valid
+     * @return the valid result if there are no errors, otherwise an invalid result
+     */
+    public static ValidationResult of(final Map<String, List<String>> errors) {
+        return errors == null || errors.isEmpty() ? VALID : new ValidationResult(errors);
+    }
+
+    /**
+     * Whether the validation passed.
+     * @return true if there are no errors
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    /**
+     * Gets the errors.
+     * @return Map of field names to list of error messages, empty when valid
+     */
+    public Map<String, List<String>> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the errors of a single field.
+     * @param fieldName Field name
+     * @return the error messages of the field, empty if the field is valid
+     */
+    public List<String> getErrors(final String fieldName) {
+        return errors.getOrDefault(fieldName, List.of());
+    }
+
+    /**
+     * Throws a RecordValidationException carrying the errors if the validation failed.
+     */
+    public void throwIfInvalid() {
+        if (!isValid()) {
+            throw new RecordValidationException(errors);
+        }
+    }
+
+    /**
+     * Returns a string representation of the result.
+     * @return String
+     */
+    @Override
+    public String toString() {
+        return isValid() ? "ValidationResult[valid]" : "ValidationResult" + errors;
+    }
+}
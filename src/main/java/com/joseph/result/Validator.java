@@ -0,0 +1,28 @@
+package com.joseph.result;
+
+import com.joseph.rule.AsyncLookups;
+
+/**
+ * Validator validates an instance into a shared {@link ErrorCollector}, filing its errors
+ * under paths relative to the collector's current path. Validators compose into deep object
+ * graphs without throwing and without re-wrapping the errors at each level.
+ * @param <T> Type of the validated instances
+ */
+@FunctionalInterface
+public interface Validator<T> {
+    /**
+     * Validates an instance, adding its errors to the collector.
+     * @param instance Instance to validate, not null
+     * @param collector Collector of the errors
+     */
+    void collect(T instance, ErrorCollector collector);
+
+    /**
+     * Starts the lookups of the async constraints that validating an instance would run,
+     * so that an async validation can run them concurrently up front. None by default.
+     * @param instance Instance to validate, not null
+     * @param lookups Lookups of the validation
+     */
+    default void startLookups(final T instance, final AsyncLookups lookups) {
+    }
+}
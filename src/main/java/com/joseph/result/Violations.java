@@ -0,0 +1,555 @@
+package com.joseph.result;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Violations is a compact list of the violations of one validation, kept in parallel arrays
+ * rather than as a map of freshly built message lists. Each violation is an int index into
+ * the table of the paths of the list, the interned code of the failed constraint, such as
+ * {@code MIN} or {@code EMAIL}, the source of its message and a primitive argument. The
+ * message source is either a string or a {@link Message} shared by every failure of a
+ * constraint, which renders the message from the argument only when it is requested. Paths
+ * are kept as segments, a field name or an element index below a parent path, and are only
+ * rendered, e.g. to {@code items[42].sku}, on request. Millions of failures then cost a few
+ * bytes each instead of a map, lists and a string apiece. The usual map of paths to messages
+ * is built on first request. A list is filled by a single validation and is not thread-safe.
+ * It serializes as its rendered paths, codes, messages and arguments, since message sources
+ * such as constraints are not serializable.
+ */
+public final class Violations implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Code of the errors filed by nested validators, whose constraint is not known
+     */
+    public static final String NESTED = "NESTED";
+
+    /**
+     * Parent of the paths at the root
+     */
+    static final int ROOT = -1;
+
+    /**
+     * Marker of a named segment in {@link #segmentIndexes}
+     */
+    private static final int NAMED = -1;
+
+    /**
+     * Shared empty list of every valid instance
+     */
+    private static final Violations NONE = new Violations(0);
+
+    /**
+     * Index of the path of each violation in the path table
+     */
+    private transient int[] paths;
+
+    /**
+     * Code of the failed constraint of each violation
+     */
+    private transient String[] codes;
+
+    /**
+     * Message of each violation, a String or a {@link Message}
+     */
+    private transient Object[] messages;
+
+    /**
+     * Argument each {@link Message} renders its violation from
+     */
+    private transient long[] arguments;
+
+    /**
+     * Number of violations
+     */
+    private transient int size;
+
+    /**
+     * Parent path of each path, {@link #ROOT} at the root
+     */
+    private transient int[] parents;
+
+    /**
+     * Field name of each path, null for an element index
+     */
+    private transient String[] segmentNames;
+
+    /**
+     * Element index of each path, {@link #NAMED} for a field name
+     */
+    private transient int[] segmentIndexes;
+
+    /**
+     * Rendered paths, filled on request
+     */
+    private transient String[] renderedPaths;
+
+    /**
+     * Number of paths in the path table
+     */
+    private transient int pathCount;
+
+    /**
+     * Open-addressing index of the path table by parent and segment, each slot holding a path index plus one
+     */
+    private transient int[] slots;
+
+    /**
+     * Map of paths to list of error messages, built on first request
+     */
+    private transient Map<String, List<String>> errors;
+
+    /**
+     * Renders the message of a violation on request. A constraint hands the same instance
+     * to every violation it reports, with an argument telling them apart if needed, such as
+     * the index of a bound, so no message is built while the violations are only counted.
+     */
+    @FunctionalInterface
+    public interface Message {
+        /**
+         * Renders the message of a violation.
+         * @param argument Argument recorded with the violation
+         * @return the error message
+         */
+        String render(long argument);
+    }
+
+    /**
+     * Violations constructor.
+     */
+    public Violations() {
+        this(4);
+    }
+
+    private Violations(final int capacity) {
+        paths = new int[capacity];
+        codes = new String[capacity];
+        messages = new Object[capacity];
+        arguments = new long[capacity];
+    }
+
+    /**
+     * Gets the shared, immutable empty list.
+     * @return the empty list
+     */
+    public static Violations none() {
+        return NONE;
+    }
+
+    /**
+     * Adds a violation.
+     * @param path Field name or path, e.g. {@code items[42].sku}
+     * @param code Interned code of the failed constraint
+     * @param message Error message
+     */
+    public void add(final String path, final String code, final String message) {
+        add(name(ROOT, path), code, message, 0L);
+    }
+
+    /**
+     * Adds a violation whose message is rendered on request.
+     * @param path Field name or path, e.g. {@code items[42].sku}
+     * @param code Interned code of the failed constraint
+     * @param message Renders the error message, typically shared by every failure of the constraint
+     * @param argument Argument the message is rendered from
+     */
+    public void add(final String path, final String code, final Message message, final long argument) {
+        add(name(ROOT, path), code, message, argument);
+    }
+
+    /**
+     * Adds a violation under a path of the path table.
+     * @param path Index of the path
+     * @param code Interned code of the failed constraint
+     * @param message Error message, a String or a {@link Message}
+     * @param argument Argument of a {@link Message}
+     */
+    void add(final int path, final String code, final Object message, final long argument) {
+        if (this == NONE) {
+            throw new UnsupportedOperationException("The empty list is immutable");
+        }
+        if (size == codes.length) {
+            int capacity = Math.max(4, size * 2);
+            paths = Arrays.copyOf(paths, capacity);
+            codes = Arrays.copyOf(codes, capacity);
+            messages = Arrays.copyOf(messages, capacity);
+            arguments = Arrays.copyOf(arguments, capacity);
+        }
+        paths[size] = path;
+        codes[size] = code;
+        messages[size] = message;
+        arguments[size++] = argument;
+        errors = null;
+    }
+
+    /**
+     * Adds the errors of a map of paths to messages, such as the ones of an {@link ErrorCollector}.
+     * @param pathErrors Map of paths to list of error messages
+     * @param code Code of every added violation
+     */
+    public void addAll(final Map<String, List<String>> pathErrors, final String code) {
+        for (Map.Entry<String, List<String>> entry : pathErrors.entrySet()) {
+            int path = path(ROOT, entry.getKey());
+            for (String message : entry.getValue()) {
+                add(path, code, message, 0L);
+            }
+        }
+    }
+
+    /**
+     * Adds the violations of a separate list, whose paths are relative to a path of this list,
+     * keeping their message sources and arguments, so nothing is rendered.
+     * @param relative Violations to add
+     * @param parent Index of the path the relative paths are below, {@link #ROOT} at the root
+     * @param code Code of every added violation, or null to keep their codes
+     * @param maxViolations Maximum number of violations to add
+     * @return the number of added violations
+     */
+    int addAll(final Violations relative, final int parent, final String code, final int maxViolations) {
+        int count = Math.min(relative.size, maxViolations);
+        int[] mapped = new int[relative.pathCount];
+        for (int i = 0; i < count; i++) {
+            add(map(relative, relative.paths[i], parent, mapped), code == null ? relative.codes[i] : code, relative.messages[i], relative.arguments[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the path of this list matching a path of a separate list, below a parent path.
+     * @param relative Separate list
+     * @param path Index of the path in the separate list
+     * @param parent Index of the parent path in this list
+     * @param mapped Paths of this list already matched, plus one, by index in the separate list
+     * @return the index of the path in this list
+     */
+    private int map(final Violations relative, final int path, final int parent, final int[] mapped) {
+        int target = mapped[path] - 1;
+        if (target < 0) {
+            int relativeParent = relative.parents[path];
+            int base = relativeParent == ROOT ? parent : map(relative, relativeParent, parent, mapped);
+            if (relative.segmentIndexes[path] != NAMED) {
+                target = path(base, relative.segmentIndexes[path]);
+            } else if (relative.segmentNames[path].isEmpty() && base != ROOT) {
+                target = base;
+            } else {
+                target = segment(base, relative.segmentNames[path], NAMED);
+            }
+            mapped[path] = target + 1;
+        }
+        return target;
+    }
+
+    /**
+     * Gets the path of a path relative to a parent, such as {@code sku}, {@code [4].sku} or
+     * {@code items[42].sku}, in the path table, adding its segments if needed.
+     * @param parent Index of the parent path, {@link #ROOT} at the root
+     * @param relative Relative path, empty for the parent path itself
+     * @return the index of the path
+     */
+    int path(final int parent, final String relative) {
+        int length = relative.length();
+        if (length == 0) {
+            return parent == ROOT ? segment(ROOT, relative, NAMED) : parent;
+        }
+        int path = parent;
+        int start = 0;
+        while (start < length) {
+            int end;
+            if (relative.charAt(start) == '[') {
+                end = relative.indexOf(']', start);
+                int index = end < 0 ? -1 : parseIndex(relative, start + 1, end);
+                if (index < 0) {
+                    return name(parent, relative);
+                }
+                path = path(path, index);
+                end++;
+            } else {
+                end = start;
+                while (end < length && relative.charAt(end) != '.' && relative.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == start) {
+                    return name(parent, relative);
+                }
+                path = segment(path, relative.substring(start, end), NAMED);
+            }
+            if (end < length && relative.charAt(end) == '.') {
+                if (++end == length) {
+                    return name(parent, relative);
+                }
+            } else if (end < length && relative.charAt(end) != '[') {
+                return name(parent, relative);
+            }
+            start = end;
+        }
+        return path;
+    }
+
+    /**
+     * Gets the path of a field name below a parent path, without parsing it, adding it if needed.
+     * @param parent Index of the parent path, {@link #ROOT} at the root
+     * @param name Field name
+     * @return the index of the path
+     */
+    int name(final int parent, final String name) {
+        return segment(parent, name, NAMED);
+    }
+
+    /**
+     * Gets the path of an element below a parent path, adding it if needed.
+     * @param parent Index of the parent path, {@link #ROOT} at the root
+     * @param index Index of the element
+     * @return the index of the path
+     */
+    int path(final int parent, final int index) {
+        return segment(parent, null, index);
+    }
+
+    /**
+     * Parses the index of an element segment, e.g. {@code 42} in {@code [42]}, as it was rendered.
+     * @param relative Relative path
+     * @param from Index of the first digit
+     * @param to Index after the last digit
+     * @return the index, or -1 if the segment is not a rendered index
+     */
+    private static int parseIndex(final String relative, final int from, final int to) {
+        if (from == to || to - from > 9 || to - from > 1 && relative.charAt(from) == '0') {
+            return -1;
+        }
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            char digit = relative.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            index = index * 10 + digit - '0';
+        }
+        return index;
+    }
+
+    /**
+     * Looks a segment up in the path table, adding it if needed.
+     * @param parent Index of the parent path, {@link #ROOT} at the root
+     * @param name Field name, null for an element
+     * @param index Index of the element, {@link #NAMED} for a field name
+     * @return the index of the path
+     */
+    private int segment(final int parent, final String name, final int index) {
+        if (slots == null || (pathCount + 1) * 2 > slots.length) {
+            rehash();
+        }
+        int mask = slots.length - 1;
+        int hash = 31 * (31 * parent + index) + (name == null ? 0 : name.hashCode());
+        int slot = (hash ^ hash >>> 16) & mask;
+        for (int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            int path = entry - 1;
+            if (parents[path] == parent && segmentIndexes[path] == index && (name == null || name.equals(segmentNames[path]))) {
+                return path;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (pathCount == parents.length) {
+            int capacity = pathCount * 2;
+            parents = Arrays.copyOf(parents, capacity);
+            segmentNames = Arrays.copyOf(segmentNames, capacity);
+            segmentIndexes = Arrays.copyOf(segmentIndexes, capacity);
+            renderedPaths = Arrays.copyOf(renderedPaths, capacity);
+        }
+        parents[pathCount] = parent;
+        segmentNames[pathCount] = name;
+        segmentIndexes[pathCount] = index;
+        slots[slot] = ++pathCount;
+        return pathCount - 1;
+    }
+
+    private void rehash() {
+        if (slots == null) {
+            slots = new int[16];
+            parents = new int[8];
+            segmentNames = new String[8];
+            segmentIndexes = new int[8];
+            renderedPaths = new String[8];
+            return;
+        }
+        int[] rehashed = new int[slots.length * 2];
+        int mask = rehashed.length - 1;
+        for (int path = 0; path < pathCount; path++) {
+            String name = segmentNames[path];
+            int hash = 31 * (31 * parents[path] + segmentIndexes[path]) + (name == null ? 0 : name.hashCode());
+            int slot = (hash ^ hash >>> 16) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = path + 1;
+        }
+        slots = rehashed;
+    }
+
+    /**
+     * Renders a path of the path table, e.g. {@code items[42].sku}, once.
+     * @param path Index of the path
+     * @return the rendered path
+     */
+    private String render(final int path) {
+        String rendered = renderedPaths[path];
+        if (rendered == null) {
+            String parent = parents[path] == ROOT ? "" : render(parents[path]);
+            String name = segmentNames[path];
+            if (segmentIndexes[path] != NAMED) {
+                rendered = parent + "[" + segmentIndexes[path] + "]";
+            } else if (parent.isEmpty()) {
+                rendered = name;
+            } else {
+                rendered = name.charAt(0) == '[' ? parent + name : parent + "." + name;
+            }
+            renderedPaths[path] = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * Gets the number of violations.
+     * @return the violation count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether there is no violation.
+     * @return true if the validation passed
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the field name or path of a violation, rendered on first request.
+     * @param index Index of the violation
+     * @return the path
+     */
+    public String getPath(final int index) {
+        return render(paths[checkIndex(index)]);
+    }
+
+    /**
+     * Gets the code of the failed constraint of a violation, such as {@code MIN},
+     * {@code EMAIL} or {@link #NESTED}.
+     * @param index Index of the violation
+     * @return the interned code
+     */
+    public String getCode(final int index) {
+        return codes[checkIndex(index)];
+    }
+
+    /**
+     * Gets the argument of a violation, such as the index of a failed bound; 0 if its message is fixed.
+     * @param index Index of the violation
+     * @return the argument
+     */
+    public long getArgument(final int index) {
+        return arguments[checkIndex(index)];
+    }
+
+    /**
+     * Gets the message of a violation, rendered if needed.
+     * @param index Index of the violation
+     * @return the error message
+     */
+    public String getMessage(final int index) {
+        return messageOf(checkIndex(index));
+    }
+
+    private String messageOf(final int index) {
+        Object message = messages[index];
+        return message instanceof Message renderer ? renderer.render(arguments[index]) : (String) message;
+    }
+
+    /**
+     * Gets the messages of the violations, in order, as the rule evaluations without paths report them.
+     * @return a new list of the error messages
+     */
+    public List<String> getMessages() {
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(messageOf(i));
+        }
+        return list;
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the violations as a map of paths to messages, built on first request.
+     * @return Map of paths to list of error messages, in the order of the violations
+     */
+    public Map<String, List<String>> getErrors() {
+        Map<String, List<String>> map = errors;
+        if (map == null) {
+            map = size == 0 ? Map.of() : new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.computeIfAbsent(render(paths[i]), k -> new ArrayList<>(2)).add(messageOf(i));
+            }
+            errors = map;
+        }
+        return map;
+    }
+
+    /**
+     * Writes the violations with their paths and messages rendered.
+     * @param out Stream to write to
+     * @throws IOException if the stream fails
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeObject(render(paths[i]));
+            out.writeObject(codes[i]);
+            out.writeObject(messageOf(i));
+            out.writeLong(arguments[i]);
+        }
+    }
+
+    /**
+     * Reads violations written by {@link #writeObject(ObjectOutputStream)}.
+     * @param in Stream to read from
+     * @throws IOException if the stream fails
+     * @throws ClassNotFoundException if a class of the stream cannot be found
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        paths = new int[Math.max(4, count)];
+        codes = new String[paths.length];
+        messages = new Object[paths.length];
+        arguments = new long[paths.length];
+        for (int i = 0; i < count; i++) {
+            int path = name(ROOT, (String) in.readObject());
+            String code = ((String) in.readObject()).intern();
+            add(path, code, (String) in.readObject(), in.readLong());
+        }
+    }
+
+    /**
+     * Returns a string representation of the violations.
+     * @return String
+     */
+    @Override
+    public String toString() {
+        return "Violations" + getErrors();
+    }
+}
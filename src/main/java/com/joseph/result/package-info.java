@@ -0,0 +1,4 @@
+/**
+ * Validation result package
+ */
+package com.joseph.result;
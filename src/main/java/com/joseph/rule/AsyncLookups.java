@@ -0,0 +1,230 @@
+package com.joseph.rule;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * AsyncLookups runs the lookups of the {@code satisfiesAsync} constraints of a validation
+ * concurrently. Each lookup is started on the executor as soon as its rule is registered, so
+ * that slow lookups, such as uniqueness checks against a remote service, overlap and the
+ * validation takes as long as the slowest lookup rather than the sum of all of them. Once
+ * every lookup has completed, the validation itself runs with the outcomes resolved, in the
+ * usual order, and yields the usual messages. A lookup that fails, rather than completing
+ * with false, also violates its constraint. Outside of such a pass an async constraint
+ * waits for its own lookup, for at most the {@linkplain #setBlockingTimeout(Duration) blocking timeout}.
+ * An AsyncLookups is used by a single validation.
+ */
+public final class AsyncLookups {
+    /**
+     * Default maximum time an async constraint waits for its own lookup outside of a pass
+     */
+    public static final Duration DEFAULT_BLOCKING_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Maximum time an async constraint waits for its own lookup outside of a pass
+     */
+    private static volatile Duration blockingTimeout = DEFAULT_BLOCKING_TIMEOUT;
+
+    /**
+     * Outcomes of the lookups of the pass running on each thread, null outside of a pass
+     */
+    private static final ThreadLocal<Map<Lookup, Boolean>> RESOLVED = new ThreadLocal<>();
+
+    /**
+     * Executor running the lookups
+     */
+    private final Executor executor;
+
+    /**
+     * Lookups started, once per check and value
+     */
+    private final Map<Lookup, CompletableFuture<Boolean>> lookups = new LinkedHashMap<>();
+
+    /**
+     * A check against a value. Checks are compared by identity, values by equality, so that
+     * the elements of a collection validated against the same template get their own outcome.
+     * @param check Check to run
+     * @param candidate Value to look up
+     */
+    private record Lookup(Check<?> check, Object candidate) {
+    }
+
+    /**
+     * AsyncLookups constructor.
+     * @param executor Executor running the lookups, such as a pool of I/O threads
+     */
+    public AsyncLookups(final Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Gets the shared executor of the lookups: a cached pool of daemon threads, created on
+     * first use, since lookups mostly wait on I/O.
+     * @return the default executor
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * Sets the maximum time an async constraint waits for its own lookup when it is evaluated
+     * outside of {@code evaluateAsync} or {@code RecordRules.validateAsync}, e.g. by a plain
+     * {@code evaluate}. Past it, the evaluation fails with an {@link IllegalStateException}
+     * caused by a {@link TimeoutException}, instead of blocking the thread indefinitely.
+     * @param timeout Maximum time to wait, positive, {@link #DEFAULT_BLOCKING_TIMEOUT} by default
+     */
+    public static void setBlockingTimeout(final Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("blocking timeout must be positive: " + timeout);
+        }
+        blockingTimeout = timeout;
+    }
+
+    /**
+     * Gets the maximum time an async constraint waits for its own lookup outside of a pass.
+     * @return the blocking timeout
+     */
+    public static Duration getBlockingTimeout() {
+        return blockingTimeout;
+    }
+
+    /**
+     * Starts the lookup of a check against a value, unless it was already started.
+     * A failed lookup completes with false.
+     * @param check Check to run
+     * @param candidate Value to look up, not null
+     * @param <T> Type of the value
+     */
+    <T> void start(final Check<T> check, final T candidate) {
+        lookups.computeIfAbsent(new Lookup(check, candidate), lookup -> CompletableFuture.supplyAsync(() -> check.lookup.apply(candidate), executor)
+                .thenCompose(Function.identity())
+                .exceptionally(failure -> Boolean.FALSE));
+    }
+
+    /**
+     * Gets the number of distinct lookups started.
+     * @return the number of lookups
+     */
+    public int size() {
+        return lookups.size();
+    }
+
+    /**
+     * Runs a validation once every lookup has completed, with their outcomes resolved.
+     * If the lookups take longer than the timeout, the result completes exceptionally with a
+     * {@link java.util.concurrent.TimeoutException} and the pending lookups are cancelled;
+     * a lookup that fails violates its constraint, like one completing with false.
+     * @param validation Validation to run, which evaluates the rules whose lookups were started
+     * @param timeout Maximum time to wait for the lookups
+     * @param <R> Type of the validation result
+     * @return the result of the validation
+     */
+    public <R> CompletableFuture<R> thenValidate(final Supplier<R> validation, final Duration timeout) {
+        Lookup[] keys = lookups.keySet().toArray(new Lookup[0]);
+        CompletableFuture<?>[] started = lookups.values().toArray(new CompletableFuture<?>[0]);
+        CompletableFuture<R> result = CompletableFuture.allOf(started)
+                .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .thenApply(done -> resolved(keys, started, validation));
+        if (started.length > 0) {
+            result.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    for (CompletableFuture<?> lookup : started) {
+                        lookup.cancel(true);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    private static <R> R resolved(final Lookup[] keys, final CompletableFuture<?>[] started, final Supplier<R> validation) {
+        if (started.length == 0) {
+            return validation.get();
+        }
+        Map<Lookup, Boolean> outcomes = new HashMap<>(started.length * 2);
+        for (int i = 0; i < started.length; i++) {
+            outcomes.put(keys[i], Boolean.TRUE.equals(started[i].join()));
+        }
+        Map<Lookup, Boolean> previous = RESOLVED.get();
+        RESOLVED.set(outcomes);
+        try {
+            return validation.get();
+        } finally {
+            if (previous == null) {
+                RESOLVED.remove();
+            } else {
+                RESOLVED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Lookup of a {@code satisfiesAsync} constraint.
+     * @param <T> Type of the value to look up
+     */
+    static final class Check<T> {
+        private final Function<T, CompletableFuture<Boolean>> lookup;
+
+        Check(final Function<T, CompletableFuture<Boolean>> lookup) {
+            this.lookup = Objects.requireNonNull(lookup, "lookup");
+        }
+
+        /**
+         * Whether the value satisfies the check, as resolved by the running pass, or else
+         * as looked up and waited for, for at most the blocking timeout.
+         * @param candidate Value to check, not null
+         * @return true if the lookup succeeded with true, false if it completed with false or failed
+         * @throws IllegalStateException if the lookup does not complete within the blocking timeout
+         */
+        boolean test(final T candidate) {
+            Map<Lookup, Boolean> outcomes = RESOLVED.get();
+            Boolean outcome = outcomes == null ? null : outcomes.get(new Lookup(this, candidate));
+            return outcome != null ? outcome : await(lookup.apply(candidate));
+        }
+
+        private static boolean await(final CompletableFuture<Boolean> lookup) {
+            Duration timeout = blockingTimeout;
+            try {
+                return Boolean.TRUE.equals(lookup.get(timeout.toNanos(), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                lookup.cancel(true);
+                throw new IllegalStateException("satisfiesAsync lookup did not complete within " + timeout
+                        + "; validate through evaluateAsync or RecordRules.validateAsync to bound and overlap the lookups", e);
+            } catch (ExecutionException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a satisfiesAsync lookup", e);
+            }
+        }
+    }
+
+    /**
+     * Holder of the default executor, created on first use.
+     */
+    private static final class DefaultExecutor {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "recordrules-async-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DefaultExecutor() {
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package com.joseph.rule;
 
+import com.joseph.cache.BoundedCache;
 import com.joseph.exception.RecordValidationException;
+import com.joseph.metrics.ValidationListeners;
+import com.joseph.result.ErrorCollector;
+import com.joseph.result.Violations;
 import com.joseph.rule.child.DateRule;
+import com.joseph.rule.child.DateTimeRule;
+import com.joseph.rule.child.DoubleRule;
+import com.joseph.rule.child.InstantRule;
+import com.joseph.rule.child.IntRule;
+import com.joseph.rule.child.LongRule;
 import com.joseph.rule.child.NumberRule;
 import com.joseph.rule.child.ObjectRule;
+import com.joseph.rule.child.OffsetDateTimeRule;
 import com.joseph.rule.child.StringRule;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Rule is a base class for all rules.
@@ -31,22 +49,130 @@ public abstract class Rule<T, R extends Rule<T, R>> {
     protected final String fieldName;
 
     /**
-     * List of violations
+     * List of violations, created on first evaluation
      */
-    private final List<String> violations = new ArrayList<>();
+    private List<String> violations;
+
+    /**
+     * Cost class of null checks, the cheapest constraints
+     */
+    protected static final int COST_NULL = 0;
+
+    /**
+     * Cost class of constant-time checks such as lengths, ranges and sizes
+     */
+    protected static final int COST_CHEAP = 1;
+
+    /**
+     * Cost class of regex based checks
+     */
+    protected static final int COST_PATTERN = 2;
+
+    /**
+     * Cost class of user predicates, whose cost is unknown
+     */
+    protected static final int COST_CUSTOM = 3;
+
+    /**
+     * Estimated cost of a regex, a custom predicate or a nested validation, in units of a constant-time check
+     */
+    protected static final int EXPENSIVE_CHECK_COST = 16;
+
+    /**
+     * Estimated cost of a constraint of each cost class, in units of a constant-time check
+     */
+    private static final int[] COST_WEIGHTS = {1, 1, EXPENSIVE_CHECK_COST, EXPENSIVE_CHECK_COST};
 
     /**
      * Internal representation of a validation rule.
-     * Encapsulates the logic (predicate) and the resulting error message.
+     * Encapsulates the logic (predicate), a short code naming the kind of check, such as
+     * {@code MIN} or {@code EMAIL}, and the resulting error message.
+     * The message is either fixed or rendered by a supplier when the constraint first fails,
+     * then kept, so every failure of a shared rule template reports the same string.
+     * The code also tells the cost class of the check and whether it always passes on null,
+     * which is true of every built-in check except {@code REQUIRED}, but not of raw
+     * {@link #addConstraint(Predicate, String)} predicates. A constraint registered inside a
+     * {@link #when(Predicate, Consumer)} block is guarded by the condition of the block.
      * @param <T> Type of the value to validate
      */
-    private static class Constraint<T> {
+    private static class Constraint<T> implements Violations.Message {
+        private final String code;
         private final Predicate<T> predicate;
+        private final int cost;
+        private final boolean nullSafe;
+        private Predicate<T> guard;
         private String message;
+        private Supplier<String> messageSupplier;
 
-        Constraint(final Predicate<T> predicate, final String message) {
+        Constraint(final String code, final Predicate<T> predicate, final String message, final Supplier<String> messageSupplier) {
+            this.code = code.intern();
             this.predicate = predicate;
             this.message = message;
+            this.messageSupplier = messageSupplier;
+            this.cost = costOf(code);
+            this.nullSafe = cost == COST_CHEAP || cost == COST_PATTERN || "SATISFIES".equals(code) || "SATISFIES_ASYNC".equals(code);
+        }
+
+        String message() {
+            String rendered = message;
+            if (rendered == null) {
+                rendered = messageSupplier.get();
+                message = rendered;
+            }
+            return rendered;
+        }
+
+        @Override
+        public String render(final long argument) {
+            return message();
+        }
+
+        /**
+         * Whether the constraint fails for the value. Null-safe constraints are skipped for null,
+         * and guarded constraints when their condition does not hold; neither runs the predicate.
+         * @param candidate Value to test
+         * @return true if the value violates the constraint
+         */
+        boolean fails(final T candidate) {
+            return (candidate != null || !nullSafe) && (guard == null || guard.test(candidate)) && predicate.test(candidate);
+        }
+    }
+
+    /**
+     * Message of an error of a nested validator, rendered as the path followed by its messages.
+     * @param path Path of the errors in the nested validation
+     * @param messages Error messages under the path
+     */
+    private record NestedMessage(String path, List<String> messages) implements Violations.Message {
+        @Override
+        public String render(final long argument) {
+            return path + " " + messages;
+        }
+    }
+
+    /**
+     * Gets the cost class of a built-in constraint code; unknown codes are user predicates.
+     * @param code Constraint code
+     * @return the cost class
+     */
+    private static int costOf(final String code) {
+        switch (code) {
+            case "REQUIRED":
+                return COST_NULL;
+            case "NOT_BLANK":
+            case "LENGTH":
+            case "MIN":
+            case "MAX":
+            case "MIN_SIZE":
+            case "MAX_SIZE":
+            case "FUTURE":
+            case "PAST":
+                return COST_CHEAP;
+            case "EMAIL":
+            case "MATCHES":
+                return COST_PATTERN;
+            default:
+                return COST_CUSTOM;
         }
     }
 
@@ -55,13 +181,82 @@ public abstract class Rule<T, R extends Rule<T, R>> {
      */
     private final List<Constraint<T>> constraints = new ArrayList<>();
 
+    /**
+     * Indexes of the constraints sorted by cost class, stable; computed on first use
+     * and reset when a constraint is added
+     */
+    private volatile int[] costOrder;
+
+    /**
+     * Nested validators registered through {@link #check(Consumer)}, run lazily after the constraints.
+     * Created on first use.
+     */
+    private List<Consumer<T>> nestedValidators;
+
+    /**
+     * Lookups of the {@link #satisfiesAsync(Function)} constraints, created on first use
+     */
+    private List<AsyncLookups.Check<T>> asyncChecks;
+
+    /**
+     * Groups whose {@link #group(String, Consumer)} blocks register their constraints, empty by default
+     */
+    private Set<String> activeGroups = Set.of();
+
     /**
      * Internal helper to register a new validation requirement.
      * @param predicate The condition to test (returns true if invalid)
      * @param message The error message if the predicate is true
      */
     protected void addConstraint(final Predicate<T> predicate, final String message) {
-        constraints.add(new Constraint<>(predicate, message));
+        addConstraint("CUSTOM", predicate, message);
+    }
+
+    /**
+     * Internal helper to register a new validation requirement.
+     * @param code Short code naming the kind of check, reported to the validation listener
+     * @param predicate The condition to test (returns true if invalid)
+     * @param message The error message if the predicate is true
+     */
+    protected void addConstraint(final String code, final Predicate<T> predicate, final String message) {
+        constraints.add(new Constraint<>(code, predicate, message, null));
+        costOrder = null;
+    }
+
+    /**
+     * Internal helper to register a new validation requirement whose message
+     * is only built when the constraint fails.
+     * @param code Short code naming the kind of check, reported to the validation listener
+     * @param predicate The condition to test (returns true if invalid)
+     * @param message Renders the error message if the predicate is true
+     */
+    protected void addConstraint(final String code, final Predicate<T> predicate, final Supplier<String> message) {
+        constraints.add(new Constraint<>(code, predicate, null, message));
+        costOrder = null;
+    }
+
+    /**
+     * Reports a failed constraint of this rule to the registered validation listener.
+     * @param code Code of the failed constraint
+     */
+    protected void reportViolation(final String code) {
+        ValidationListeners.get().onViolation(fieldName, code);
+    }
+
+    /**
+     * Gets the number of constraints registered so far.
+     * @return the number of constraints
+     */
+    protected int getConstraintCount() {
+        return constraints.size();
+    }
+
+    /**
+     * Whether nested validators were registered through {@link #check(Consumer)}.
+     * @return true if the evaluation runs nested validators
+     */
+    protected boolean hasNestedValidators() {
+        return nestedValidators != null;
     }
 
     /**
@@ -164,6 +359,38 @@ public abstract class Rule<T, R extends Rule<T, R>> {
         return new NumberRule(value, name);
     }
 
+    /**
+     * Creates an IntRule, which validates the primitive value without boxing it.
+     * Also used for {@code short}, {@code byte} and {@code char} values.
+     * @param value Value to validate
+     * @param name Field name
+     * @return IntRule
+     */
+    public static IntRule on(final int value, final String name) {
+        return new IntRule(value, name);
+    }
+
+    /**
+     * Creates a LongRule, which validates the primitive value without boxing it.
+     * @param value Value to validate
+     * @param name Field name
+     * @return LongRule
+     */
+    public static LongRule on(final long value, final String name) {
+        return new LongRule(value, name);
+    }
+
+    /**
+     * Creates a DoubleRule, which validates the primitive value without boxing it.
+     * Also used for {@code float} values.
+     * @param value Value to validate
+     * @param name Field name
+     * @return DoubleRule
+     */
+    public static DoubleRule on(final double value, final String name) {
+        return new DoubleRule(value, name);
+    }
+
     /**
      * Returns the current rule.
      * @param <T> Type of the value to validate
@@ -185,22 +412,51 @@ public abstract class Rule<T, R extends Rule<T, R>> {
         return new DateRule(value, name);
     }
 
+    /**
+     * Returns the current rule.
+     * @param value Value to validate
+     * @param name Field name
+     * @return the current rule
+     */
+    public static DateTimeRule on(final java.time.LocalDateTime value, final String name) {
+        return new DateTimeRule(value, name);
+    }
+
+    /**
+     * Returns the current rule.
+     * @param value Value to validate
+     * @param name Field name
+     * @return the current rule
+     */
+    public static InstantRule on(final java.time.Instant value, final String name) {
+        return new InstantRule(value, name);
+    }
+
+    /**
+     * Returns the current rule.
+     * @param value Value to validate
+     * @param name Field name
+     * @return the current rule
+     */
+    public static OffsetDateTimeRule on(final java.time.OffsetDateTime value, final String name) {
+        return new OffsetDateTimeRule(value, name);
+    }
+
     /**
      * Allows nesting validation logic. If the nested validator throws a
      * RecordValidationException, the errors are caught and flattened into
-     * the parent's violation list.
+     * the parent's violation list. The validator runs when the violations
+     * are evaluated, so it also applies to rules used as schema templates.
+     * Each failing nested validator costs an exception; {@link ObjectRule#valid(com.joseph.result.Validator)}
+     * composes nested schemas without throwing.
      * @param nestedValidator Nested validator
      * @return the current rule
      */
     public R check(final Consumer<T> nestedValidator) {
-        if (value != null) {
-            try {
-                nestedValidator.accept(value);
-            } catch (RecordValidationException e) {
-                e.getErrors().forEach((nestedField, nestedErrors) ->
-                        violations.add(nestedField + " " + nestedErrors));
-            }
+        if (nestedValidators == null) {
+            nestedValidators = new ArrayList<>();
         }
+        nestedValidators.add(nestedValidator);
         return self();
     }
 
@@ -228,23 +484,294 @@ public abstract class Rule<T, R extends Rule<T, R>> {
      * @return A list of all validation violation messages
      */
     public List<String> getViolations() {
-        if (violations.isEmpty()) {
-            violations.addAll(
-                    constraints.stream()
-                        .filter(constraint -> constraint.predicate.test(value))
-                        .map(constraint -> constraint.message)
-                        .toList()
-            );
+        if (violations == null || violations.isEmpty()) {
+            violations = getViolations(Integer.MAX_VALUE);
         }
         return violations;
     }
 
+    /**
+     * Evaluates the constraints against the current value, stopping once the given
+     * number of violations has been found. The remaining constraints are not tested.
+     * The result is not cached.
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A list of at most {@code maxViolations} validation violation messages
+     */
+    public List<String> getViolations(final int maxViolations) {
+        return evaluate(value, maxViolations);
+    }
+
+    /**
+     * Evaluates the registered constraints and nested validators against the given value
+     * instead of the value this rule was created with. The rule itself is not modified,
+     * so a fully configured rule can be shared and evaluated concurrently.
+     * Nothing is allocated while the value is valid: the result list is created and
+     * the messages are rendered only on the first violation.
+     * @param candidate Value to validate
+     * @return A new list of the validation violation messages, or an immutable empty list if the value is valid
+     */
+    public List<String> evaluate(final T candidate) {
+        return evaluate(candidate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Evaluates the registered constraints and nested validators against the given value,
+     * stopping once the given number of violations has been found. The constraints run by
+     * cost class, null checks and constant-time checks before regexes and custom predicates,
+     * and the evaluation stops as soon as the first violations in declaration order are known,
+     * so the remaining constraints, often the expensive ones, are not tested; the violations
+     * are still reported in declaration order, as if every constraint had run in turn.
+     * A null value failing {@code required()} only reports that violation: the constraints
+     * that depend on a value, including raw custom constraints, are skipped. Otherwise only
+     * {@code required()} and raw custom constraints are tested against null, since every
+     * other built-in constraint, including {@code satisfies}, passes on null.
+     * The messages are the ones of {@link #evaluate(Object, int, String, Violations)}.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A new list of at most {@code maxViolations} violation messages, or an immutable empty list if the value is valid
+     */
+    public List<String> evaluate(final T candidate, final int maxViolations) {
+        Violations found = evaluateConstraints(candidate, maxViolations, fieldName, null);
+        return found == null ? List.of() : found.getMessages();
+    }
+
+    /**
+     * Evaluates the constraints and nested validators against the given value into a compact
+     * list of violations, filed under the given path with the code of each failed constraint.
+     * As with {@link #evaluate(Object, int)}, nothing is allocated while the value is valid,
+     * and no message is rendered: each violation refers to its constraint, which renders the
+     * message shared by every failure of the constraint on request.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    public Violations evaluate(final T candidate, final int maxViolations, final String path, final Violations violations) {
+        return evaluateConstraints(candidate, maxViolations, path, violations);
+    }
+
+    /**
+     * Evaluates the constraints and nested validators of this class, out of reach of the
+     * overrides of composite rules, which file nested errors differently.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    private Violations evaluateConstraints(final T candidate, final int maxViolations, final String path, final Violations violations) {
+        Violations result = violations;
+        int added = 0;
+        int[] order = costOrder();
+        if (order.length <= Long.SIZE) {
+            long failed = failedConstraints(order, candidate, maxViolations);
+            for (; failed != 0L && added < maxViolations; failed &= failed - 1) {
+                Constraint<T> constraint = constraints.get(Long.numberOfTrailingZeros(failed));
+                if (result == null) {
+                    result = new Violations();
+                }
+                reportViolation(constraint.code);
+                result.add(path, constraint.code, constraint, 0L);
+                added++;
+            }
+            if (added >= maxViolations) {
+                return result;
+            }
+        } else {
+            boolean absent = candidate == null && failsRequired(order, candidate);
+            for (int i = 0; i < constraints.size(); i++) {
+                Constraint<T> constraint = constraints.get(i);
+                if ((!absent || constraint.cost == COST_NULL) && constraint.fails(candidate)) {
+                    if (result == null) {
+                        result = new Violations();
+                    }
+                    reportViolation(constraint.code);
+                    result.add(path, constraint.code, constraint, 0L);
+                    if (++added >= maxViolations) {
+                        return result;
+                    }
+                }
+            }
+        }
+        if (candidate != null && nestedValidators != null) {
+            for (int i = 0; i < nestedValidators.size(); i++) {
+                try {
+                    nestedValidators.get(i).accept(candidate);
+                } catch (RecordValidationException e) {
+                    if (result == null) {
+                        result = new Violations();
+                    }
+                    for (Map.Entry<String, List<String>> nested : e.getErrors().entrySet()) {
+                        reportViolation(Violations.NESTED);
+                        result.add(path, Violations.NESTED, new NestedMessage(nested.getKey(), nested.getValue()), 0L);
+                        if (++added >= maxViolations) {
+                            return result;
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells whether the value passes every constraint and nested validator, without collecting
+     * messages. Since only the outcome matters, the constraints run by cost class, null checks
+     * and constant-time checks before regexes and custom predicates, and the evaluation stops
+     * at the first failure, so expensive checks only run when every cheaper one passed.
+     * @param candidate Value to validate
+     * @return true if the value is valid
+     */
+    public boolean isValid(final T candidate) {
+        int[] order = costOrder();
+        for (int i = 0; i < order.length; i++) {
+            if (constraints.get(order[i]).fails(candidate)) {
+                return false;
+            }
+        }
+        if (candidate != null && nestedValidators != null) {
+            for (int i = 0; i < nestedValidators.size(); i++) {
+                try {
+                    nestedValidators.get(i).accept(candidate);
+                } catch (RecordValidationException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the cost of evaluating the rule against its value, in units of a constant-time
+     * check: null checks, lengths and ranges weigh 1, regexes, custom predicates and nested
+     * validators 16. It tells whether handing the rule to another thread pays off.
+     * @return the estimated cost
+     */
+    public long estimateCost() {
+        long cost = 0L;
+        for (int i = 0; i < constraints.size(); i++) {
+            cost += COST_WEIGHTS[constraints.get(i).cost];
+        }
+        if (nestedValidators != null) {
+            cost += (long) EXPENSIVE_CHECK_COST * nestedValidators.size();
+        }
+        return cost;
+    }
+
+    /**
+     * Tests the constraints by cost class and tells which ones fail, stopping once the first
+     * {@code maxViolations} failures in declaration order are known, that is once every
+     * constraint declared before the last of them was tested. Once {@code required()} fails,
+     * the constraints that depend on a value are not tested.
+     * @param order Indexes of the constraints by cost class, at most 64
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return the bit set of the failed constraints, by declaration index
+     */
+    private long failedConstraints(final int[] order, final T candidate, final int maxViolations) {
+        long tested = 0L;
+        long failed = 0L;
+        int failures = 0;
+        boolean absent = false;
+        for (int n = 0; n < order.length; n++) {
+            Constraint<T> constraint = constraints.get(order[n]);
+            if (absent && constraint.cost != COST_NULL) {
+                break;
+            }
+            tested |= 1L << order[n];
+            if (constraint.fails(candidate)) {
+                failed |= 1L << order[n];
+                absent |= constraint.cost == COST_NULL;
+                if (++failures >= maxViolations) {
+                    long last = failed;
+                    for (int k = 1; k < maxViolations; k++) {
+                        last &= last - 1;
+                    }
+                    long before = Long.lowestOneBit(last) - 1;
+                    if ((tested & before) == before) {
+                        break;
+                    }
+                }
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Tells whether a {@code required()} constraint fails, which only happens for null.
+     * @param order Indexes of the constraints by cost class, null checks first
+     * @param candidate Value to validate
+     * @return true if a null check fails
+     */
+    private boolean failsRequired(final int[] order, final T candidate) {
+        for (int n = 0; n < order.length && constraints.get(order[n]).cost == COST_NULL; n++) {
+            if (constraints.get(order[n]).fails(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] costOrder() {
+        int[] order = costOrder;
+        if (order == null) {
+            order = new int[constraints.size()];
+            int next = 0;
+            for (int cost = COST_NULL; cost <= COST_CUSTOM; cost++) {
+                for (int i = 0; i < constraints.size(); i++) {
+                    if (constraints.get(i).cost == cost) {
+                        order[next++] = i;
+                    }
+                }
+            }
+            costOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * Evaluates the rule against its own value, filing the errors under the field name
+     * below the collector's current path.
+     * @param collector Collector of the errors
+     */
+    public void collect(final ErrorCollector collector) {
+        collector.push(fieldName);
+        collect(value, collector);
+        collector.pop();
+    }
+
+    /**
+     * Evaluates the rule against the given value, filing the errors under the collector's
+     * current path, up to its remaining capacity. Composite rules file the errors of
+     * nested values under child paths, such as {@code items[42].sku}.
+     * @param candidate Value to validate
+     * @param collector Collector of the errors
+     */
+    public void collect(final T candidate, final ErrorCollector collector) {
+        if (!collector.isFull()) {
+            Violations found = evaluate(candidate, collector.getRemaining(), "", null);
+            if (found != null) {
+                collector.addAll(found);
+            }
+        }
+    }
+
+    /**
+     * Whether the rule validates nested values whose errors are filed under child paths
+     * by {@link #collect(Object, ErrorCollector)}.
+     * @return true if the rule has nested validations
+     */
+    public boolean isComposite() {
+        return false;
+    }
+
     /**
      * Validates that the value is not null.
      * @return the current rule
      */
     public R required() {
-        addConstraint(Objects::isNull, "must not be null");
+        addConstraint("REQUIRED", Objects::isNull, "must not be null");
         return self();
     }
 
@@ -264,7 +791,156 @@ public abstract class Rule<T, R extends Rule<T, R>> {
      * @return the current rule
      */
     public R satisfies(final Predicate<T> predicate, final String message) {
-        addConstraint(val -> val != null && !predicate.test(val), message);
+        addConstraint("SATISFIES", val -> val != null && !predicate.test(val), message);
+        return self();
+    }
+
+    /**
+     * Validates that the value satisfies an expensive predicate whose outcome is memoized
+     * per value, so that each distinct value, such as a country code repeated across a bulk
+     * import, is tested once per expiry window of the cache. The cache is shared by every
+     * rule using the predicate, typically held in a static field, and must not be shared
+     * with other predicates. Its counters tell the hit rate.
+     * @param cache Outcomes of the predicate by value, e.g. {@code new BoundedCache<>(10_000, Duration.ofMinutes(5))}
+     * @param predicate Predicate to validate, pure for a given value
+     * @param message Message to display if the predicate is not satisfied
+     * @return the current rule
+     */
+    public R satisfiesCached(final BoundedCache<T, Boolean> cache, final Predicate<T> predicate, final String message) {
+        return satisfies(val -> cache.get(val, predicate::test), message);
+    }
+
+    /**
+     * Validates that the value satisfies an asynchronous lookup, e.g. a uniqueness check
+     * against a remote service. The lookup only runs for non-null values. Within
+     * {@link #evaluateAsync(Object, Executor, Duration)} or {@code RecordRules.validateAsync},
+     * the lookups of all the rules run concurrently; elsewhere each one is waited for in turn,
+     * for at most {@link AsyncLookups#getBlockingTimeout()}.
+     * @param lookup Lookup completing with true if the value is valid
+     * @return the current rule
+     */
+    public R satisfiesAsync(final Function<T, CompletableFuture<Boolean>> lookup) {
+        return satisfiesAsync(lookup, "must satisfy predicate");
+    }
+
+    /**
+     * Validates that the value satisfies an asynchronous lookup.
+     * @param lookup Lookup completing with true if the value is valid
+     * @param message Message to display if the lookup completes with false
+     * @return the current rule
+     * @see #satisfiesAsync(Function)
+     */
+    public R satisfiesAsync(final Function<T, CompletableFuture<Boolean>> lookup, final String message) {
+        AsyncLookups.Check<T> check = new AsyncLookups.Check<>(lookup);
+        addConstraint("SATISFIES_ASYNC", val -> val != null && !check.test(val), message);
+        if (asyncChecks == null) {
+            asyncChecks = new ArrayList<>();
+        }
+        asyncChecks.add(check);
+        return self();
+    }
+
+    /**
+     * Starts the lookups of the async constraints against the value of this rule.
+     * @param lookups Lookups of the validation
+     */
+    public void startLookups(final AsyncLookups lookups) {
+        startLookups(value, lookups);
+    }
+
+    /**
+     * Starts the lookups of the async constraints against the given value.
+     * @param candidate Value to validate
+     * @param lookups Lookups of the validation
+     */
+    public void startLookups(final T candidate, final AsyncLookups lookups) {
+        if (candidate != null && asyncChecks != null) {
+            for (int i = 0; i < asyncChecks.size(); i++) {
+                lookups.start(asyncChecks.get(i), candidate);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the rule against the given value once the lookups of its async constraints,
+     * run concurrently on the executor, have completed.
+     * @param candidate Value to validate
+     * @param executor Executor running the lookups
+     * @param timeout Maximum time to wait for the lookups
+     * @return the violation messages, completing exceptionally with a TimeoutException if the lookups time out
+     */
+    public CompletableFuture<List<String>> evaluateAsync(final T candidate, final Executor executor, final Duration timeout) {
+        AsyncLookups lookups = new AsyncLookups(executor);
+        startLookups(candidate, lookups);
+        return lookups.thenValidate(() -> evaluate(candidate), timeout);
+    }
+
+    /**
+     * Activates validation groups, such as {@code create} or {@code update}, for the
+     * {@link #group(String, Consumer)} blocks that follow. It must come before them, since
+     * the blocks of inactive groups register nothing. Schemas set the active groups of their
+     * rule templates through {@code Schema.Builder.activeGroups}.
+     * @param groups Names of the active groups
+     * @return the current rule
+     */
+    public R activeGroups(final String... groups) {
+        activeGroups = Set.copyOf(Arrays.asList(groups));
+        return self();
+    }
+
+    /**
+     * Registers the constraints of a validation group, e.g.
+     * {@code group("create", r -> r.required())}, only if the group was activated through
+     * {@link #activeGroups(String...)}. Since the block of an inactive group is not even run,
+     * its constraints cost nothing at evaluation time, and the selection is resolved once when
+     * the rule, or the template of a schema, is built. Constraints outside of any group always apply.
+     * @param group Name of the group
+     * @param rules Registers the constraints of the group on this rule
+     * @return the current rule
+     */
+    public R group(final String group, final Consumer<R> rules) {
+        if (activeGroups.contains(group)) {
+            rules.accept(self());
+        }
+        return self();
+    }
+
+    /**
+     * Registers constraints that only apply when a condition holds on the value, e.g.
+     * {@code when(s -> s.startsWith("+"), r -> r.matches("\\+\\d{8,15}"))}. The condition is
+     * tested before each constraint of the block, and the predicate of the constraint is not
+     * run when it does not hold. Null-safe constraints are skipped for null before the condition
+     * is tested; {@code required()} and raw custom constraints pass null to it. Nested
+     * validators registered in the block are guarded too, and blocks can be nested.
+     * @param condition Condition on the value, true when the constraints of the block apply
+     * @param rules Registers the constraints of the block on this rule
+     * @return the current rule
+     */
+    public R when(final Predicate<T> condition, final Consumer<R> rules) {
+        Objects.requireNonNull(condition, "condition");
+        int from = constraints.size();
+        int nestedFrom = nestedValidators == null ? 0 : nestedValidators.size();
+        rules.accept(self());
+        Predicate<T> inner = null;
+        Predicate<T> combined = condition;
+        for (int i = from; i < constraints.size(); i++) {
+            Constraint<T> constraint = constraints.get(i);
+            if (constraint.guard != null && constraint.guard != inner) {
+                inner = constraint.guard;
+                combined = condition.and(inner);
+            }
+            constraint.guard = constraint.guard == null ? condition : combined;
+        }
+        if (nestedValidators != null) {
+            for (int i = nestedFrom; i < nestedValidators.size(); i++) {
+                Consumer<T> validator = nestedValidators.get(i);
+                nestedValidators.set(i, val -> {
+                    if (condition.test(val)) {
+                        validator.accept(val);
+                    }
+                });
+            }
+        }
         return self();
     }
 
@@ -276,7 +952,9 @@ public abstract class Rule<T, R extends Rule<T, R>> {
      */
     public R message(final String customMessage) {
         if (!constraints.isEmpty()) {
-            constraints.get(constraints.size() - 1).message = customMessage;
+            Constraint<T> last = constraints.get(constraints.size() - 1);
+            last.message = customMessage;
+            last.messageSupplier = null;
         }
         return self();
     }
@@ -1,13 +1,14 @@
 package com.joseph.rule.child;
 
-import com.joseph.rule.Rule;
+import com.joseph.time.ValidationTime;
 
 import java.time.LocalDate;
 
 /**
  * DateRule handles validation for dates using the base Rule functionality.
+ * Dates are compared with the local date of the validation clock.
  */
-public class DateRule extends Rule<LocalDate, DateRule> {
+public class DateRule extends TemporalRule<LocalDate, DateRule> {
     /**
      * DateRule constructor.
      * @param value Value to validate
@@ -17,21 +18,18 @@ public class DateRule extends Rule<LocalDate, DateRule> {
         super(value, name);
     }
 
-    /**
-     * Validates that the date is in the future.
-     * @return the current rule
-     */
-    public DateRule isFuture() {
-        addConstraint(val -> val != null && !val.isAfter(LocalDate.now()), "must be a future date");
-        return this;
+    @Override
+    protected int compareToNow(final LocalDate candidate, final ValidationTime now) {
+        return now.compare(candidate);
     }
 
-    /**
-     * Validates that the date is in the past.
-     * @return the current rule
-     */
-    public DateRule isPast() {
-        addConstraint(val -> val != null && !val.isBefore(LocalDate.now()), "must be a past date");
-        return this;
+    @Override
+    protected String futureMessage() {
+        return "must be a future date";
+    }
+
+    @Override
+    protected String pastMessage() {
+        return "must be a past date";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.joseph.rule.child;
+
+import com.joseph.time.ValidationTime;
+
+import java.time.LocalDateTime;
+
+/**
+ * DateTimeRule handles validation for date-times.
+ * Values are compared with the local date-time of the validation clock.
+ */
+public class DateTimeRule extends TemporalRule<LocalDateTime, DateTimeRule> {
+    /**
+     * DateTimeRule constructor.
+     * @param value Value to validate
+     * @param name Field name
+     */
+    public DateTimeRule(final LocalDateTime value, final String name) {
+        super(value, name);
+    }
+
+    @Override
+    protected int compareToNow(final LocalDateTime candidate, final ValidationTime now) {
+        return now.compare(candidate);
+    }
+}
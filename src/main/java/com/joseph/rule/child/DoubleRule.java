@@ -0,0 +1,244 @@
+package com.joseph.rule.child;
+
+import com.joseph.result.Violations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * DoubleRule validates a primitive double without boxing it.
+ * Bounds are kept as primitive doubles and compared directly.
+ */
+public class DoubleRule extends PrimitiveNumberRule {
+    /**
+     * Value to validate
+     */
+    private final double doubleValue;
+
+    /**
+     * Registered bounds, indexed like the bound bookkeeping of the base class
+     */
+    private double[] bounds = new double[2];
+
+    /**
+     * Text of each bound as it was given, for the default messages
+     */
+    private String[] boundTexts = new String[2];
+
+    /**
+     * DoubleRule constructor.
+     * @param value Value to validate
+     * @param name Field name
+     */
+    public DoubleRule(final double value, final String name) {
+        super(name);
+        this.doubleValue = value;
+    }
+
+    /**
+     * Validates that the number is at least the specified minimum value.
+     * The bound is compared as a double and reported as given, e.g. {@code 10} or {@code 2.1}.
+     * @param min Minimum value
+     * @return DoubleRule
+     */
+    @Override
+    public DoubleRule min(final Number min) {
+        return addBound(min, false);
+    }
+
+    /**
+     * Validates that the number is at most the specified maximum value.
+     * The bound is compared as a double and reported as given, e.g. {@code 10} or {@code 2.1}.
+     * @param max Maximum value
+     * @return DoubleRule
+     */
+    @Override
+    public DoubleRule max(final Number max) {
+        return addBound(max, true);
+    }
+
+    /**
+     * Validates that the number is between min and max, inclusive.
+     * @param min Minimum value
+     * @param max Maximum value
+     * @return DoubleRule
+     */
+    public DoubleRule range(final Number min, final Number max) {
+        return min(min).max(max);
+    }
+
+    /**
+     * Registers a primitive bound, with its twin constraint on the boxed value.
+     * The text of the given number is kept for the default message, so that a float or an
+     * integer bound is not reported with the digits of its double conversion.
+     * @param value Bound value
+     * @param isUpper true for a maximum, false for a minimum
+     * @return DoubleRule
+     */
+    private DoubleRule addBound(final Number value, final boolean isUpper) {
+        double bound = value.doubleValue();
+        String text = String.valueOf(value);
+        int index = addBound(isUpper, isUpper ? val -> val.doubleValue() > bound : val -> val.doubleValue() < bound);
+        if (index == bounds.length) {
+            bounds = Arrays.copyOf(bounds, index * 2);
+            boundTexts = Arrays.copyOf(boundTexts, index * 2);
+        }
+        bounds[index] = bound;
+        boundTexts[index] = text;
+        return this;
+    }
+
+    /**
+     * Evaluates the constraints against the current value without boxing it.
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A list of at most {@code maxViolations} validation violation messages
+     */
+    @Override
+    public List<String> getViolations(final int maxViolations) {
+        return evaluate(doubleValue, maxViolations);
+    }
+
+    /**
+     * Evaluates the constraints against the given boxed value.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A new list of at most {@code maxViolations} violation messages, or an immutable empty list if the value is valid
+     */
+    @Override
+    public List<String> evaluate(final Number candidate, final int maxViolations) {
+        if (candidate == null) {
+            return super.evaluate(null, maxViolations);
+        }
+        return evaluate(candidate.doubleValue(), maxViolations);
+    }
+
+    /**
+     * Evaluates the constraints against the given primitive value, reporting the messages of
+     * {@link #evaluate(double, int, String, Violations)}.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A new list of at most {@code maxViolations} violation messages, or an immutable empty list if the value is valid
+     */
+    public List<String> evaluate(final double candidate, final int maxViolations) {
+        Violations found = evaluate(candidate, maxViolations, getFieldName(), null);
+        return found == null ? List.of() : found.getMessages();
+    }
+
+    /**
+     * Evaluates the constraints against the given boxed value into a compact list of violations.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    @Override
+    public Violations evaluate(final Number candidate, final int maxViolations, final String path, final Violations violations) {
+        if (candidate == null) {
+            return super.evaluate(null, maxViolations, path, violations);
+        }
+        return evaluate(candidate.doubleValue(), maxViolations, path, violations);
+    }
+
+    /**
+     * Evaluates the constraints against the given primitive value into a compact list of violations.
+     * The value is only boxed if constraints other than the unguarded bounds were registered.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    public Violations evaluate(final double candidate, final int maxViolations, final String path, final Violations violations) {
+        if (needsBoxedValue()) {
+            return evaluateBoxed(violations, candidate, maxViolations, path);
+        }
+        Violations result = violations;
+        int added = 0;
+        int size = getBoundCount();
+        for (int i = 0; i < size; i++) {
+            if ((isUpper(i) ? candidate > bounds[i] : candidate < bounds[i])) {
+                result = addViolation(result, path, i);
+                if (++added >= maxViolations) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    Number boxedValue() {
+        return doubleValue;
+    }
+
+    @Override
+    Violations evaluateValue(final int maxViolations, final String path, final Violations violations) {
+        return evaluate(doubleValue, maxViolations, path, violations);
+    }
+
+    @Override
+    String formatBound(final int index) {
+        return boundTexts[index];
+    }
+
+    /**
+     * Validates that the value is not null. A primitive is never null,
+     * so this registers no constraint.
+     * @return the current rule
+     */
+    @Override
+    public DoubleRule required() {
+        super.required();
+        return this;
+    }
+
+    /**
+     * Activates validation groups for the {@link #group(String, Consumer)} blocks that follow.
+     * @param groups Names of the active groups
+     * @return the current rule
+     */
+    @Override
+    public DoubleRule activeGroups(final String... groups) {
+        super.activeGroups(groups);
+        return this;
+    }
+
+    /**
+     * Registers the constraints of a validation group, only if the group is active.
+     * @param group Name of the group
+     * @param rules Registers the constraints of the group on this rule
+     * @return the current rule
+     */
+    @Override
+    public DoubleRule group(final String group, final Consumer<NumberRule> rules) {
+        super.group(group, rules);
+        return this;
+    }
+
+    /**
+     * Registers constraints that only apply when a condition holds on the value.
+     * Bounds of the block are compared against the boxed value, as the condition is.
+     * @param condition Condition on the value, true when the constraints of the block apply
+     * @param rules Registers the constraints of the block on this rule
+     * @return the current rule
+     */
+    @Override
+    public DoubleRule when(final Predicate<Number> condition, final Consumer<NumberRule> rules) {
+        super.when(condition, rules);
+        return this;
+    }
+
+    /**
+     * Modifies the error message of the most recently added constraint.
+     * @param customMessage The new error message to assign to the last rule
+     * @return the current rule for chaining
+     */
+    @Override
+    public DoubleRule message(final String customMessage) {
+        super.message(customMessage);
+        return this;
+    }
+}
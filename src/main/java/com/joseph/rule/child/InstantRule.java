@@ -0,0 +1,25 @@
+package com.joseph.rule.child;
+
+import com.joseph.time.ValidationTime;
+
+import java.time.Instant;
+
+/**
+ * InstantRule handles validation for instants.
+ * Values are compared with the instant of the validation clock.
+ */
+public class InstantRule extends TemporalRule<Instant, InstantRule> {
+    /**
+     * InstantRule constructor.
+     * @param value Value to validate
+     * @param name Field name
+     */
+    public InstantRule(final Instant value, final String name) {
+        super(value, name);
+    }
+
+    @Override
+    protected int compareToNow(final Instant candidate, final ValidationTime now) {
+        return now.compare(candidate);
+    }
+}
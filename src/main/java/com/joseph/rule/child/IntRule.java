@@ -0,0 +1,265 @@
+package com.joseph.rule.child;
+
+import com.joseph.result.Violations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * IntRule validates a primitive int without boxing it.
+ * Bounds are kept as primitive ints and compared directly.
+ */
+public class IntRule extends PrimitiveNumberRule {
+    /**
+     * Value to validate
+     */
+    private final int intValue;
+
+    /**
+     * Registered bounds, indexed like the bound bookkeeping of the base class
+     */
+    private int[] bounds = new int[2];
+
+    /**
+     * IntRule constructor.
+     * @param value Value to validate
+     * @param name Field name
+     */
+    public IntRule(final int value, final String name) {
+        super(name);
+        this.intValue = value;
+    }
+
+    /**
+     * Validates that the number is at least the specified minimum value.
+     * @param min Minimum value
+     * @return IntRule
+     */
+    public IntRule min(final int min) {
+        return addBound(min, false);
+    }
+
+    /**
+     * Validates that the number is at most the specified maximum value.
+     * @param max Maximum value
+     * @return IntRule
+     */
+    public IntRule max(final int max) {
+        return addBound(max, true);
+    }
+
+    /**
+     * Validates that the number is at least the specified minimum value. An integral bound
+     * that fits an int is compared without boxing, like {@link #min(int)}, so that bounds
+     * registered in a {@code group} block, which receives a NumberRule, stay primitive.
+     * @param min Minimum value
+     * @return IntRule
+     */
+    @Override
+    public IntRule min(final Number min) {
+        if (isInt(min)) {
+            return min(min.intValue());
+        }
+        super.min(min);
+        return this;
+    }
+
+    /**
+     * Validates that the number is at most the specified maximum value. An integral bound
+     * that fits an int is compared without boxing, like {@link #max(int)}.
+     * @param max Maximum value
+     * @return IntRule
+     */
+    @Override
+    public IntRule max(final Number max) {
+        if (isInt(max)) {
+            return max(max.intValue());
+        }
+        super.max(max);
+        return this;
+    }
+
+    /**
+     * Validates that the number is between min and max, inclusive.
+     * @param min Minimum value
+     * @param max Maximum value
+     * @return IntRule
+     */
+    public IntRule range(final int min, final int max) {
+        return min(min).max(max);
+    }
+
+    private static boolean isInt(final Number bound) {
+        return bound instanceof Integer || bound instanceof Short || bound instanceof Byte
+                || bound instanceof Long && bound.longValue() == bound.intValue();
+    }
+
+    /**
+     * Registers a primitive bound, with its twin constraint on the boxed value.
+     * @param bound Bound value
+     * @param isUpper true for a maximum, false for a minimum
+     * @return IntRule
+     */
+    private IntRule addBound(final int bound, final boolean isUpper) {
+        int index = addBound(isUpper, isUpper ? val -> val.intValue() > bound : val -> val.intValue() < bound);
+        if (index == bounds.length) {
+            bounds = Arrays.copyOf(bounds, index * 2);
+        }
+        bounds[index] = bound;
+        return this;
+    }
+
+    /**
+     * Evaluates the constraints against the current value without boxing it.
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A list of at most {@code maxViolations} validation violation messages
+     */
+    @Override
+    public List<String> getViolations(final int maxViolations) {
+        return evaluate(intValue, maxViolations);
+    }
+
+    /**
+     * Evaluates the constraints against the given boxed value.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A new list of at most {@code maxViolations} violation messages, or an immutable empty list if the value is valid
+     */
+    @Override
+    public List<String> evaluate(final Number candidate, final int maxViolations) {
+        if (candidate == null) {
+            return super.evaluate(null, maxViolations);
+        }
+        return evaluate(candidate.intValue(), maxViolations);
+    }
+
+    /**
+     * Evaluates the constraints against the given primitive value, reporting the messages of
+     * {@link #evaluate(int, int, String, Violations)}.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A new list of at most {@code maxViolations} violation messages, or an immutable empty list if the value is valid
+     */
+    public List<String> evaluate(final int candidate, final int maxViolations) {
+        Violations found = evaluate(candidate, maxViolations, getFieldName(), null);
+        return found == null ? List.of() : found.getMessages();
+    }
+
+    /**
+     * Evaluates the constraints against the given boxed value into a compact list of violations.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    @Override
+    public Violations evaluate(final Number candidate, final int maxViolations, final String path, final Violations violations) {
+        if (candidate == null) {
+            return super.evaluate(null, maxViolations, path, violations);
+        }
+        return evaluate(candidate.intValue(), maxViolations, path, violations);
+    }
+
+    /**
+     * Evaluates the constraints against the given primitive value into a compact list of violations.
+     * The value is only boxed if constraints other than the unguarded bounds were registered.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    public Violations evaluate(final int candidate, final int maxViolations, final String path, final Violations violations) {
+        if (needsBoxedValue()) {
+            return evaluateBoxed(violations, candidate, maxViolations, path);
+        }
+        Violations result = violations;
+        int added = 0;
+        int size = getBoundCount();
+        for (int i = 0; i < size; i++) {
+            if ((isUpper(i) ? candidate > bounds[i] : candidate < bounds[i])) {
+                result = addViolation(result, path, i);
+                if (++added >= maxViolations) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    Number boxedValue() {
+        return intValue;
+    }
+
+    @Override
+    Violations evaluateValue(final int maxViolations, final String path, final Violations violations) {
+        return evaluate(intValue, maxViolations, path, violations);
+    }
+
+    @Override
+    String formatBound(final int index) {
+        return String.valueOf(bounds[index]);
+    }
+
+    /**
+     * Validates that the value is not null. A primitive is never null,
+     * so this registers no constraint.
+     * @return the current rule
+     */
+    @Override
+    public IntRule required() {
+        super.required();
+        return this;
+    }
+
+    /**
+     * Activates validation groups for the {@link #group(String, Consumer)} blocks that follow.
+     * @param groups Names of the active groups
+     * @return the current rule
+     */
+    @Override
+    public IntRule activeGroups(final String... groups) {
+        super.activeGroups(groups);
+        return this;
+    }
+
+    /**
+     * Registers the constraints of a validation group, only if the group is active.
+     * @param group Name of the group
+     * @param rules Registers the constraints of the group on this rule
+     * @return the current rule
+     */
+    @Override
+    public IntRule group(final String group, final Consumer<NumberRule> rules) {
+        super.group(group, rules);
+        return this;
+    }
+
+    /**
+     * Registers constraints that only apply when a condition holds on the value.
+     * Bounds of the block are compared against the boxed value, as the condition is.
+     * @param condition Condition on the value, true when the constraints of the block apply
+     * @param rules Registers the constraints of the block on this rule
+     * @return the current rule
+     */
+    @Override
+    public IntRule when(final Predicate<Number> condition, final Consumer<NumberRule> rules) {
+        super.when(condition, rules);
+        return this;
+    }
+
+    /**
+     * Modifies the error message of the most recently added constraint.
+     * @param customMessage The new error message to assign to the last rule
+     * @return the current rule for chaining
+     */
+    @Override
+    public IntRule message(final String customMessage) {
+        super.message(customMessage);
+        return this;
+    }
+}
@@ -23,7 +23,7 @@ public class NumberRule extends Rule<Number, NumberRule> {
      * @return NumberRule
      */
     public NumberRule min(final Number min) {
-        addConstraint(val -> val != null && val.doubleValue() < min.doubleValue(), "must be at least " + min);
+        addConstraint("MIN", val -> val != null && val.doubleValue() < min.doubleValue(), () -> "must be at least " + min);
         return this;
     }
 
@@ -33,7 +33,7 @@ public class NumberRule extends Rule<Number, NumberRule> {
      * @return NumberRule
      */
     public NumberRule max(final Number max) {
-        addConstraint(val -> val != null && val.doubleValue() > max.doubleValue(), "must be at most " + max);
+        addConstraint("MAX", val -> val != null && val.doubleValue() > max.doubleValue(), () -> "must be at most " + max);
         return this;
     }
 }
@@ -1,12 +1,278 @@
 package com.joseph.rule.child;
 
+import com.joseph.result.ErrorCollector;
+import com.joseph.result.Validator;
+import com.joseph.result.Violations;
+import com.joseph.rule.AsyncLookups;
 import com.joseph.rule.Rule;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 /**
  * ObjectRule handles validation for complex types using the base Rule functionality.
  * @param <T> Type of the value to validate
  */
 public class ObjectRule<T> extends Rule<T, ObjectRule<T>> {
+    /**
+     * Number of elements validated in parallel before the error limit is checked again
+     */
+    private static final int PARALLEL_BLOCK = 1024;
+
+    /**
+     * Element validations registered through {@link #each(BiFunction, Consumer)}, created on first use
+     */
+    private List<Each<?, ?>> elementValidations;
+
+    /**
+     * Nested validators registered through {@link #valid(Validator)}, created on first use
+     */
+    private List<Validator<? super T>> nestedValidations;
+
+    /**
+     * Errors of an element validated in parallel, relative to the element.
+     * @param index Index of the element
+     * @param errors Violations of the element, with paths relative to it
+     */
+    private record ElementErrors(int index, Violations errors) {
+    }
+
+    /**
+     * A nested validator registered in a {@code when} block, which only runs when the
+     * condition holds on the value.
+     * @param condition Condition on the value
+     * @param validator Nested validator
+     * @param <T> Type of the value
+     */
+    private record GuardedValidator<T>(Predicate<T> condition, Validator<? super T> validator) implements Validator<T> {
+        @Override
+        public void collect(final T instance, final ErrorCollector collector) {
+            if (condition.test(instance)) {
+                validator.collect(instance, collector);
+            }
+        }
+
+        @Override
+        public void startLookups(final T instance, final AsyncLookups lookups) {
+            if (condition.test(instance)) {
+                validator.startLookups(instance, lookups);
+            }
+        }
+    }
+
+    /**
+     * Validation of the elements of a collection against a single element rule.
+     * The element rule is only created and configured on the first evaluation and is then
+     * reused for every element, like a schema template.
+     * @param <E> Type of the elements
+     * @param <R> Type of the element rule
+     */
+    private static final class Each<E, R extends Rule<E, R>> {
+        private final String name;
+        private final BiFunction<E, String, R> factory;
+        private final Consumer<R> rules;
+        private int maxErrors = Integer.MAX_VALUE;
+        private int parallelThreshold = Integer.MAX_VALUE;
+        private Predicate<Object> guard;
+        private volatile R template;
+
+        Each(final String name, final BiFunction<E, String, R> factory, final Consumer<R> rules) {
+            this.name = name;
+            this.factory = factory;
+            this.rules = rules;
+        }
+
+        R template() {
+            R rule = template;
+            if (rule == null) {
+                rule = factory.apply(null, name);
+                rules.accept(rule);
+                template = rule;
+            }
+            return rule;
+        }
+
+        /**
+         * Restricts the validation to the values passing the condition of a {@code when} block.
+         * @param condition Condition on the value holding the elements
+         */
+        @SuppressWarnings("unchecked")
+        void guard(final Predicate<?> condition) {
+            Predicate<Object> outer = (Predicate<Object>) condition;
+            guard = guard == null ? outer : outer.and(guard);
+        }
+
+        /**
+         * Validates the elements of the value and appends the messages of the invalid ones.
+         * @param candidate Value holding the elements
+         * @param result Violations found so far, possibly immutable when empty
+         * @param maxViolations Maximum number of violations of the whole rule
+         * @return the violations
+         */
+        List<String> evaluate(final Object candidate, final List<String> result, final int maxViolations) {
+            if (guard != null && !guard.test(candidate)) {
+                return result;
+            }
+            int limit = (int) Math.min(maxErrors, (long) maxViolations - result.size());
+            if (candidate instanceof Collection<?> collection && collection.size() >= parallelThreshold) {
+                List<?> elements = collection instanceof List<?> list && list instanceof RandomAccess ? list : new ArrayList<>(collection);
+                return addAll(result, evaluateParallel(elements, limit));
+            }
+            List<String> violations = result;
+            int found = 0;
+            if (candidate instanceof List<?> list && list instanceof RandomAccess) {
+                for (int i = 0; i < list.size() && found < limit; i++) {
+                    int before = violations.size();
+                    violations = addElementErrors(violations, list.get(i), i, limit - found);
+                    found += violations.size() - before;
+                }
+            } else if (candidate instanceof Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
+                for (int i = 0; elements.hasNext() && found < limit; i++) {
+                    int before = violations.size();
+                    violations = addElementErrors(violations, elements.next(), i, limit - found);
+                    found += violations.size() - before;
+                }
+            }
+            return violations;
+        }
+
+        /**
+         * Starts the lookups of the async constraints of the element rule against every element.
+         * @param candidate Value holding the elements
+         * @param lookups Lookups of the validation
+         */
+        @SuppressWarnings("unchecked")
+        void startLookups(final Object candidate, final AsyncLookups lookups) {
+            if (candidate instanceof Iterable<?> iterable && (guard == null || guard.test(candidate))) {
+                R rule = template();
+                for (Object element : iterable) {
+                    rule.startLookups((E) element, lookups);
+                }
+            }
+        }
+
+        /**
+         * Validates the elements of the value, filing the errors of each element under its index
+         * below the collector's current path.
+         * @param candidate Value holding the elements
+         * @param collector Collector of the errors
+         */
+        void collect(final Object candidate, final ErrorCollector collector) {
+            if (guard != null && !guard.test(candidate)) {
+                return;
+            }
+            int previous = collector.limit(maxErrors);
+            if (candidate instanceof Collection<?> collection && collection.size() >= parallelThreshold) {
+                List<?> elements = collection instanceof List<?> list && list instanceof RandomAccess ? list : new ArrayList<>(collection);
+                collectParallel(elements, collector);
+            } else if (candidate instanceof List<?> list && list instanceof RandomAccess) {
+                for (int i = 0; i < list.size() && !collector.isFull(); i++) {
+                    collectElement(list.get(i), i, collector);
+                }
+            } else if (candidate instanceof Iterable<?> iterable) {
+                Iterator<?> elements = iterable.iterator();
+                for (int i = 0; elements.hasNext() && !collector.isFull(); i++) {
+                    collectElement(elements.next(), i, collector);
+                }
+            }
+            collector.restoreLimit(previous);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void collectElement(final Object element, final int index, final ErrorCollector collector) {
+            collector.push(index);
+            template().collect((E) element, collector);
+            collector.pop();
+        }
+
+        /**
+         * Validates the elements in parallel, block by block, so that no block is started
+         * once the collector is full.
+         * @param elements Elements to validate
+         * @param collector Collector of the errors
+         */
+        @SuppressWarnings("unchecked")
+        private void collectParallel(final List<?> elements, final ErrorCollector collector) {
+            R rule = template();
+            for (int from = 0; from < elements.size() && !collector.isFull(); from += PARALLEL_BLOCK) {
+                int limit = collector.getRemaining();
+                List<ElementErrors> failures = IntStream.range(from, Math.min(elements.size(), from + PARALLEL_BLOCK)).parallel()
+                        .mapToObj(i -> {
+                            ErrorCollector elementCollector = new ErrorCollector(limit);
+                            rule.collect((E) elements.get(i), elementCollector);
+                            return elementCollector.getCount() == 0 ? null : new ElementErrors(i, elementCollector.getViolations());
+                        })
+                        .filter(Objects::nonNull)
+                        .limit(limit)
+                        .collect(Collectors.toList());
+                for (int i = 0; i < failures.size() && !collector.isFull(); i++) {
+                    collector.push(failures.get(i).index());
+                    collector.addAll(failures.get(i).errors());
+                    collector.pop();
+                }
+            }
+        }
+
+        /**
+         * Validates the elements in parallel, block by block, so that no block is started
+         * once the limit is reached.
+         * @param elements Elements to validate
+         * @param limit Maximum number of element errors
+         * @return the messages of the invalid elements, in element order
+         */
+        private List<String> evaluateParallel(final List<?> elements, final int limit) {
+            R rule = template();
+            List<String> violations = new ArrayList<>();
+            for (int from = 0; from < elements.size() && violations.size() < limit; from += PARALLEL_BLOCK) {
+                int remaining = limit - violations.size();
+                IntStream.range(from, Math.min(elements.size(), from + PARALLEL_BLOCK)).parallel()
+                        .mapToObj(i -> addElementErrors(List.of(), rule, elements.get(i), i, remaining))
+                        .flatMap(List::stream)
+                        .limit(remaining)
+                        .forEachOrdered(violations::add);
+            }
+            return violations;
+        }
+
+        private List<String> addElementErrors(final List<String> result, final Object element, final int index, final int limit) {
+            return addElementErrors(result, template(), element, index, limit);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<String> addElementErrors(final List<String> result, final R rule, final Object element, final int index, final int limit) {
+            List<String> errors = rule.evaluate((E) element, limit);
+            if (errors.isEmpty()) {
+                return result;
+            }
+            List<String> violations = result.isEmpty() ? new ArrayList<>() : result;
+            String path = "[" + index + "] ";
+            for (int i = 0; i < errors.size(); i++) {
+                violations.add(path + errors.get(i));
+            }
+            return violations;
+        }
+
+        private static List<String> addAll(final List<String> result, final List<String> errors) {
+            if (errors.isEmpty()) {
+                return result;
+            }
+            List<String> violations = result.isEmpty() ? new ArrayList<>() : result;
+            violations.addAll(errors);
+            return violations;
+        }
+    }
+
     /**
      * ObjectRule constructor.
      * @param value Value to validate
@@ -18,9 +284,12 @@ public class ObjectRule<T> extends Rule<T, ObjectRule<T>> {
 
     /**
      * Iterates over the list and validates each item.
+     * The items are visited immediately, when the rule is built.
      * @param itemValidator Validator for each item
      * @return the current rule
+     * @deprecated use {@link #each(BiFunction, Consumer)}, which is typed, lazy and collects the element errors
      */
+    @Deprecated
     public ObjectRule<T> forEach(final java.util.function.BiConsumer<Object, Integer> itemValidator) {
         if (value instanceof Iterable<?> list) {
             int i = 0;
@@ -31,13 +300,296 @@ public class ObjectRule<T> extends Rule<T, ObjectRule<T>> {
         return this;
     }
 
+    /**
+     * Validates each element of the collection against an element rule, e.g.
+     * {@code each(StringRule::new, s -> s.required().email())}. The element rule is built on
+     * the first evaluation and reused for every element. The messages of an invalid element
+     * are prefixed with its index, such as {@code [42] must be a valid email}.
+     * Values that are not iterable are ignored.
+     * @param factory Element rule constructor, such as {@code StringRule::new}
+     * @param rules Configures the element rule
+     * @param <E> Type of the elements
+     * @param <R> Type of the element rule
+     * @return the current rule
+     */
+    public <E, R extends Rule<E, R>> ObjectRule<T> each(final BiFunction<E, String, R> factory, final Consumer<R> rules) {
+        if (elementValidations == null) {
+            elementValidations = new ArrayList<>();
+        }
+        elementValidations.add(new Each<>(fieldName, Objects.requireNonNull(factory), Objects.requireNonNull(rules)));
+        return this;
+    }
+
+    /**
+     * Validates the value against a nested validator, such as the schema of a nested record,
+     * e.g. {@code Rule.on(address, "address").required().valid(ADDRESS_SCHEMA)}. Unlike
+     * {@link #check(Consumer)} no exception is thrown: through {@link #collect(ErrorCollector)},
+     * as used by {@code RecordRules} and schemas, the nested errors are filed under hierarchical
+     * paths such as {@code address.zip}. In the list returned by {@link #getViolations()} they
+     * are flattened to messages such as {@code zip [must match pattern \d{5}]}.
+     * A null value is not validated.
+     * @param validator Nested validator
+     * @return the current rule
+     */
+    public ObjectRule<T> valid(final Validator<? super T> validator) {
+        if (nestedValidations == null) {
+            nestedValidations = new ArrayList<>();
+        }
+        nestedValidations.add(Objects.requireNonNull(validator));
+        return this;
+    }
+
+    /**
+     * Validates each element of the collection against a nested validator, typically the schema
+     * of the elements, e.g. {@code each(ITEM_SCHEMA)}. Through {@link #collect(ErrorCollector)}
+     * the errors are filed under paths such as {@code items[42].sku}, without exceptions.
+     * Null elements are not validated.
+     * @param validator Validator of the elements
+     * @param <E> Type of the elements
+     * @return the current rule
+     */
+    public <E> ObjectRule<T> each(final Validator<? super E> validator) {
+        Objects.requireNonNull(validator);
+        return each(ObjectRule<E>::new, rule -> rule.valid(validator));
+    }
+
+    /**
+     * Limits the number of element errors collected by the most recent {@link #each(BiFunction, Consumer)}.
+     * The remaining elements are not validated once the limit is reached.
+     * @param max Maximum number of element errors, at least 1
+     * @return the current rule
+     */
+    public ObjectRule<T> maxElementErrors(final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException("maxElementErrors must be positive: " + max);
+        }
+        lastEach().maxErrors = max;
+        return this;
+    }
+
+    /**
+     * Validates the elements of the most recent {@link #each(BiFunction, Consumer)} in parallel on
+     * the common fork/join pool when the collection has at least the given number of elements.
+     * Smaller collections are validated sequentially. The collected errors are the same in both
+     * modes, in element order. The elements are validated in blocks of 1024 and no block is
+     * started once the error limit is reached, so at most one block is validated past the limit.
+     * @param threshold Minimum number of elements for a parallel validation, at least 1
+     * @return the current rule
+     */
+    public ObjectRule<T> parallel(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("parallel threshold must be positive: " + threshold);
+        }
+        lastEach().parallelThreshold = threshold;
+        return this;
+    }
+
+    private Each<?, ?> lastEach() {
+        if (elementValidations == null) {
+            throw new IllegalStateException("each(...) must be called first");
+        }
+        return elementValidations.get(elementValidations.size() - 1);
+    }
+
+    /**
+     * Registers constraints that only apply when a condition holds on the value. The element
+     * validations of {@link #each(BiFunction, Consumer)} and the nested validations of
+     * {@link #valid(Validator)} registered in the block are guarded too.
+     * @param condition Condition on the value, true when the constraints of the block apply
+     * @param rules Registers the constraints of the block on this rule
+     * @return the current rule
+     */
+    @Override
+    public ObjectRule<T> when(final Predicate<T> condition, final Consumer<ObjectRule<T>> rules) {
+        int eachFrom = elementValidations == null ? 0 : elementValidations.size();
+        int nestedFrom = nestedValidations == null ? 0 : nestedValidations.size();
+        super.when(condition, rules);
+        if (elementValidations != null) {
+            for (int i = eachFrom; i < elementValidations.size(); i++) {
+                elementValidations.get(i).guard(condition);
+            }
+        }
+        if (nestedValidations != null) {
+            for (int i = nestedFrom; i < nestedValidations.size(); i++) {
+                nestedValidations.set(i, new GuardedValidator<>(condition, nestedValidations.get(i)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Evaluates the constraints and nested validators, then validates the elements
+     * registered through {@link #each(BiFunction, Consumer)}.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to collect, at least 1
+     * @return A new list of at most {@code maxViolations} violation messages, or an immutable empty list if the value is valid
+     */
+    @Override
+    public List<String> evaluate(final T candidate, final int maxViolations) {
+        List<String> result = super.evaluate(candidate, maxViolations);
+        if (elementValidations != null && candidate != null) {
+            for (int i = 0; i < elementValidations.size() && result.size() < maxViolations; i++) {
+                result = elementValidations.get(i).evaluate(candidate, result, maxViolations);
+            }
+        }
+        if (nestedValidations != null && candidate != null && result.size() < maxViolations) {
+            ErrorCollector nested = new ErrorCollector(maxViolations - result.size());
+            for (int i = 0; i < nestedValidations.size() && !nested.isFull(); i++) {
+                nestedValidations.get(i).collect(candidate, nested);
+            }
+            if (nested.getCount() > 0) {
+                List<String> violations = result.isEmpty() ? new ArrayList<>() : result;
+                for (Map.Entry<String, List<String>> entry : nested.getErrors().entrySet()) {
+                    violations.add(entry.getKey() + " " + entry.getValue());
+                }
+                result = violations;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the constraints and nested validators into a compact list of violations, then
+     * files the errors of the elements and nested validations under child paths of the given
+     * one, e.g. {@code items[42].sku}, with the {@link Violations#NESTED} code.
+     * @param candidate Value to validate
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    @Override
+    public Violations evaluate(final T candidate, final int maxViolations, final String path, final Violations violations) {
+        int before = violations == null ? 0 : violations.size();
+        Violations result = super.evaluate(candidate, maxViolations, path, violations);
+        int remaining = maxViolations - (result == null ? 0 : result.size() - before);
+        if (candidate == null || !isComposite() || remaining <= 0) {
+            return result;
+        }
+        ErrorCollector nested = new ErrorCollector(remaining, result, Violations.NESTED);
+        nested.push(path);
+        if (elementValidations != null) {
+            for (int i = 0; i < elementValidations.size() && !nested.isFull(); i++) {
+                elementValidations.get(i).collect(candidate, nested);
+            }
+        }
+        if (nestedValidations != null) {
+            for (int i = 0; i < nestedValidations.size() && !nested.isFull(); i++) {
+                nestedValidations.get(i).collect(candidate, nested);
+            }
+        }
+        return result != null ? result : nested.getViolations();
+    }
+
+    /**
+     * Evaluates the constraints and nested validators under the collector's current path, then
+     * files the errors of the elements under their index, e.g. {@code items[42]}, and the errors
+     * of the nested validators under their own paths, e.g. {@code address.zip}.
+     * @param candidate Value to validate
+     * @param collector Collector of the errors
+     */
+    @Override
+    public void collect(final T candidate, final ErrorCollector collector) {
+        if (collector.isFull()) {
+            return;
+        }
+        Violations found = super.evaluate(candidate, collector.getRemaining(), "", null);
+        if (found != null) {
+            collector.addAll(found);
+        }
+        if (candidate == null) {
+            return;
+        }
+        if (elementValidations != null) {
+            for (int i = 0; i < elementValidations.size() && !collector.isFull(); i++) {
+                elementValidations.get(i).collect(candidate, collector);
+            }
+        }
+        if (nestedValidations != null) {
+            for (int i = 0; i < nestedValidations.size() && !collector.isFull(); i++) {
+                nestedValidations.get(i).collect(candidate, collector);
+            }
+        }
+    }
+
+    /**
+     * Tells whether the value passes the constraints, then the element and nested validations,
+     * stopping at the first failure.
+     * @param candidate Value to validate
+     * @return true if the value is valid
+     */
+    @Override
+    public boolean isValid(final T candidate) {
+        if (!super.isValid(candidate)) {
+            return false;
+        }
+        if (candidate == null || !isComposite()) {
+            return true;
+        }
+        ErrorCollector collector = new ErrorCollector(1);
+        collect(candidate, collector);
+        return collector.getCount() == 0;
+    }
+
+    /**
+     * Estimates the cost of evaluating the rule against its value: the constraints, the
+     * nested validations, and the cost of the element rule for each element of the collection.
+     * @return the estimated cost
+     */
+    @Override
+    public long estimateCost() {
+        long cost = super.estimateCost();
+        if (nestedValidations != null) {
+            cost += (long) EXPENSIVE_CHECK_COST * nestedValidations.size();
+        }
+        if (elementValidations != null && value instanceof Collection<?> collection) {
+            for (int i = 0; i < elementValidations.size(); i++) {
+                cost += collection.size() * elementValidations.get(i).template().estimateCost();
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Whether elements or nested validators are validated.
+     * @return true if {@link #each(BiFunction, Consumer)} or {@link #valid(Validator)} was used
+     */
+    @Override
+    public boolean isComposite() {
+        return elementValidations != null || nestedValidations != null;
+    }
+
+    /**
+     * Starts the lookups of the async constraints against the given value, then those of the
+     * element rules against each element and those of the nested validators.
+     * @param candidate Value to validate
+     * @param lookups Lookups of the validation
+     */
+    @Override
+    public void startLookups(final T candidate, final AsyncLookups lookups) {
+        super.startLookups(candidate, lookups);
+        if (candidate == null) {
+            return;
+        }
+        if (elementValidations != null) {
+            for (int i = 0; i < elementValidations.size(); i++) {
+                elementValidations.get(i).startLookups(candidate, lookups);
+            }
+        }
+        if (nestedValidations != null) {
+            for (int i = 0; i < nestedValidations.size(); i++) {
+                nestedValidations.get(i).startLookups(candidate, lookups);
+            }
+        }
+    }
+
     /**
      * Validates that the collection has at least the given size.
      * @param min Minimum size
      * @return the current rule
      */
     public ObjectRule<T> minSize(final int min) {
-        addConstraint(val -> val instanceof java.util.Collection<?> col && col.size() < min, "must have at least " + min + " items");
+        addConstraint("MIN_SIZE", val -> val instanceof java.util.Collection<?> col && col.size() < min, () -> "must have at least " + min + " items");
         return this;
     }
 
@@ -47,8 +599,8 @@ public class ObjectRule<T> extends Rule<T, ObjectRule<T>> {
      * @return the current rule
      */
     public ObjectRule<T> maxSize(final int max) {
-        addConstraint(val -> val instanceof java.util.Collection<?> col && col.size() > max, "must have at most " + max + " items");
+        addConstraint("MAX_SIZE", val -> val instanceof java.util.Collection<?> col && col.size() > max, () -> "must have at most " + max + " items");
         return this;
     }
 
-}
\ No newline at end of file
+}
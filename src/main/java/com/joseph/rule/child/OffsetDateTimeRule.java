@@ -0,0 +1,25 @@
+package com.joseph.rule.child;
+
+import com.joseph.time.ValidationTime;
+
+import java.time.OffsetDateTime;
+
+/**
+ * OffsetDateTimeRule handles validation for date-times with an offset.
+ * Values are compared with the instant of the validation clock, whatever their offset.
+ */
+public class OffsetDateTimeRule extends TemporalRule<OffsetDateTime, OffsetDateTimeRule> {
+    /**
+     * OffsetDateTimeRule constructor.
+     * @param value Value to validate
+     * @param name Field name
+     */
+    public OffsetDateTimeRule(final OffsetDateTime value, final String name) {
+        super(value, name);
+    }
+
+    @Override
+    protected int compareToNow(final OffsetDateTime candidate, final ValidationTime now) {
+        return now.compare(candidate);
+    }
+}
@@ -0,0 +1,294 @@
+package com.joseph.rule.child;
+
+import com.joseph.result.ErrorCollector;
+import com.joseph.result.Violations;
+import com.joseph.rule.AsyncLookups;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * PrimitiveNumberRule is the shared base of the rules that validate a primitive number.
+ * Subclasses keep the value and the bounds as primitives; this class keeps the
+ * bookkeeping of the bounds and their messages. Each bound is also registered as an
+ * inherited constraint on the boxed value, its twin. While the rule only has unguarded
+ * bounds, they are compared without boxing; once constraints inherited from NumberRule and
+ * Rule, guarded bounds or nested validators are registered, the value is boxed and every
+ * constraint, twins included, is evaluated by Rule, in declaration order.
+ */
+abstract class PrimitiveNumberRule extends NumberRule {
+    /**
+     * Marker for "no bound is the target of {@link #message(String)}"
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Whether each bound is an upper (max) or a lower (min) bound
+     */
+    private boolean[] upper = new boolean[2];
+
+    /**
+     * Custom message of each bound, null to use the default message
+     */
+    private String[] messages = new String[2];
+
+    /**
+     * Default message of each bound, rendered on its first failure
+     */
+    private String[] defaultMessages = new String[2];
+
+    /**
+     * Number of registered bounds
+     */
+    private int size;
+
+    /**
+     * Bound whose message is replaced by {@link #message(String)}
+     */
+    private int messageTarget = NONE;
+
+    /**
+     * Number of inherited constraints when the last bound was registered
+     */
+    private int constraintMark;
+
+    /**
+     * Nesting depth of the {@link #when(Predicate, Consumer)} blocks being registered
+     */
+    private int conditionalDepth;
+
+    /**
+     * Number of bounds registered in {@link #when(Predicate, Consumer)} blocks, whose condition needs the boxed value
+     */
+    private int conditionalBounds;
+
+    /**
+     * Renders the message of a failed bound, whose index is the argument of the violation
+     */
+    private final Violations.Message boundMessage = index -> messageOf((int) index);
+
+    /**
+     * PrimitiveNumberRule constructor.
+     * @param name Field name
+     */
+    PrimitiveNumberRule(final String name) {
+        super(null, name);
+    }
+
+    /**
+     * Registers a bound and its twin constraint on the boxed value, and returns its index.
+     * Within a {@link #when(Predicate, Consumer)} block, the block guards the twin like any
+     * other constraint.
+     * @param isUpper true for a maximum, false for a minimum
+     * @param exceeds Tells whether the boxed value is beyond the bound, compared unboxed
+     * @return the index of the new bound
+     */
+    final int addBound(final boolean isUpper, final Predicate<Number> exceeds) {
+        if (size == upper.length) {
+            upper = Arrays.copyOf(upper, size * 2);
+            messages = Arrays.copyOf(messages, size * 2);
+            defaultMessages = Arrays.copyOf(defaultMessages, size * 2);
+        }
+        int index = size++;
+        upper[index] = isUpper;
+        if (isConditional()) {
+            conditionalBounds++;
+        }
+        addConstraint(isUpper ? "MAX" : "MIN", exceeds, () -> messageOf(index));
+        messageTarget = index;
+        constraintMark = getConstraintCount();
+        return index;
+    }
+
+    /**
+     * Gets the number of registered bounds.
+     * @return the number of bounds
+     */
+    final int getBoundCount() {
+        return size;
+    }
+
+    /**
+     * Whether the bound at the index is an upper bound.
+     * @param index Index of the bound
+     * @return true for a maximum, false for a minimum
+     */
+    final boolean isUpper(final int index) {
+        return upper[index];
+    }
+
+    /**
+     * Whether a {@link #when(Predicate, Consumer)} block is being registered.
+     * @return true within a conditional block
+     */
+    private boolean isConditional() {
+        return conditionalDepth > 0;
+    }
+
+    /**
+     * Registers constraints that only apply when a condition holds on the value. The block
+     * receives this rule as a NumberRule, whose {@code min(Number)} and {@code max(Number)}
+     * register bounds of this rule. Since the condition tests the boxed value, a rule with a
+     * conditional block is evaluated boxed.
+     * @param condition Condition on the value, true when the constraints of the block apply
+     * @param rules Registers the constraints of the block on this rule
+     * @return the current rule
+     */
+    @Override
+    public NumberRule when(final Predicate<Number> condition, final Consumer<NumberRule> rules) {
+        conditionalDepth++;
+        try {
+            super.when(condition, rules);
+        } finally {
+            conditionalDepth--;
+        }
+        return this;
+    }
+
+    /**
+     * Gets the value of this rule, boxed for the inherited constraints.
+     * @return the boxed value
+     */
+    abstract Number boxedValue();
+
+    /**
+     * Evaluates the constraints against the primitive value of this rule into a compact list of violations.
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @param violations Violations found so far, or null to create the list on the first violation
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    abstract Violations evaluateValue(int maxViolations, String path, Violations violations);
+
+    /**
+     * Formats a bound value for its default message.
+     * @param index Index of the bound
+     * @return the bound value as a string
+     */
+    abstract String formatBound(int index);
+
+    /**
+     * Gets the message of a bound. The default message is rendered on the first failure and
+     * then kept, so every failure of a shared rule template reports the same string.
+     * @param index Index of the bound
+     * @return the error message
+     */
+    private String messageOf(final int index) {
+        if (messages[index] != null) {
+            return messages[index];
+        }
+        String message = defaultMessages[index];
+        if (message == null) {
+            message = (upper[index] ? "must be at most " : "must be at least ") + formatBound(index);
+            defaultMessages[index] = message;
+        }
+        return message;
+    }
+
+    /**
+     * Adds a failed bound to a compact list of violations, creating it on the first violation.
+     * The message is rendered on request from the index of the bound.
+     * @param result Violations found so far, may be null
+     * @param path Field name or path of the violation
+     * @param index Index of the failed bound
+     * @return the list of violations
+     */
+    final Violations addViolation(final Violations result, final String path, final int index) {
+        Violations violations = result == null ? new Violations() : result;
+        String code = upper[index] ? "MAX" : "MIN";
+        reportViolation(code);
+        violations.add(path, code, boundMessage, index);
+        return violations;
+    }
+
+    /**
+     * Evaluates every constraint, the twins of the bounds included, against the boxed value
+     * into a compact list of violations, in declaration order.
+     * @param result Violations found so far, may be null
+     * @param boxed Boxed value
+     * @param maxViolations Maximum number of violations to add, at least 1
+     * @param path Field name or path of the violations
+     * @return the list of violations, or null if it was null and the value is valid
+     */
+    final Violations evaluateBoxed(final Violations result, final Number boxed, final int maxViolations, final String path) {
+        return super.evaluate(boxed, maxViolations, path, result);
+    }
+
+    /**
+     * Whether the evaluation needs the boxed value: constraints other than the bounds,
+     * bounds guarded by a condition, or nested validators were registered.
+     * @return false if only unguarded bounds were registered, which are compared unboxed
+     */
+    final boolean needsBoxedValue() {
+        return getConstraintCount() != size || conditionalBounds > 0 || hasNestedValidators();
+    }
+
+    /**
+     * Evaluates the rule against its own primitive value, filing the errors under the field
+     * name below the collector's current path.
+     * @param collector Collector of the errors
+     */
+    @Override
+    public void collect(final ErrorCollector collector) {
+        collector.push(getFieldName());
+        if (!collector.isFull()) {
+            Violations found = evaluateValue(collector.getRemaining(), "", null);
+            if (found != null) {
+                collector.addAll(found);
+            }
+        }
+        collector.pop();
+    }
+
+    /**
+     * Starts the lookups of the async constraints against the value of this rule,
+     * which is only boxed if constraints other than the bounds were registered.
+     * @param lookups Lookups of the validation
+     */
+    @Override
+    public void startLookups(final AsyncLookups lookups) {
+        if (needsBoxedValue()) {
+            startLookups(boxedValue(), lookups);
+        }
+    }
+
+    /**
+     * Tells whether the value passes the bounds and every inherited constraint.
+     * @param candidate Value to validate
+     * @return true if the value is valid
+     */
+    @Override
+    public boolean isValid(final Number candidate) {
+        return evaluate(candidate, 1).isEmpty();
+    }
+
+    /**
+     * Validates that the value is not null. A primitive is never null,
+     * so this registers no constraint.
+     * @return the current rule
+     */
+    @Override
+    public NumberRule required() {
+        messageTarget = NONE;
+        constraintMark = getConstraintCount();
+        return this;
+    }
+
+    /**
+     * Modifies the error message of the most recently added constraint,
+     * which may be a bound, along with its twin, or an inherited constraint.
+     * @param customMessage The new error message to assign to the last rule
+     * @return the current rule for chaining
+     */
+    @Override
+    public NumberRule message(final String customMessage) {
+        if (getConstraintCount() != constraintMark) {
+            super.message(customMessage);
+        } else if (messageTarget != NONE) {
+            messages[messageTarget] = customMessage;
+            super.message(customMessage);
+        }
+        return this;
+    }
+}
@@ -1,15 +1,24 @@
 package com.joseph.rule.child;
 
+import com.joseph.cache.PatternCache;
 import com.joseph.rule.Rule;
 
 import java.util.regex.Pattern;
 
 /**
  * StringRule is a rule that validates a string.
+ * Emails are checked by a single pass scanner accepting the same language as {@link #EMAIL_REGEX};
+ * the regex can be used instead, either with {@link #setEmailRegexEnabled(boolean)} or by starting
+ * the JVM with {@code -Drecordrules.emailRegex=true}.
  */
 public class StringRule extends Rule<String, StringRule> {
     private static final Pattern EMAIL_REGEX = Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE);
 
+    /**
+     * Whether emails are checked with {@link #EMAIL_REGEX} rather than the scanner
+     */
+    private static volatile boolean emailRegexEnabled = Boolean.getBoolean("recordrules.emailRegex");
+
     /**
      * StringRule constructor.
      * @param value Value to validate
@@ -24,7 +33,7 @@ public class StringRule extends Rule<String, StringRule> {
      * @return StringRule
      */
     public StringRule notBlank() {
-        addConstraint(val -> val != null && val.isBlank(), "must not be blank");
+        addConstraint("NOT_BLANK", val -> val != null && val.isBlank(), "must not be blank");
         return this;
     }
 
@@ -33,17 +42,93 @@ public class StringRule extends Rule<String, StringRule> {
      * @return StringRule
      */
     public StringRule email() {
-        addConstraint(val -> val != null && !EMAIL_REGEX.matcher(val).matches(), "must be a valid email");
+        addConstraint("EMAIL", val -> val != null && !isEmail(val), "must be a valid email");
         return this;
     }
 
+    /**
+     * Whether the string is a valid email, as checked by {@link #email()}.
+     * @param value String to check, not null
+     * @return true if the string is a valid email
+     */
+    public static boolean isEmail(final String value) {
+        return emailRegexEnabled ? matchesEmailRegex(value) : scanEmail(value);
+    }
+
+    /**
+     * Checks emails with the regex rather than the scanner, for every later validation.
+     * @param enabled true to use the regex
+     */
+    public static void setEmailRegexEnabled(final boolean enabled) {
+        emailRegexEnabled = enabled;
+    }
+
+    /**
+     * Whether emails are checked with the regex.
+     * @return true if the regex is used instead of the scanner
+     */
+    public static boolean isEmailRegexEnabled() {
+        return emailRegexEnabled;
+    }
+
+    static boolean matchesEmailRegex(final String value) {
+        return EMAIL_REGEX.matcher(value).matches();
+    }
+
+    /**
+     * Scans an email in one pass, without backtracking: a non-empty local part of
+     * {@code [A-Za-z0-9._%+-]}, an {@code @}, then a domain of {@code [A-Za-z0-9.-]} whose last
+     * dot is not its first character and is followed by 2 to 6 ASCII letters.
+     * @param value String to check, not null
+     * @return true if {@link #EMAIL_REGEX} matches the whole string
+     */
+    static boolean scanEmail(final String value) {
+        int length = value.length();
+        int at = -1;
+        int lastDot = -1;
+        boolean lettersOnly = true;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            boolean letterOrDigit = c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+            if (at < 0) {
+                if (c == '@') {
+                    if (i == 0) {
+                        return false;
+                    }
+                    at = i;
+                } else if (!letterOrDigit && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+                lettersOnly = true;
+            } else if (c == '-' || c >= '0' && c <= '9') {
+                lettersOnly = false;
+            } else if (!letterOrDigit) {
+                return false;
+            }
+        }
+        int topLevel = length - lastDot - 1;
+        return at >= 0 && lastDot > at + 1 && lettersOnly && topLevel >= 2 && topLevel <= 6;
+    }
+
     /**
      * Validates that the string matches the specified regex.
+     * The regex is compiled once and shared through the {@link PatternCache}.
      * @param regex Regex to match
      * @return StringRule
      */
     public StringRule matches(final String regex) {
-        addConstraint(val -> val != null && !Pattern.matches(regex, val), "must match pattern " + regex);
+        return matches(PatternCache.compile(regex));
+    }
+
+    /**
+     * Validates that the string matches the specified precompiled pattern.
+     * @param pattern Pattern to match
+     * @return StringRule
+     */
+    public StringRule matches(final Pattern pattern) {
+        addConstraint("MATCHES", val -> val != null && !pattern.matcher(val).matches(), () -> "must match pattern " + pattern.pattern());
         return this;
     }
 
@@ -54,7 +139,7 @@ public class StringRule extends Rule<String, StringRule> {
      * @return StringRule
      */
     public StringRule length(final int min, final int max) {
-        addConstraint(val -> val != null && (val.length() < min || val.length() > max), "must be between " + min + " and " + max + " characters");
+        addConstraint("LENGTH", val -> val != null && (val.length() < min || val.length() > max), () -> "must be between " + min + " and " + max + " characters");
         return this;
     }
 
@@ -0,0 +1,67 @@
+package com.joseph.rule.child;
+
+import com.joseph.rule.Rule;
+import com.joseph.time.ValidationClock;
+import com.joseph.time.ValidationTime;
+
+/**
+ * TemporalRule is the shared base of the rules that validate a date or a time against "now".
+ * "Now" comes from the {@link ValidationClock}, and is read once for a whole validation pass:
+ * every entry point of {@code RecordRules} and {@code Schema} runs one, with the clock it was
+ * given, e.g. a fixed clock in tests, or the global clock.
+ * The value is compared with the precomputed epoch fields of a {@link ValidationTime}.
+ * @param <T> Type of the value to validate
+ * @param <R> Type of the rule
+ */
+public abstract class TemporalRule<T, R extends TemporalRule<T, R>> extends Rule<T, R> {
+    /**
+     * TemporalRule constructor.
+     * @param value Value to validate
+     * @param name Field name
+     */
+    protected TemporalRule(final T value, final String name) {
+        super(value, name);
+    }
+
+    /**
+     * Compares a value with the current time.
+     * @param candidate Value to compare, not null
+     * @param now Current time
+     * @return negative, zero or positive if the value is before, at or after now
+     */
+    protected abstract int compareToNow(T candidate, ValidationTime now);
+
+    /**
+     * Gets the default message of {@link #isFuture()}.
+     * @return the message
+     */
+    protected String futureMessage() {
+        return "must be in the future";
+    }
+
+    /**
+     * Gets the default message of {@link #isPast()}.
+     * @return the message
+     */
+    protected String pastMessage() {
+        return "must be in the past";
+    }
+
+    /**
+     * Validates that the value is in the future.
+     * @return the current rule
+     */
+    public R isFuture() {
+        addConstraint("FUTURE", val -> val != null && compareToNow(val, ValidationClock.now()) <= 0, futureMessage());
+        return self();
+    }
+
+    /**
+     * Validates that the value is in the past.
+     * @return the current rule
+     */
+    public R isPast() {
+        addConstraint("PAST", val -> val != null && compareToNow(val, ValidationClock.now()) >= 0, pastMessage());
+        return self();
+    }
+}
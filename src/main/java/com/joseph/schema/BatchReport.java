@@ -0,0 +1,114 @@
+package com.joseph.schema;
+
+import com.joseph.result.Violations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BatchReport is the outcome of validating a batch of rows against a schema.
+ * The invalid rows are kept in two parallel arrays, sorted by row index, and at most
+ * the configured number of them are kept. Invalid rows beyond that cap are only counted.
+ * The errors of each row are kept as compact {@link Violations}; their map is built on request.
+ */
+public final class BatchReport {
+    /**
+     * Default maximum number of invalid rows whose errors are kept
+     */
+    public static final int DEFAULT_MAX_ERRORS = 10_000;
+
+    /**
+     * Number of validated rows
+     */
+    private final int rowCount;
+
+    /**
+     * Number of invalid rows, including the ones whose errors were not kept
+     */
+    private final long invalidCount;
+
+    /**
+     * Indexes of the kept invalid rows, ascending
+     */
+    private final int[] rows;
+
+    /**
+     * Errors of the kept invalid rows, parallel to {@link #rows}
+     */
+    private final Violations[] errors;
+
+    /**
+     * BatchReport constructor.
+     * @param rowCount Number of validated rows
+     * @param invalidCount Number of invalid rows
+     * @param rows Indexes of the kept invalid rows, ascending
+     * @param errors Errors of the kept invalid rows
+     */
+    BatchReport(final int rowCount, final long invalidCount, final int[] rows, final Violations[] errors) {
+        this.rowCount = rowCount;
+        this.invalidCount = invalidCount;
+        this.rows = rows;
+        this.errors = errors;
+    }
+
+    /**
+     * Whether every row is valid.
+     * @return true if no row failed validation
+     */
+    public boolean isValid() {
+        return invalidCount == 0;
+    }
+
+    /**
+     * Gets the number of validated rows.
+     * @return the row count
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of invalid rows, including the ones beyond the error cap.
+     * @return the invalid row count
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Whether invalid rows were dropped from the report because of the error cap.
+     * @return true if the report holds fewer rows than failed
+     */
+    public boolean isTruncated() {
+        return rows.length < invalidCount;
+    }
+
+    /**
+     * Gets the indexes of the invalid rows kept in the report, which are the first ones
+     * in row order.
+     * @return a copy of the row indexes, ascending
+     */
+    public int[] getInvalidRows() {
+        return rows.clone();
+    }
+
+    /**
+     * Gets the errors of a row.
+     * @param row Row index
+     * @return Map of field names to list of error messages, empty if the row is valid or was not kept
+     */
+    public Map<String, List<String>> getErrors(final int row) {
+        return getViolations(row).getErrors();
+    }
+
+    /**
+     * Gets the compact violations of a row, with the code of each failed constraint.
+     * @param row Row index
+     * @return the violations, empty if the row is valid or was not kept
+     */
+    public Violations getViolations(final int row) {
+        int index = Arrays.binarySearch(rows, row);
+        return index < 0 ? Violations.none() : errors[index];
+    }
+}
@@ -0,0 +1,144 @@
+package com.joseph.schema;
+
+import com.joseph.result.Violations;
+import com.joseph.time.ValidationClock;
+import com.joseph.time.ValidationTime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * BatchTask validates a range of rows on a fork/join pool. Ranges are split in halves
+ * until they are small enough to validate sequentially, and the partial results are merged
+ * back in row order, keeping only the first invalid rows up to the error cap.
+ * Every range is validated with the time of the batch pinned, so all rows see the same "now".
+ * @param <T> Type of the validated rows
+ */
+final class BatchTask<T> extends RecursiveTask<BatchTask.Partial> {
+    /**
+     * Serialization version, inherited from ForkJoinTask although tasks are never serialized
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Ranges of at most this many rows are validated sequentially
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    /**
+     * Schema applied to each row
+     */
+    private final Schema<T> schema;
+
+    /**
+     * Rows to validate, random access
+     */
+    private final List<T> rows;
+
+    /**
+     * First row of the range, inclusive
+     */
+    private final int from;
+
+    /**
+     * Last row of the range, exclusive
+     */
+    private final int to;
+
+    /**
+     * Maximum number of invalid rows whose errors are kept
+     */
+    private final int maxErrors;
+
+    /**
+     * Time of the batch, seen by every temporal check
+     */
+    private final ValidationTime now;
+
+    /**
+     * Invalid rows of a range, in row order.
+     */
+    static final class Partial {
+        private int[] rows = new int[0];
+        private Violations[] errors = new Violations[0];
+        private int size;
+        private long invalidCount;
+
+        void add(final int row, final Violations rowErrors, final int maxErrors) {
+            invalidCount++;
+            if (size < maxErrors) {
+                if (size == rows.length) {
+                    int capacity = Math.min(maxErrors, Math.max(8, size * 2));
+                    rows = Arrays.copyOf(rows, capacity);
+                    errors = Arrays.copyOf(errors, capacity);
+                }
+                rows[size] = row;
+                errors[size] = rowErrors;
+                size++;
+            }
+        }
+
+        Partial merge(final Partial next, final int maxErrors) {
+            int kept = Math.min(maxErrors, size + next.size);
+            if (kept > size) {
+                rows = Arrays.copyOf(rows, kept);
+                errors = Arrays.copyOf(errors, kept);
+                System.arraycopy(next.rows, 0, rows, size, kept - size);
+                System.arraycopy(next.errors, 0, errors, size, kept - size);
+                size = kept;
+            }
+            invalidCount += next.invalidCount;
+            return this;
+        }
+
+        BatchReport toReport(final int rowCount) {
+            return new BatchReport(rowCount, invalidCount, Arrays.copyOf(rows, size), Arrays.copyOf(errors, size));
+        }
+    }
+
+    /**
+     * BatchTask constructor.
+     * @param schema Schema applied to each row
+     * @param rows Rows to validate, random access
+     * @param from First row of the range, inclusive
+     * @param to Last row of the range, exclusive
+     * @param maxErrors Maximum number of invalid rows whose errors are kept
+     * @param now Time of the batch
+     */
+    BatchTask(final Schema<T> schema, final List<T> rows, final int from, final int to, final int maxErrors, final ValidationTime now) {
+        this.schema = schema;
+        this.rows = rows;
+        this.from = from;
+        this.to = to;
+        this.maxErrors = maxErrors;
+        this.now = now;
+    }
+
+    /**
+     * Validates the range, splitting it while it is larger than the sequential threshold.
+     * @return the invalid rows of the range
+     */
+    @Override
+    protected Partial compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            return ValidationClock.pinned(now, this::validateRange);
+        }
+        int middle = (from + to) >>> 1;
+        BatchTask<T> right = new BatchTask<>(schema, rows, middle, to, maxErrors, now);
+        right.fork();
+        Partial left = new BatchTask<>(schema, rows, from, middle, maxErrors, now).compute();
+        return left.merge(right.join(), maxErrors);
+    }
+
+    private Partial validateRange() {
+        Partial partial = new Partial();
+        for (int row = from; row < to; row++) {
+            Violations rowErrors = schema.getCompactViolations(rows.get(row));
+            if (!rowErrors.isEmpty()) {
+                partial.add(row, rowErrors, maxErrors);
+            }
+        }
+        return partial;
+    }
+}
@@ -0,0 +1,263 @@
+package com.joseph.schema;
+
+import com.joseph.annotation.Email;
+import com.joseph.annotation.Future;
+import com.joseph.annotation.Length;
+import com.joseph.annotation.Matches;
+import com.joseph.annotation.Max;
+import com.joseph.annotation.Min;
+import com.joseph.annotation.NotBlank;
+import com.joseph.annotation.Past;
+import com.joseph.annotation.Required;
+import com.joseph.result.ValidationResult;
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.DateRule;
+import com.joseph.rule.child.DateTimeRule;
+import com.joseph.rule.child.DoubleRule;
+import com.joseph.rule.child.InstantRule;
+import com.joseph.rule.child.LongRule;
+import com.joseph.rule.child.NumberRule;
+import com.joseph.rule.child.ObjectRule;
+import com.joseph.rule.child.OffsetDateTimeRule;
+import com.joseph.rule.child.StringRule;
+import com.joseph.rule.child.TemporalRule;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RecordSchemas builds schemas from the annotations on record components, for records that
+ * are validated generically, e.g. after deserialization. The components are discovered and
+ * their accessors bound as method handles once per class; the resulting schema is cached in a
+ * {@link ClassValue}, so every later validation of the class is a plain schema evaluation.
+ * Integral and floating point primitive components are validated without boxing.
+ */
+public final class RecordSchemas {
+    /**
+     * Schema of each record class, built on first use
+     */
+    private static final ClassValue<Schema<?>> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected Schema<?> computeValue(final Class<?> type) {
+            return build(type.asSubclass(Record.class));
+        }
+    };
+
+    private RecordSchemas() {
+    }
+
+    /**
+     * Gets the schema of a record class, building it on first use.
+     * @param type Record class
+     * @param <T> Type of the record
+     * @return the cached schema
+     * @throws IllegalArgumentException if the type is not a record or an annotation does not fit its component
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> Schema<T> of(final Class<T> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("Not a record: " + type.getName());
+        }
+        return (Schema<T>) SCHEMAS.get(type);
+    }
+
+    /**
+     * Validates a record against the schema of its class without throwing.
+     * @param record Record to validate
+     * @return the validation result
+     */
+    @SuppressWarnings("unchecked")
+    public static ValidationResult validate(final Record record) {
+        return of((Class<Record>) record.getClass()).validate(record);
+    }
+
+    /**
+     * Builds the schemas of the given record classes eagerly, e.g. at startup, so that the
+     * first validation of each class does not pay for the introspection.
+     * @param types Record classes
+     * @throws IllegalArgumentException if a type is not a record or an annotation does not fit its component
+     */
+    public static void warmUp(final Class<?>... types) {
+        for (Class<?> type : types) {
+            if (!type.isRecord()) {
+                throw new IllegalArgumentException("Not a record: " + type.getName());
+            }
+            SCHEMAS.get(type);
+        }
+    }
+
+    private static <T extends Record> Schema<T> build(final Class<T> type) {
+        Schema.Builder<T> builder = Schema.builder(type);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (RecordComponent component : type.getRecordComponents()) {
+            List<Annotation> annotations = constraintsOf(component);
+            if (annotations.isEmpty()) {
+                continue;
+            }
+            String name = component.getName();
+            Class<?> kind = component.getType();
+            MethodHandle accessor = accessor(lookup, component);
+            if (kind == long.class || kind == int.class || kind == short.class || kind == byte.class) {
+                MethodHandle handle = accessor.asType(MethodType.methodType(long.class, Record.class));
+                builder.longField(name, record -> invokeLong(handle, record), rule -> configure(rule, annotations, component));
+            } else if (kind == double.class || kind == float.class) {
+                MethodHandle handle = accessor.asType(MethodType.methodType(double.class, Record.class));
+                builder.doubleField(name, record -> invokeDouble(handle, record), rule -> configure(rule, annotations, component));
+            } else {
+                MethodHandle handle = accessor.asType(MethodType.methodType(Object.class, Record.class));
+                if (kind == String.class) {
+                    builder.field(name, record -> (String) invoke(handle, record), StringRule::new, rule -> configure(rule, annotations, component));
+                } else if (Number.class.isAssignableFrom(kind)) {
+                    builder.field(name, record -> (Number) invoke(handle, record), NumberRule::new, rule -> configure(rule, annotations, component));
+                } else if (kind == LocalDate.class) {
+                    builder.field(name, record -> (LocalDate) invoke(handle, record), DateRule::new, rule -> configure(rule, annotations, component));
+                } else if (kind == LocalDateTime.class) {
+                    builder.field(name, record -> (LocalDateTime) invoke(handle, record), DateTimeRule::new, rule -> configure(rule, annotations, component));
+                } else if (kind == Instant.class) {
+                    builder.field(name, record -> (Instant) invoke(handle, record), InstantRule::new, rule -> configure(rule, annotations, component));
+                } else if (kind == OffsetDateTime.class) {
+                    builder.field(name, record -> (OffsetDateTime) invoke(handle, record), OffsetDateTimeRule::new,
+                            rule -> configure(rule, annotations, component));
+                } else {
+                    builder.field(name, record -> invoke(handle, record), ObjectRule::new, rule -> configure(rule, annotations, component));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<Annotation> constraintsOf(final RecordComponent component) {
+        List<Annotation> constraints = new ArrayList<>();
+        for (Annotation annotation : component.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getPackage() == Required.class.getPackage()) {
+                constraints.add(annotation);
+            }
+        }
+        return constraints;
+    }
+
+    private static MethodHandle accessor(final MethodHandles.Lookup lookup, final RecordComponent component) {
+        Method method = component.getAccessor();
+        method.trySetAccessible();
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access " + method, e);
+        }
+    }
+
+    /**
+     * Applies the annotations of a component to its rule, in declaration order.
+     * @param rule Rule of the component
+     * @param annotations Annotations of the component
+     * @param component Annotated component, for the error messages
+     */
+    private static void configure(final Rule<?, ?> rule, final List<Annotation> annotations, final RecordComponent component) {
+        for (Annotation annotation : annotations) {
+            String message;
+            if (annotation instanceof Required required) {
+                rule.required();
+                message = required.message();
+            } else if (annotation instanceof NotBlank notBlank) {
+                require(rule, StringRule.class, annotation, component).notBlank();
+                message = notBlank.message();
+            } else if (annotation instanceof Email email) {
+                require(rule, StringRule.class, annotation, component).email();
+                message = email.message();
+            } else if (annotation instanceof Matches matches) {
+                require(rule, StringRule.class, annotation, component).matches(matches.value());
+                message = matches.message();
+            } else if (annotation instanceof Length length) {
+                if (length.min() > length.max()) {
+                    throw new IllegalArgumentException("min must not be greater than max: " + component);
+                }
+                require(rule, StringRule.class, annotation, component).length(length.min(), length.max());
+                message = length.message();
+            } else if (annotation instanceof Min min) {
+                bound(rule, false, min.value(), annotation, component);
+                message = min.message();
+            } else if (annotation instanceof Max max) {
+                bound(rule, true, max.value(), annotation, component);
+                message = max.message();
+            } else if (annotation instanceof Future future) {
+                require(rule, TemporalRule.class, annotation, component).isFuture();
+                message = future.message();
+            } else {
+                require(rule, TemporalRule.class, annotation, component).isPast();
+                message = ((Past) annotation).message();
+            }
+            if (!message.isEmpty()) {
+                rule.message(message);
+            }
+        }
+    }
+
+    private static void bound(final Rule<?, ?> rule, final boolean upper, final long bound, final Annotation annotation,
+            final RecordComponent component) {
+        if (rule instanceof LongRule longRule) {
+            if (upper) {
+                longRule.max(bound);
+            } else {
+                longRule.min(bound);
+            }
+        } else if (rule instanceof DoubleRule doubleRule) {
+            if (upper) {
+                doubleRule.max((double) bound);
+            } else {
+                doubleRule.min((double) bound);
+            }
+        } else if (upper) {
+            require(rule, NumberRule.class, annotation, component).max(bound);
+        } else {
+            require(rule, NumberRule.class, annotation, component).min(bound);
+        }
+    }
+
+    private static <R> R require(final Rule<?, ?> rule, final Class<R> ruleType, final Annotation annotation, final RecordComponent component) {
+        if (!ruleType.isInstance(rule)) {
+            throw new IllegalArgumentException("@" + annotation.annotationType().getSimpleName() + " does not apply to " + component.getType().getName()
+                    + " component " + component.getDeclaringRecord().getName() + "." + component.getName());
+        }
+        return ruleType.cast(rule);
+    }
+
+    private static Object invoke(final MethodHandle handle, final Record record) {
+        try {
+            return (Object) handle.invokeExact(record);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long invokeLong(final MethodHandle handle, final Record record) {
+        try {
+            return (long) handle.invokeExact(record);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double invokeDouble(final MethodHandle handle, final Record record) {
+        try {
+            return (double) handle.invokeExact(record);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
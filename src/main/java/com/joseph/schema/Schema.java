@@ -0,0 +1,796 @@
+package com.joseph.schema;
+
+import com.joseph.exception.RecordValidationException;
+import com.joseph.metrics.ValidationListeners;
+import com.joseph.result.ErrorCollector;
+import com.joseph.result.ValidationResult;
+import com.joseph.result.Validator;
+import com.joseph.result.Violations;
+import com.joseph.rule.AsyncLookups;
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.DateRule;
+import com.joseph.rule.child.DateTimeRule;
+import com.joseph.rule.child.DoubleRule;
+import com.joseph.rule.child.InstantRule;
+import com.joseph.rule.child.IntRule;
+import com.joseph.rule.child.LongRule;
+import com.joseph.rule.child.NumberRule;
+import com.joseph.rule.child.ObjectRule;
+import com.joseph.rule.child.OffsetDateTimeRule;
+import com.joseph.rule.child.StringRule;
+import com.joseph.time.ValidationClock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Schema is an immutable, precompiled set of rules for a type.
+ * It is built once and can then validate any number of instances, from any thread,
+ * without rebuilding rule chains per call.
+ * @param <T> Type of the validated instances
+ */
+public final class Schema<T> implements Validator<T> {
+    /**
+     * Type validated by the schema
+     */
+    private final Class<T> type;
+
+    /**
+     * Fields in declaration order
+     */
+    private final List<Field<T>> fields;
+
+    /**
+     * Maximum number of violations collected per instance before the remaining constraints are skipped
+     */
+    private final int maxViolations;
+
+    /**
+     * Whether a field files errors under nested paths, which needs an {@link ErrorCollector}
+     */
+    private final boolean composite;
+
+    /**
+     * Clock of the validation passes, or null to read the global {@link ValidationClock}
+     */
+    private final Clock clock;
+
+    /**
+     * A single field of the schema: how to read it and the rule template to evaluate it against.
+     * @param <T> Type of the validated instances
+     */
+    private interface Field<T> {
+        String name();
+
+        List<String> evaluate(T instance, int maxViolations);
+
+        /**
+         * Adds the violations of the field, filed under its name, to a compact list.
+         * @param instance Instance to validate
+         * @param maxViolations Maximum number of violations to add
+         * @param violations Violations found so far, or null to create the list on the first violation
+         * @return the list of violations, or null if it was null and the field is valid
+         */
+        Violations evaluate(T instance, int maxViolations, Violations violations);
+
+        /**
+         * Files the errors of the field under its name below the collector's current path.
+         * @param instance Instance to validate
+         * @param collector Collector of the errors
+         */
+        default void collect(final T instance, final ErrorCollector collector) {
+            Violations violations = evaluate(instance, collector.getRemaining(), null);
+            if (violations != null) {
+                collector.addAll(violations);
+            }
+        }
+
+        /**
+         * Starts the lookups of the async constraints of the field.
+         * @param instance Instance to validate
+         * @param lookups Lookups of the validation
+         */
+        void startLookups(T instance, AsyncLookups lookups);
+
+        default boolean composite() {
+            return false;
+        }
+
+        default boolean isValid(final T instance) {
+            return evaluate(instance, 1).isEmpty();
+        }
+    }
+
+    /**
+     * A field holding a reference.
+     * @param name Field name
+     * @param accessor Reads the field value from an instance
+     * @param rule Configured rule template, never exposed outside the schema
+     * @param <T> Type of the validated instances
+     * @param <V> Type of the field value
+     */
+    private record ObjectField<T, V>(String name, Function<T, ? extends V> accessor, Rule<V, ?> rule) implements Field<T> {
+        @Override
+        public List<String> evaluate(final T instance, final int maxViolations) {
+            return rule.evaluate(accessor.apply(instance), maxViolations);
+        }
+
+        @Override
+        public Violations evaluate(final T instance, final int maxViolations, final Violations violations) {
+            return rule.evaluate(accessor.apply(instance), maxViolations, name, violations);
+        }
+
+        @Override
+        public void collect(final T instance, final ErrorCollector collector) {
+            collector.push(name);
+            rule.collect(accessor.apply(instance), collector);
+            collector.pop();
+        }
+
+        @Override
+        public void startLookups(final T instance, final AsyncLookups lookups) {
+            rule.startLookups(accessor.apply(instance), lookups);
+        }
+
+        @Override
+        public boolean composite() {
+            return rule.isComposite();
+        }
+
+        @Override
+        public boolean isValid(final T instance) {
+            return rule.isValid(accessor.apply(instance));
+        }
+    }
+
+    /**
+     * A field holding a primitive int, read and validated without boxing.
+     * @param name Field name
+     * @param accessor Reads the field value from an instance
+     * @param rule Configured rule template
+     * @param <T> Type of the validated instances
+     */
+    private record IntField<T>(String name, ToIntFunction<T> accessor, IntRule rule) implements Field<T> {
+        @Override
+        public List<String> evaluate(final T instance, final int maxViolations) {
+            return rule.evaluate(accessor.applyAsInt(instance), maxViolations);
+        }
+
+        @Override
+        public Violations evaluate(final T instance, final int maxViolations, final Violations violations) {
+            return rule.evaluate(accessor.applyAsInt(instance), maxViolations, name, violations);
+        }
+
+        @Override
+        public void startLookups(final T instance, final AsyncLookups lookups) {
+            rule.startLookups(accessor.applyAsInt(instance), lookups);
+        }
+    }
+
+    /**
+     * A field holding a primitive long, read and validated without boxing.
+     * @param name Field name
+     * @param accessor Reads the field value from an instance
+     * @param rule Configured rule template
+     * @param <T> Type of the validated instances
+     */
+    private record LongField<T>(String name, ToLongFunction<T> accessor, LongRule rule) implements Field<T> {
+        @Override
+        public List<String> evaluate(final T instance, final int maxViolations) {
+            return rule.evaluate(accessor.applyAsLong(instance), maxViolations);
+        }
+
+        @Override
+        public Violations evaluate(final T instance, final int maxViolations, final Violations violations) {
+            return rule.evaluate(accessor.applyAsLong(instance), maxViolations, name, violations);
+        }
+
+        @Override
+        public void startLookups(final T instance, final AsyncLookups lookups) {
+            rule.startLookups(accessor.applyAsLong(instance), lookups);
+        }
+    }
+
+    /**
+     * A field holding a primitive double, read and validated without boxing.
+     * @param name Field name
+     * @param accessor Reads the field value from an instance
+     * @param rule Configured rule template
+     * @param <T> Type of the validated instances
+     */
+    private record DoubleField<T>(String name, ToDoubleFunction<T> accessor, DoubleRule rule) implements Field<T> {
+        @Override
+        public List<String> evaluate(final T instance, final int maxViolations) {
+            return rule.evaluate(accessor.applyAsDouble(instance), maxViolations);
+        }
+
+        @Override
+        public Violations evaluate(final T instance, final int maxViolations, final Violations violations) {
+            return rule.evaluate(accessor.applyAsDouble(instance), maxViolations, name, violations);
+        }
+
+        @Override
+        public void startLookups(final T instance, final AsyncLookups lookups) {
+            rule.startLookups(accessor.applyAsDouble(instance), lookups);
+        }
+    }
+
+    /**
+     * Schema constructor.
+     * @param type Type validated by the schema
+     * @param fields Fields in declaration order
+     * @param maxViolations Maximum number of violations collected per instance
+     * @param clock Clock of the validation passes, or null to read the global clock
+     */
+    private Schema(final Class<T> type, final List<Field<T>> fields, final int maxViolations, final Clock clock) {
+        this.type = type;
+        this.fields = List.copyOf(fields);
+        this.maxViolations = maxViolations;
+        this.clock = clock;
+        boolean nested = false;
+        for (Field<T> field : this.fields) {
+            nested |= field.composite();
+        }
+        this.composite = nested;
+    }
+
+    /**
+     * Starts building a schema for the given type.
+     * @param type Type validated by the schema
+     * @param <T> Type of the validated instances
+     * @return a new builder
+     */
+    public static <T> Builder<T> builder(final Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    /**
+     * Gets the type validated by the schema.
+     * @return the validated type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the maximum number of violations collected per instance.
+     * @return the violation limit, {@link Integer#MAX_VALUE} unless the schema fails fast
+     */
+    public int getMaxViolations() {
+        return maxViolations;
+    }
+
+    /**
+     * Evaluates every field of the schema against the given instance, stopping once
+     * the schema's violation limit is reached.
+     * A valid instance is checked without allocating: the error map, the error lists and
+     * the messages are only created once a violation is found. Only constraints that are
+     * allocation-free themselves keep this guarantee; regex based ones create a matcher.
+     * Errors of nested objects are filed under hierarchical paths such as {@code address.zip}.
+     * The call is a validation pass: every temporal check sees the same "now", read once from
+     * the clock of the schema.
+     * @param instance Instance to validate
+     * @return Map of field names or paths to list of error messages, or an immutable empty map if the instance is valid
+     */
+    public Map<String, List<String>> getViolations(final T instance) {
+        boolean started = ValidationClock.startPass(passClock());
+        try {
+            return violationsOf(instance);
+        } finally {
+            ValidationClock.endPass(started);
+        }
+    }
+
+    private Map<String, List<String>> violationsOf(final T instance) {
+        boolean timed = ValidationListeners.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        Map<String, List<String>> allErrors = composite ? collectErrors(instance) : evaluateFields(instance);
+        if (timed) {
+            ValidationListeners.get().onValidation(System.nanoTime() - start, allErrors == null);
+        }
+        return allErrors == null ? Map.of() : allErrors;
+    }
+
+    /**
+     * Evaluates every field of the schema against the given instance into a compact list of
+     * violations, stopping once the schema's violation limit is reached. Each violation keeps
+     * the field name or path, the code of the failed constraint and the source of its message,
+     * which is only rendered on request, so that large batches of invalid instances do not
+     * hold a map and fresh strings per instance. Nothing is allocated while the instance
+     * is valid; errors of nested objects are filed under paths with the
+     * {@link Violations#NESTED} code. As with {@link #getViolations(Object)}, the call is a
+     * validation pass with a single "now".
+     * @param instance Instance to validate
+     * @return the violations, or the shared empty list if the instance is valid
+     */
+    public Violations getCompactViolations(final T instance) {
+        boolean started = ValidationClock.startPass(passClock());
+        try {
+            return compactViolationsOf(instance);
+        } finally {
+            ValidationClock.endPass(started);
+        }
+    }
+
+    private Violations compactViolationsOf(final T instance) {
+        boolean timed = ValidationListeners.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+        Violations violations = null;
+        for (int i = 0; i < fields.size(); i++) {
+            int remaining = maxViolations - (violations == null ? 0 : violations.size());
+            if (remaining <= 0) {
+                break;
+            }
+            violations = fields.get(i).evaluate(instance, remaining, violations);
+        }
+        if (timed) {
+            ValidationListeners.get().onValidation(System.nanoTime() - start, violations == null);
+        }
+        return violations == null ? Violations.none() : violations;
+    }
+
+    /**
+     * Evaluates flat fields, whose errors are all filed under the field name.
+     * @param instance Instance to validate
+     * @return Map of field names to list of error messages, or null if the instance is valid
+     */
+    private Map<String, List<String>> evaluateFields(final T instance) {
+        Map<String, List<String>> allErrors = null;
+        int remaining = maxViolations;
+        for (Field<T> field : fields) {
+            List<String> violations = field.evaluate(instance, remaining);
+            if (!violations.isEmpty()) {
+                if (allErrors == null) {
+                    allErrors = new HashMap<>();
+                }
+                allErrors.put(field.name(), violations);
+                remaining -= violations.size();
+                if (remaining <= 0) {
+                    break;
+                }
+            }
+        }
+        return allErrors;
+    }
+
+    /**
+     * Evaluates fields that nest other validations through a collector.
+     * @param instance Instance to validate
+     * @return Map of paths to list of error messages, or null if the instance is valid
+     */
+    private Map<String, List<String>> collectErrors(final T instance) {
+        ErrorCollector collector = new ErrorCollector(maxViolations);
+        collect(instance, collector);
+        return collector.getCount() == 0 ? null : collector.getErrors();
+    }
+
+    /**
+     * Validates the instance into a shared collector, filing the errors of each field under
+     * its name below the collector's current path. This is how schemas nest: the errors of
+     * a nested schema end up under paths such as {@code address.zip}, without exceptions.
+     * The collector's capacity applies instead of this schema's violation limit.
+     * @param instance Instance to validate
+     * @param collector Collector of the errors
+     */
+    @Override
+    public void collect(final T instance, final ErrorCollector collector) {
+        for (int i = 0; i < fields.size() && !collector.isFull(); i++) {
+            fields.get(i).collect(instance, collector);
+        }
+    }
+
+    /**
+     * Starts the lookups of the async constraints of every field, so that a schema nested in
+     * an async validation has its lookups run concurrently with the others.
+     * @param instance Instance to validate
+     * @param lookups Lookups of the validation
+     */
+    @Override
+    public void startLookups(final T instance, final AsyncLookups lookups) {
+        for (int i = 0; i < fields.size(); i++) {
+            fields.get(i).startLookups(instance, lookups);
+        }
+    }
+
+    /**
+     * Tells whether the instance is valid, without collecting messages. The constraints of
+     * each field run by cost class and the evaluation stops at the first failure, so it is
+     * the cheapest way to reject invalid instances when their errors are not needed.
+     * @param instance Instance to validate
+     * @return true if every field is valid
+     */
+    public boolean isValid(final T instance) {
+        boolean started = ValidationClock.startPass(passClock());
+        try {
+            for (Field<T> field : fields) {
+                if (!field.isValid(instance)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            ValidationClock.endPass(started);
+        }
+    }
+
+    /**
+     * Gets the clock of the validation passes.
+     * @return the clock of the schema, or else the global clock
+     */
+    private Clock passClock() {
+        return clock != null ? clock : ValidationClock.getClock();
+    }
+
+    /**
+     * Validates the given instance without throwing.
+     * @param instance Instance to validate
+     * @return the validation result
+     */
+    public ValidationResult validate(final T instance) {
+        return ValidationResult.of(getViolations(instance));
+    }
+
+    /**
+     * Creates a stream filter that lets valid elements pass and hands invalid ones, with their
+     * errors, to the given sink instead of throwing. The filter keeps no state, so unbounded
+     * streams are validated in constant memory, e.g.
+     * {@code lines.map(Row::parse).filter(schema.validOrElse(rejects::add)).forEach(store::save)}.
+     * The sink must be thread-safe when the filter is used on a parallel stream.
+     * @param invalidSink Receives every invalid element and its map of field names to error messages
+     * @return a predicate that is true for valid elements
+     */
+    public Predicate<T> validOrElse(final BiConsumer<? super T, Map<String, List<String>>> invalidSink) {
+        return instance -> {
+            Map<String, List<String>> errors = getViolations(instance);
+            if (errors.isEmpty()) {
+                return true;
+            }
+            invalidSink.accept(instance, errors);
+            return false;
+        };
+    }
+
+    /**
+     * Keeps the valid elements of a stream and hands the invalid ones to the given sink.
+     * The stream stays lazy and is not materialized.
+     * @param stream Stream to validate
+     * @param invalidSink Receives every invalid element and its map of field names to error messages
+     * @return a stream of the valid elements
+     */
+    public Stream<T> filterValid(final Stream<T> stream, final BiConsumer<? super T, Map<String, List<String>>> invalidSink) {
+        return stream.filter(validOrElse(invalidSink));
+    }
+
+    /**
+     * Validates every row of the list in parallel on the common fork/join pool,
+     * keeping the errors of at most {@link BatchReport#DEFAULT_MAX_ERRORS} invalid rows.
+     * @param rows Rows to validate
+     * @return the batch report
+     */
+    public BatchReport validateAll(final List<T> rows) {
+        return validateAll(rows, BatchReport.DEFAULT_MAX_ERRORS);
+    }
+
+    /**
+     * Validates every row of the list in parallel on the common fork/join pool.
+     * @param rows Rows to validate
+     * @param maxErrors Maximum number of invalid rows whose errors are kept
+     * @return the batch report
+     */
+    public BatchReport validateAll(final List<T> rows, final int maxErrors) {
+        return validateAll(rows, maxErrors, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates every row of the list in parallel on the given fork/join pool.
+     * The rows are split into ranges that are validated independently, and the errors
+     * of the first {@code maxErrors} invalid rows, in row order, are kept. Further invalid
+     * rows are only counted, so a batch full of bad rows cannot run out of memory.
+     * The time is read once from the clock of the schema, or the global {@link ValidationClock},
+     * so every row is checked against the same "now".
+     * @param rows Rows to validate
+     * @param maxErrors Maximum number of invalid rows whose errors are kept
+     * @param pool Pool that runs the validation
+     * @return the batch report
+     */
+    public BatchReport validateAll(final List<T> rows, final int maxErrors, final ForkJoinPool pool) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("maxErrors must not be negative: " + maxErrors);
+        }
+        List<T> randomAccessRows = rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+        BatchTask<T> task = new BatchTask<>(this, randomAccessRows, 0, randomAccessRows.size(), maxErrors, ValidationClock.now(passClock()));
+        return pool.invoke(task).toReport(randomAccessRows.size());
+    }
+
+    /**
+     * Validates the given instance and throws a RecordValidationException if any of the fields are invalid.
+     * The exception carries the compact violations; its map of errors is built on first request.
+     * @param instance Instance to validate
+     */
+    public void check(final T instance) {
+        Violations violations = getCompactViolations(instance);
+        if (!violations.isEmpty()) {
+            throw new RecordValidationException(violations);
+        }
+    }
+
+    /**
+     * Builder collects the fields of a schema. A builder is not thread-safe,
+     * but the schema it builds is. The rule templates are created and configured by
+     * {@link #build()}, so a builder can build one schema per set of validation groups, e.g.
+     * {@code ON_CREATE = builder.activeGroups("create").build()}.
+     * @param <T> Type of the validated instances
+     */
+    public static final class Builder<T> {
+        /**
+         * Type validated by the schema
+         */
+        private final Class<T> type;
+
+        /**
+         * Factories of the fields registered so far, given the active groups
+         */
+        private final List<Function<String[], Field<T>>> fields = new ArrayList<>();
+
+        /**
+         * Validation groups active in the schemas built next
+         */
+        private String[] activeGroups = new String[0];
+
+        /**
+         * Maximum number of violations collected per instance
+         */
+        private int maxViolations = Integer.MAX_VALUE;
+
+        /**
+         * Clock of the validation passes, null for the global clock
+         */
+        private Clock clock;
+
+        /**
+         * Builder constructor.
+         * @param type Type validated by the schema
+         */
+        private Builder(final Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * Registers a field of a custom rule type. The typed overloads such as {@link #stringField}
+         * cover the bundled rules; the rule is created once per schema through the factory, configured
+         * with the usual fluent rule methods and then reused for every validated instance, e.g.
+         * {@code field("email", User::email, StringRule::new, s -> s.required().email())}.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param factory Rule constructor, such as {@code StringRule::new}
+         * @param rules Configures the rule
+         * @param <V> Type of the field value
+         * @param <R> Type of the rule
+         * @return the current builder
+         */
+        public <V, R extends Rule<V, R>> Builder<T> field(final String name,
+                                                           final Function<T, ? extends V> accessor,
+                                                           final BiFunction<V, String, R> factory,
+                                                           final Consumer<R> rules) {
+            fields.add(groups -> new ObjectField<>(name, accessor, configure(factory.apply(null, name), groups, rules)));
+            return this;
+        }
+
+        /**
+         * Registers a string field, e.g. {@code stringField("email", User::email, s -> s.required().email())}.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> stringField(final String name, final Function<T, String> accessor, final Consumer<StringRule> rules) {
+            return field(name, accessor, StringRule::new, rules);
+        }
+
+        /**
+         * Registers a boxed number field, e.g. {@code numberField("age", User::age, n -> n.min(18).max(120))}.
+         * Primitive fields are better registered with {@link #intField}, {@link #longField} or {@link #doubleField}.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> numberField(final String name, final Function<T, ? extends Number> accessor, final Consumer<NumberRule> rules) {
+            return field(name, accessor, NumberRule::new, rules);
+        }
+
+        /**
+         * Registers a date field, e.g. {@code dateField("birthDate", User::birthDate, d -> d.required().past())}.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> dateField(final String name, final Function<T, LocalDate> accessor, final Consumer<DateRule> rules) {
+            return field(name, accessor, DateRule::new, rules);
+        }
+
+        /**
+         * Registers a date-time field.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> dateTimeField(final String name, final Function<T, LocalDateTime> accessor, final Consumer<DateTimeRule> rules) {
+            return field(name, accessor, DateTimeRule::new, rules);
+        }
+
+        /**
+         * Registers an instant field.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> instantField(final String name, final Function<T, Instant> accessor, final Consumer<InstantRule> rules) {
+            return field(name, accessor, InstantRule::new, rules);
+        }
+
+        /**
+         * Registers an offset date-time field.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> offsetDateTimeField(final String name, final Function<T, OffsetDateTime> accessor,
+                                              final Consumer<OffsetDateTimeRule> rules) {
+            return field(name, accessor, OffsetDateTimeRule::new, rules);
+        }
+
+        /**
+         * Registers a field of any other type, such as a collection or an identifier, e.g.
+         * {@code objectField("items", Order::items, o -> o.required().each(ITEM_SCHEMA))}.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @param <V> Type of the field value
+         * @return the current builder
+         */
+        public <V> Builder<T> objectField(final String name, final Function<T, ? extends V> accessor, final Consumer<ObjectRule<V>> rules) {
+            return field(name, accessor, ObjectRule<V>::new, rules);
+        }
+
+        /**
+         * Registers a field holding a nested object, validated by its own schema without throwing,
+         * e.g. {@code nested("address", Order::address, ADDRESS_SCHEMA)}. The errors of the nested
+         * object are filed under hierarchical paths such as {@code address.zip}, to any depth.
+         * A null value is not validated; the limit on the number of violations of the nested
+         * schema is ignored in favour of this schema's.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param validator Validator of the nested object, typically a schema
+         * @param <V> Type of the field value
+         * @return the current builder
+         */
+        public <V> Builder<T> nested(final String name, final Function<T, ? extends V> accessor, final Validator<? super V> validator) {
+            return objectField(name, accessor, rule -> rule.valid(validator));
+        }
+
+        /**
+         * Registers a primitive int field, validated without boxing, e.g.
+         * {@code intField("age", User::age, r -> r.min(18).max(120))}.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> intField(final String name, final ToIntFunction<T> accessor, final Consumer<IntRule> rules) {
+            fields.add(groups -> new IntField<>(name, accessor, configure(new IntRule(0, name), groups, rules)));
+            return this;
+        }
+
+        /**
+         * Registers a primitive long field, validated without boxing.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> longField(final String name, final ToLongFunction<T> accessor, final Consumer<LongRule> rules) {
+            fields.add(groups -> new LongField<>(name, accessor, configure(new LongRule(0L, name), groups, rules)));
+            return this;
+        }
+
+        /**
+         * Registers a primitive double field, validated without boxing.
+         * @param name Field name
+         * @param accessor Reads the field value from an instance
+         * @param rules Configures the rule
+         * @return the current builder
+         */
+        public Builder<T> doubleField(final String name, final ToDoubleFunction<T> accessor, final Consumer<DoubleRule> rules) {
+            fields.add(groups -> new DoubleField<>(name, accessor, configure(new DoubleRule(0.0, name), groups, rules)));
+            return this;
+        }
+
+        private static <R extends Rule<?, ?>> R configure(final R rule, final String[] groups, final Consumer<R> rules) {
+            rule.activeGroups(groups);
+            rules.accept(rule);
+            return rule;
+        }
+
+        /**
+         * Activates validation groups in the schemas built next: the {@code group} blocks of
+         * these groups register their constraints on the rule templates, and the blocks of every
+         * other group are skipped, so the selection costs nothing per validated instance, e.g.
+         * {@code objectField("id", User::id, r -> r.group("update", g -> g.required()))}.
+         * @param groups Names of the active groups, none by default
+         * @return the current builder
+         */
+        public Builder<T> activeGroups(final String... groups) {
+            this.activeGroups = groups.clone();
+            return this;
+        }
+
+        /**
+         * Makes the schema stop at the first violation, skipping every remaining constraint.
+         * @return the current builder
+         */
+        public Builder<T> failFast() {
+            return maxViolations(1);
+        }
+
+        /**
+         * Makes the schema stop once the given number of violations has been found,
+         * skipping every remaining constraint.
+         * @param max Maximum number of violations collected per instance, at least 1
+         * @return the current builder
+         */
+        public Builder<T> maxViolations(final int max) {
+            if (max < 1) {
+                throw new IllegalArgumentException("maxViolations must be positive: " + max);
+            }
+            this.maxViolations = max;
+            return this;
+        }
+
+        /**
+         * Makes the schema read "now" from the given clock instead of the global
+         * {@link ValidationClock}, e.g. a fixed clock in tests, once per validation pass.
+         * @param passClock Clock of the validation passes
+         * @return the current builder
+         */
+        public Builder<T> clock(final Clock passClock) {
+            this.clock = Objects.requireNonNull(passClock, "clock");
+            return this;
+        }
+
+        /**
+         * Builds the schema.
+         * @return an immutable schema
+         */
+        public Schema<T> build() {
+            List<Field<T>> built = new ArrayList<>(fields.size());
+            for (Function<String[], Field<T>> field : fields) {
+                built.add(field.apply(activeGroups));
+            }
+            return new Schema<>(type, built, maxViolations, clock);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Schema package
+ */
+package com.joseph.schema;
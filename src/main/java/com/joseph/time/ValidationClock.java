@@ -0,0 +1,166 @@
+package com.joseph.time;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * ValidationClock is the source of "now" for the temporal rules. The clock defaults to the
+ * system clock in the default zone, whose zone is resolved once, and can be replaced, e.g.
+ * by a fixed clock in tests. Every validation entry point, such as
+ * {@link com.joseph.RecordRules#validate(com.joseph.rule.Rule[])} or
+ * {@link com.joseph.schema.Schema#getViolations(Object)}, runs a validation pass with
+ * {@link #pass(Clock, Supplier)}: the time is read from the clock of the pass on the first
+ * temporal check, and every later check of the pass, on the calling thread, sees the same time.
+ * A schema or a validation can be given its own clock, which spares tests from replacing the
+ * global one. Outside of a pass, each temporal check reads the global clock.
+ * {@link com.joseph.schema.Schema#validateAll(java.util.List)} pins the time of its batch on
+ * every worker thread.
+ */
+public final class ValidationClock {
+    /**
+     * Validation pass running on each thread
+     */
+    private static final ThreadLocal<Pass> PASS = ThreadLocal.withInitial(Pass::new);
+
+    /**
+     * Clock read outside of a validation pass, and by the passes started without a clock
+     */
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * State of the validation pass of a thread: the time of the pass, once read or pinned,
+     * and the clock to read it from, both null outside of a pass.
+     */
+    private static final class Pass {
+        private ValidationTime time;
+        private Clock clock;
+
+        boolean isRunning() {
+            return time != null || clock != null;
+        }
+    }
+
+    private ValidationClock() {
+    }
+
+    /**
+     * Sets the global clock of every later validation that is not given its own clock.
+     * @param newClock Clock to use
+     */
+    public static void setClock(final Clock newClock) {
+        clock = Objects.requireNonNull(newClock, "clock");
+    }
+
+    /**
+     * Gets the global clock.
+     * @return the clock of the validations that are not given their own clock
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the current time: the time of the validation pass running on this thread, read
+     * from the clock of the pass on first request, or else a fresh reading of the global clock.
+     * @return the current time
+     */
+    public static ValidationTime now() {
+        Pass pass = PASS.get();
+        ValidationTime time = pass.time;
+        if (time == null) {
+            if (pass.clock == null) {
+                return ValidationTime.of(clock);
+            }
+            time = ValidationTime.of(pass.clock);
+            pass.time = time;
+        }
+        return time;
+    }
+
+    /**
+     * Gets the time of the validation pass running on this thread, or else a fresh reading
+     * of the given clock, e.g. to pin the time of a batch validated on other threads.
+     * @param passClock Clock read outside of a pass
+     * @return the current time
+     */
+    public static ValidationTime now(final Clock passClock) {
+        return PASS.get().isRunning() ? now() : ValidationTime.of(passClock);
+    }
+
+    /**
+     * Runs a validation pass in which every temporal check sees the same time, read once from
+     * the global clock. A pass started inside another pass keeps the time of the outer pass.
+     * @param pass Validation to run
+     * @param <R> Type of the result
+     * @return the result of the pass
+     */
+    public static <R> R pinned(final Supplier<R> pass) {
+        return pass(clock, pass);
+    }
+
+    /**
+     * Runs a validation pass in which every temporal check sees the same time, read from the
+     * given clock on the first check, so a pass without temporal checks never reads it.
+     * A pass started inside another pass keeps the clock and the time of the outer pass.
+     * @param passClock Clock of the pass
+     * @param validation Validation to run
+     * @param <R> Type of the result
+     * @return the result of the pass
+     */
+    public static <R> R pass(final Clock passClock, final Supplier<R> validation) {
+        boolean started = startPass(passClock);
+        try {
+            return validation.get();
+        } finally {
+            endPass(started);
+        }
+    }
+
+    /**
+     * Starts a validation pass on this thread, as {@link #pass(Clock, Supplier)} does, without
+     * allocating a supplier on hot paths. Every call must be followed by {@link #endPass(boolean)}
+     * in a {@code finally} block.
+     * @param passClock Clock of the pass
+     * @return true if a pass was started, false if a pass was already running
+     */
+    public static boolean startPass(final Clock passClock) {
+        Objects.requireNonNull(passClock, "clock");
+        Pass pass = PASS.get();
+        if (pass.isRunning()) {
+            return false;
+        }
+        pass.clock = passClock;
+        return true;
+    }
+
+    /**
+     * Ends the validation pass started by {@link #startPass(Clock)}.
+     * @param started Value returned by {@link #startPass(Clock)}
+     */
+    public static void endPass(final boolean started) {
+        if (started) {
+            Pass pass = PASS.get();
+            pass.clock = null;
+            pass.time = null;
+        }
+    }
+
+    /**
+     * Runs a validation pass in which every temporal check sees the given time.
+     * @param time Time of the pass
+     * @param pass Validation to run
+     * @param <R> Type of the result
+     * @return the result of the pass
+     */
+    public static <R> R pinned(final ValidationTime time, final Supplier<R> pass) {
+        Pass state = PASS.get();
+        ValidationTime previous = state.time;
+        state.time = Objects.requireNonNull(time, "time");
+        try {
+            return pass.get();
+        } finally {
+            state.time = previous;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.joseph.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ValidationTime is the instant "now" of a validation, captured once from a clock.
+ * Its epoch second, local epoch second and epoch day are computed up front, so comparing a
+ * date or a time with it is a comparison of primitives, without any zone lookup.
+ */
+public final class ValidationTime {
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    /**
+     * Seconds since the epoch of the instant
+     */
+    private final long epochSecond;
+
+    /**
+     * Nanoseconds within the second
+     */
+    private final int nano;
+
+    /**
+     * Seconds since the epoch of the local date-time, in the zone of the clock
+     */
+    private final long localEpochSecond;
+
+    /**
+     * Local date, as days since the epoch
+     */
+    private final long epochDay;
+
+    private ValidationTime(final Instant instant, final ZoneOffset offset) {
+        this.epochSecond = instant.getEpochSecond();
+        this.nano = instant.getNano();
+        this.localEpochSecond = epochSecond + offset.getTotalSeconds();
+        this.epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+    }
+
+    /**
+     * Captures the current instant of a clock.
+     * @param clock Clock to read, whose zone gives the local date and time
+     * @return the captured time
+     */
+    public static ValidationTime of(final Clock clock) {
+        Instant instant = clock.instant();
+        return new ValidationTime(instant, clock.getZone().getRules().getOffset(instant));
+    }
+
+    /**
+     * Creates a time from an instant and the offset of the local date and time.
+     * @param instant Instant
+     * @param offset Offset of the local date and time
+     * @return the time
+     */
+    public static ValidationTime of(final Instant instant, final ZoneOffset offset) {
+        return new ValidationTime(instant, offset);
+    }
+
+    /**
+     * Gets the instant.
+     * @return the instant
+     */
+    public Instant getInstant() {
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
+
+    /**
+     * Gets the local date.
+     * @return the local date, in the zone of the clock
+     */
+    public LocalDate getDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Compares a date with the local date.
+     * @param date Date to compare
+     * @return negative, zero or positive if the date is before, on or after the local date
+     */
+    public int compare(final LocalDate date) {
+        return Long.compare(date.toEpochDay(), epochDay);
+    }
+
+    /**
+     * Compares a date-time with the local date-time.
+     * @param dateTime Date-time to compare
+     * @return negative, zero or positive if the date-time is before, at or after the local date-time
+     */
+    public int compare(final LocalDateTime dateTime) {
+        return compare(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano(), localEpochSecond);
+    }
+
+    /**
+     * Compares an instant with this instant.
+     * @param instant Instant to compare
+     * @return negative, zero or positive if the instant is before, at or after this instant
+     */
+    public int compare(final Instant instant) {
+        return compare(instant.getEpochSecond(), instant.getNano(), epochSecond);
+    }
+
+    /**
+     * Compares an offset date-time with this instant.
+     * @param dateTime Date-time to compare
+     * @return negative, zero or positive if the date-time is before, at or after this instant
+     */
+    public int compare(final OffsetDateTime dateTime) {
+        return compare(dateTime.toEpochSecond(), dateTime.getNano(), epochSecond);
+    }
+
+    private int compare(final long seconds, final int nanos, final long nowSeconds) {
+        int bySeconds = Long.compare(seconds, nowSeconds);
+        return bySeconds != 0 ? bySeconds : Integer.compare(nanos, nano);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Validation time package
+ */
+package com.joseph.time;
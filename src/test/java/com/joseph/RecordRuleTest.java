@@ -1,9 +1,32 @@
 package com.joseph;
 
+import com.joseph.annotation.Email;
+import com.joseph.annotation.Min;
+import com.joseph.annotation.Required;
 import com.joseph.exception.RecordValidationException;
+import com.joseph.result.ValidationResult;
 import com.joseph.rule.Rule;
+import com.joseph.rule.child.StringRule;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RecordRuleTest {
@@ -30,6 +53,203 @@ class RecordRuleTest {
         assertDoesNotThrow(() -> new User("test@example.com", 25, "java_dev"));
     }
 
+    @Test
+    void shouldStopAtFirstViolationWhenCheckingFast() {
+        AtomicInteger predicateCalls = new AtomicInteger();
+        RecordValidationException exception = assertThrows(RecordValidationException.class, () ->
+                RecordRules.checkFast(
+                        Rule.on((String) null, "email").required().email(),
+                        Rule.on(15, "age").min(18),
+                        Rule.on("name", "username").satisfies(v -> predicateCalls.incrementAndGet() > 0)
+                ));
+
+        assertEquals(Map.of("email", List.of("must not be null")), exception.getErrors());
+        assertEquals(0, predicateCalls.get());
+    }
+
+    @Test
+    void shouldCollectUpToTheGivenNumberOfViolationsWhenCheckingFast() {
+        RecordValidationException exception = assertThrows(RecordValidationException.class, () ->
+                RecordRules.checkFast(2,
+                        Rule.on("x", "username").minLength(3).matches("[0-9]+"),
+                        Rule.on(15, "age").min(18)
+                ));
+
+        assertEquals(List.of("must be between 3 and 2147483647 characters", "must match pattern [0-9]+"),
+                exception.getErrors().get("username"));
+        assertFalse(exception.getErrors().containsKey("age"));
+
+        assertDoesNotThrow(() -> RecordRules.checkFast(Rule.on("valid", "username").notBlank()));
+        assertThrows(IllegalArgumentException.class, () -> RecordRules.checkFast(0, Rule.on("x", "x")));
+    }
+
+    @Test
+    void shouldValidateAnnotatedRecords() {
+        RecordRules.warmUp(Customer.class);
+
+        assertTrue(RecordRules.validate(new Customer("test@example.com", 30)).isValid());
+        assertEquals(Map.of("email", List.of("must be a valid email"), "age", List.of("must be at least 18")),
+                RecordRules.validate(new Customer("bad-email", 15)).getErrors());
+        assertFalse(RecordRules.validate(Rule.on((String) null, "email").required()).isValid());
+    }
+
+    @Test
+    void shouldKeepPrimitiveBoundsNextToCompositeRules() {
+        ValidationResult result = RecordRules.validate(
+                Rule.on(15, "age").min(18),
+                Rule.on(List.of("a@b.cd", "bad"), "emails").each(StringRule::new, e -> e.email()),
+                Rule.on(7L, "id").max(5L));
+
+        assertEquals(Map.of("age", List.of("must be at least 18"), "emails[1]", List.of("must be a valid email"),
+                "id", List.of("must be at most 5")), result.getErrors());
+
+        RecordValidationException exception = assertThrows(RecordValidationException.class, () -> RecordRules.checkFast(2,
+                Rule.on(List.of("bad"), "emails").each(StringRule::new, e -> e.email()),
+                Rule.on(15, "age").min(18),
+                Rule.on(7L, "id").max(5L)));
+        assertEquals(Map.of("emails[0]", List.of("must be a valid email"), "age", List.of("must be at least 18")), exception.getErrors());
+
+        ValidationResult async = RecordRules.validateAsync(Duration.ofSeconds(5),
+                Rule.on(15, "age").satisfiesAsync(v -> CompletableFuture.completedFuture(v.intValue() >= 18), "must be an adult"),
+                Rule.on(List.of("bad"), "emails").each(StringRule::new, e -> e.email())).join();
+        assertEquals(Map.of("age", List.of("must be an adult"), "emails[0]", List.of("must be a valid email")), async.getErrors());
+    }
+
+    @Test
+    void shouldRunAsyncLookupsConcurrently() {
+        Set<String> taken = Set.of("taken@example.com", "admin");
+        Function<String, CompletableFuture<Boolean>> slowLookup = v -> {
+            sleep(300);
+            return CompletableFuture.completedFuture(!taken.contains(v));
+        };
+
+        long start = System.nanoTime();
+        ValidationResult result = RecordRules.validateAsync(Duration.ofSeconds(5),
+                Rule.on("taken@example.com", "email").email().satisfiesAsync(slowLookup, "is already registered"),
+                Rule.on("admin", "username").notBlank().satisfiesAsync(slowLookup, "is already taken"),
+                Rule.on("free", "nickname").satisfiesAsync(slowLookup),
+                Rule.on(15, "age").min(18)).join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(Map.of("email", List.of("is already registered"), "username", List.of("is already taken"),
+                "age", List.of("must be at least 18")), result.getErrors());
+        assertTrue(elapsedMillis < 850, "lookups should overlap, took " + elapsedMillis + " ms");
+
+        CompletionException exception = assertThrows(CompletionException.class, () ->
+                RecordRules.checkAsync(Duration.ofSeconds(5), Rule.on("admin", "username").satisfiesAsync(slowLookup)).join());
+        assertInstanceOf(RecordValidationException.class, exception.getCause());
+        assertDoesNotThrow(() -> RecordRules.checkAsync(Duration.ofSeconds(5), Rule.on("free", "username").satisfiesAsync(slowLookup)).join());
+    }
+
+    @Test
+    void shouldFailAsyncValidationOnTimeout() {
+        CompletableFuture<Boolean> never = new CompletableFuture<>();
+        CompletableFuture<ValidationResult> result = RecordRules.validateAsync(Duration.ofMillis(50),
+                Rule.on("x", "username").satisfiesAsync(v -> never));
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldEvaluateExpensiveRulesConcurrently() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Predicate<String> meetsOtherRule = value -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+                return value.startsWith("ok");
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new IllegalStateException("rules were not evaluated concurrently", e);
+            }
+        };
+        AtomicInteger handoffs = new AtomicInteger();
+        Executor executor = task -> {
+            handoffs.incrementAndGet();
+            new Thread(task).start();
+        };
+
+        ValidationResult result = RecordRules.validateParallel(executor, 0L,
+                Rule.on("ok-1", "first").satisfies(meetsOtherRule, "must be ok"),
+                Rule.on(5, "count").min(10),
+                Rule.on("bad", "second").satisfies(meetsOtherRule, "must be ok"),
+                Rule.on(List.of("a@b.cd", "bad"), "emails").each(StringRule::new, e -> e.email()));
+
+        assertEquals(2, handoffs.get());
+        assertEquals(Map.of("count", List.of("must be at least 10"), "second", List.of("must be ok"),
+                "emails[1]", List.of("must be a valid email")), result.getErrors());
+        assertEquals(List.of("count", "second", "emails[1]"), List.copyOf(result.getErrors().keySet()));
+    }
+
+    @Test
+    void shouldEvaluateCheapRulesSequentially() {
+        Executor executor = task -> fail("cheap rules must not be handed off");
+        Thread caller = Thread.currentThread();
+
+        ValidationResult result = RecordRules.validateParallel(executor, RecordRules.PARALLEL_COST_THRESHOLD,
+                Rule.on("x", "name").required().satisfies(value -> Thread.currentThread() == caller, "must run on the caller"),
+                Rule.on(15, "age").min(18));
+
+        assertEquals(Map.of("age", List.of("must be at least 18")), result.getErrors());
+        assertDoesNotThrow(() -> RecordRules.checkParallel(Rule.on("a@b.cd", "email").email(), Rule.on(20, "age").min(18)));
+    }
+
+    @Test
+    void shouldRethrowFailuresOfParallelRules() {
+        Executor executor = task -> new Thread(task).start();
+        Predicate<String> failing = value -> {
+            throw new IllegalArgumentException("lookup failed");
+        };
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> RecordRules.checkParallel(executor, 0L,
+                Rule.on("a", "first").satisfies(failing, "never"),
+                Rule.on("b", "second").matches("[a-z]+").matches("b")));
+        assertEquals("lookup failed", exception.getMessage());
+        assertThrows(RecordValidationException.class, () -> RecordRules.checkParallel(executor, 0L,
+                Rule.on("1", "first").matches("[a-z]+"), Rule.on("2", "second").matches("[a-z]+").matches("b")));
+    }
+
+    @Test
+    void shouldCoverEdgeCasesOfParallelAndFastChecks() {
+        Executor executor = task -> new Thread(task).start();
+
+        assertEquals(Map.of("age", List.of("must be at least 18")), RecordRules.validateParallel(executor, 0L, Rule.on(15, "age").min(18)).getErrors());
+        assertDoesNotThrow(() -> RecordRules.checkParallel(executor, 0L,
+                Rule.on("a", "first").matches("[a-z]+"), Rule.on("b", "second").matches("[a-z]+")));
+        AssertionError error = assertThrows(AssertionError.class, () -> RecordRules.checkParallel(executor, 0L,
+                Rule.on("b", "first").matches("[a-z]+"),
+                Rule.on("a", "second").satisfies(v -> {
+                    throw new AssertionError("broken");
+                }, "never")));
+        assertEquals("broken", error.getMessage());
+
+        RecordValidationException exception = assertThrows(RecordValidationException.class, () ->
+                RecordRules.checkFast(5, Rule.on(15, "age").min(18), Rule.on("", "name").notBlank()));
+        assertEquals(Map.of("age", List.of("must be at least 18"), "name", List.of("must not be blank")), exception.getErrors());
+        assertTrue(RecordRules.validate(Rule.on(List.of("a"), "tags").each(StringRule::new, StringRule::notBlank)).isValid());
+    }
+
+    @Test
+    void shouldValidateAgainstTheGivenClock() {
+        Instant now = Instant.parse("2024-06-01T10:00:00Z");
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+
+        assertTrue(RecordRules.validate(clock, Rule.on(now.plusSeconds(1), "expiry").isFuture(), Rule.on(now.minusSeconds(1), "issued").isPast()).isValid());
+        assertEquals(Map.of("expiry", List.of("must be in the future")), RecordRules.validate(clock, Rule.on(now, "expiry").isFuture()).getErrors());
+        assertThrows(RecordValidationException.class, () -> RecordRules.check(clock, Rule.on(now, "issued").isPast()));
+        RecordRules.check(clock, Rule.on(now.minusNanos(1), "issued").isPast());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record Customer(@Required @Email String email, @Min(18) int age) {
+    }
+
     public record User(String email, int age, String username) {
         public User {
             RecordRules.check(Rule.on(email, "email").required().email().matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$"), Rule.on(age, "age").min(18).max(120), Rule.on(username, "username").required().notBlank());
@@ -0,0 +1,127 @@
+package com.joseph.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    void shouldLoadOnceAndCountHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+
+        assertEquals(3, cache.get("abc", k -> loads.incrementAndGet() + 2));
+        assertEquals(3, cache.get("abc", k -> loads.incrementAndGet() + 2));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() throws InterruptedException {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.get("a", k -> k);
+        Thread.sleep(1);
+        cache.get("b", k -> k);
+        Thread.sleep(1);
+        cache.get("a", k -> k);
+        Thread.sleep(1);
+        cache.get("c", k -> k);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        cache.get("a", k -> "reloaded");
+        assertEquals(2, cache.getHitCount());
+        assertEquals("reloaded", cache.get("b", k -> "reloaded"));
+    }
+
+    @Test
+    void shouldEvictInBatches() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(16);
+        IntStream.rangeClosed(0, 16).forEach(i -> cache.get(i, k -> k));
+
+        assertEquals(14, cache.size());
+        assertEquals(3, cache.getEvictionCount());
+
+        cache.get(17, k -> k);
+        cache.get(18, k -> k);
+        assertEquals(16, cache.size());
+        assertEquals(3, cache.getEvictionCount());
+    }
+
+    @Test
+    void shouldLoadOutsideOfTheMap() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+
+        assertEquals(2, cache.get("outer", k -> cache.get("inner", j -> 1) + 1));
+        assertEquals(1, cache.get("inner", j -> 0));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldStayBoundedUnderConcurrentAccess() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(16);
+        IntStream.range(0, 10_000).parallel().forEach(i -> assertEquals(i % 64, cache.get(i % 64, k -> k)));
+
+        assertTrue(cache.size() <= cache.getMaximumSize());
+        assertEquals(10_000, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    void shouldReloadExpiredEntries() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, Duration.ofMillis(50));
+
+        assertEquals(1, cache.get("a", k -> loads.incrementAndGet()));
+        assertEquals(1, cache.get("a", k -> loads.incrementAndGet()));
+        Thread.sleep(60);
+        assertEquals(2, cache.get("a", k -> loads.incrementAndGet()));
+
+        assertEquals(1, cache.getExpirationCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void shouldDropExpiredEntriesBeforeLeastRecentlyUsed() throws InterruptedException {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, Duration.ofMillis(50));
+        cache.get("a", k -> k);
+        cache.get("b", k -> k);
+        Thread.sleep(60);
+        cache.get("c", k -> k);
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getExpirationCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void shouldResetOnClear() {
+        BoundedCache<String, String> cache = new BoundedCache<>(1);
+        cache.get("a", k -> k);
+        cache.get("a", k -> k);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(0, cache.getExpirationCount());
+        assertEquals(1.0, cache.getHitRate());
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(1, Duration.ZERO));
+    }
+}
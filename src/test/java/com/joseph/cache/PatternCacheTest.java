@@ -0,0 +1,30 @@
+package com.joseph.cache;
+
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternCacheTest {
+
+    @Test
+    void shouldCompileEachRegexOnce() {
+        Pattern first = PatternCache.compile("^pattern-cache-test-[0-9]+$");
+        Pattern second = PatternCache.compile("^pattern-cache-test-[0-9]+$");
+
+        assertSame(first, second);
+        assertTrue(PatternCache.getCache().getHitCount() >= 1);
+        assertEquals(PatternCache.MAXIMUM_SIZE, PatternCache.getCache().getMaximumSize());
+    }
+
+    @Test
+    void shouldBeUsedByStringRuleMatches() {
+        long misses = PatternCache.getCache().getMissCount();
+        for (int i = 0; i < 100; i++) {
+            Rule.on("value-" + i, "field").matches("^value-[0-9]+-only-compiled-once$").getViolations();
+        }
+        assertTrue(PatternCache.getCache().getMissCount() - misses <= 1);
+    }
+}
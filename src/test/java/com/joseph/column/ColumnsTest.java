@@ -0,0 +1,15 @@
+package com.joseph.column;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnsTest {
+
+    @Test
+    void shouldCreateARulePerColumnType() {
+        assertInstanceOf(IntColumnRule.class, Columns.of(new int[] {1}));
+        assertInstanceOf(LongColumnRule.class, Columns.of(new long[] {1L}));
+        assertInstanceOf(DoubleColumnRule.class, Columns.of(new double[] {1.0}));
+    }
+}
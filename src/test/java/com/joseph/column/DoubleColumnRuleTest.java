@@ -0,0 +1,34 @@
+package com.joseph.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleColumnRuleTest {
+
+    @Test
+    void shouldFlagTheRowsOutOfRangeAndNaN() {
+        double[] celsius = {20.5, -60.0, Double.NaN, 60.0, 60.000001, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+
+        // Like DoubleRule, NaN passes the bounds
+        assertEquals("{1, 4, 5, 6}", Columns.of(celsius).range(-50.0, 60.0).validate().toString());
+        assertEquals("{1, 2, 4, 5, 6}", Columns.of(celsius).range(-50.0, 60.0).notNaN().validate().toString());
+        assertEquals("{2}", Columns.of(celsius).notNaN().validate().toString());
+        assertThrows(IllegalArgumentException.class, () -> Columns.of(celsius).min(Double.NaN));
+    }
+
+    @Test
+    void shouldFillOneBitPerRowAcrossBlocks() {
+        double[] values = new double[200];
+        for (int row = 0; row < values.length; row++) {
+            values[row] = row % 3 == 0 ? -1.0 : row;
+        }
+        BitSet failing = Columns.of(values).min(0.0).validate();
+
+        assertEquals(67, failing.cardinality());
+        assertTrue(failing.get(63) && failing.get(192) && failing.get(198));
+        assertFalse(failing.get(64) || failing.get(199));
+    }
+}
@@ -0,0 +1,36 @@
+package com.joseph.column;
+
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntColumnRuleTest {
+
+    @Test
+    void shouldFlagTheRowsOutOfRange() {
+        int[] ages = {18, 17, 120, 121, Integer.MIN_VALUE, Integer.MAX_VALUE, 30};
+        BitSet failing = Columns.of(ages).range(18, 120).validate();
+        assertEquals("{1, 3, 4, 5}", failing.toString());
+
+        assertTrue(Columns.of(ages).validate().isEmpty());
+        assertTrue(Columns.of(new int[0]).min(1).validate().isEmpty());
+        assertEquals(ages.length, Columns.of(ages).min(50).max(10).validate().cardinality());
+    }
+
+    @Test
+    void shouldMatchRowByRowValidationAcrossBlocks() {
+        Random random = new Random(7);
+        int[] values = random.ints(1_000, -200, 200).toArray();
+        BitSet failing = Columns.of(values).min(-100).max(150).min(-120).validate();
+
+        for (int row = 0; row < values.length; row++) {
+            boolean invalid = !Rule.on(values[row], "value").min(-100).max(150).getViolations().isEmpty();
+            assertEquals(invalid, failing.get(row), "row " + row);
+        }
+        assertEquals(-1, failing.nextSetBit(values.length));
+    }
+}
@@ -0,0 +1,30 @@
+package com.joseph.column;
+
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongColumnRuleTest {
+
+    @Test
+    void shouldFlagTheRowsOutOfRange() {
+        long[] timestamps = {0L, -1L, Long.MAX_VALUE, 1_700_000_000_000L, Long.MIN_VALUE};
+        BitSet failing = Columns.of(timestamps).min(0L).max(2_000_000_000_000L).validate();
+        assertEquals("{1, 2, 4}", failing.toString());
+    }
+
+    @Test
+    void shouldMatchRowByRowValidationAcrossBlocks() {
+        long[] values = new Random(11).longs(777, -1_000L, 1_000L).toArray();
+        BitSet failing = Columns.of(values).range(-500L, 500L).validate();
+
+        for (int row = 0; row < values.length; row++) {
+            boolean invalid = !Rule.on(values[row], "value").min(-500L).max(500L).getViolations().isEmpty();
+            assertEquals(invalid, failing.get(row), "row " + row);
+        }
+    }
+}
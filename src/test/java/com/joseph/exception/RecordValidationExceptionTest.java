@@ -0,0 +1,93 @@
+package com.joseph.exception;
+
+import com.joseph.result.Violations;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordValidationExceptionTest {
+
+    @Test
+    void shouldFormatMessageFromErrors() {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        errors.put("email", List.of("must not be null", "must be a valid email"));
+        errors.put("age", List.of("must be at least 18"));
+
+        RecordValidationException exception = new RecordValidationException(errors);
+
+        assertEquals("Validation failed: [email: [must not be null, must be a valid email], age: [must be at least 18]]",
+                exception.getMessage());
+        assertSame(exception.getMessage(), exception.getMessage());
+        assertSame(errors, exception.getErrors());
+        assertEquals("Validation failed: []", new RecordValidationException(Map.of()).getMessage());
+    }
+
+    @Test
+    void shouldBuildErrorsFromViolationsOnRequest() {
+        Violations violations = new Violations();
+        violations.add("email", "REQUIRED", "must not be null");
+        violations.add("age", "MIN", "must be at least 18");
+
+        RecordValidationException exception = new RecordValidationException(violations, false);
+
+        assertSame(violations, exception.getViolations());
+        assertEquals("Validation failed: [email: [must not be null], age: [must be at least 18]]", exception.getMessage());
+        assertSame(exception.getErrors(), exception.getErrors());
+        assertNull(new RecordValidationException(Map.of()).getViolations());
+    }
+
+    @Test
+    void shouldSkipStackTraceWhenStackless() {
+        Map<String, List<String>> errors = Map.of("age", List.of("must be at least 18"));
+
+        assertEquals(0, new RecordValidationException(errors, false).getStackTrace().length);
+        assertTrue(new RecordValidationException(errors, true).getStackTrace().length > 0);
+    }
+
+    @Test
+    void shouldFollowGlobalStackTraceSetting() {
+        Map<String, List<String>> errors = Map.of("age", List.of("must be at least 18"));
+        assertTrue(RecordValidationException.isStackTraceEnabled());
+        try {
+            RecordValidationException.setStackTraceEnabled(false);
+            assertFalse(RecordValidationException.isStackTraceEnabled());
+            RecordValidationException exception = new RecordValidationException(errors);
+            assertEquals(0, exception.getStackTrace().length);
+            assertEquals("Validation failed: [age: [must be at least 18]]", exception.getMessage());
+        } finally {
+            RecordValidationException.setStackTraceEnabled(true);
+        }
+        assertTrue(new RecordValidationException(errors).getStackTrace().length > 0);
+    }
+
+    @Test
+    void shouldSerializeWithItsViolations() throws IOException, ClassNotFoundException {
+        Violations violations = new Violations();
+        violations.add("age", "MIN", argument -> "must be at least " + argument, 18L);
+        violations.add("items[1].sku", "REQUIRED", "must not be null");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new RecordValidationException(violations, false));
+        }
+
+        RecordValidationException copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (RecordValidationException) in.readObject();
+        }
+
+        assertEquals(violations.getErrors(), copy.getErrors());
+        assertEquals("Validation failed: [age: [must be at least 18], items[1].sku: [must not be null]]", copy.getMessage());
+        assertEquals("MIN", copy.getViolations().getCode(0));
+        assertEquals(18L, copy.getViolations().getArgument(0));
+        assertEquals("items[1].sku", copy.getViolations().getPath(1));
+    }
+}
@@ -0,0 +1,201 @@
+package com.joseph.ingest;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    private static CsvLoader.Builder<User> users() {
+        return CsvLoader.builder(row -> new User(row.getString(0), row.getInt(1), row.getDouble(2)))
+                .header()
+                .stringColumn("email", s -> s.required().email())
+                .longColumn("age", n -> n.min(18).max(120))
+                .doubleColumn("score", d -> d.range(0.0, 1.0));
+    }
+
+    @Test
+    void shouldLoadValidRowsAndReportRejectedLines() throws IOException {
+        Path file = write("""
+                email,age,score
+                a@b.cd,30,0.5
+                bad,17,0.5
+
+                c@d.ef,abc,2.0
+                e@f.gh,40,0.25,extra
+                "g@h.ij",50,1
+                ,20,0.1
+                """);
+
+        CsvReport<User> report = users().build().load(file);
+
+        assertEquals(List.of(new User("a@b.cd", 30, 0.5), new User("g@h.ij", 50, 1.0)), report.getRecords());
+        assertEquals(6, report.getRowCount());
+        assertEquals(4, report.getRejectedCount());
+        assertFalse(report.isValid());
+        assertArrayEquals(new long[] {3, 5, 6, 8}, report.getRejectedLines());
+        assertEquals(Map.of("email", List.of("must be a valid email"), "age", List.of("must be at least 18")), report.getErrors(3));
+        assertEquals(Map.of("age", List.of("must be an integer"), "score", List.of("must be at most 1.0")), report.getErrors(5));
+        assertEquals(Map.of("columns", List.of("expected 3 columns but found 4")), report.getErrors(6));
+        assertEquals(Map.of("email", List.of("must not be null")), report.getErrors(8));
+        assertEquals(Map.of(), report.getErrors(2));
+        assertEquals("TYPE", report.getViolations(5).getCode(0));
+        assertEquals("MAX", report.getViolations(5).getCode(1));
+        assertEquals("COLUMNS", report.getViolations(6).getCode(0));
+    }
+
+    @Test
+    void shouldNumberLinesAcrossParallelChunks() throws IOException {
+        String rows = IntStream.rangeClosed(1, 5_000)
+                .mapToObj(i -> "user" + i + "@example.com," + (i % 500 == 0 ? 5 : 20 + i % 50) + ",0.5")
+                .collect(Collectors.joining("\r\n", "email,age,score\r\n", "\r\n"));
+        Path file = write(rows);
+
+        CsvReport<User> report = users().chunkSize(1024).maxErrors(4).build().load(file);
+
+        assertEquals(5_000, report.getRowCount());
+        assertEquals(4_990, report.getRecords().size());
+        assertEquals("user1@example.com", report.getRecords().get(0).email());
+        assertEquals("user4999@example.com", report.getRecords().get(4_989).email());
+        assertEquals(10, report.getRejectedCount());
+        assertTrue(report.isTruncated());
+        // Data row i is on line i + 1, after the header
+        assertArrayEquals(new long[] {501, 1001, 1501, 2001}, report.getRejectedLines());
+    }
+
+    @Test
+    void shouldRejectRowsThatTheRecordConstructorRejects() throws IOException {
+        Path file = write("a@b.cd;30;0.5\na@b.cd;99;0.5\n");
+
+        CsvReport<Checked> report = CsvLoader.builder(row -> new Checked(row.getString(0), row.getInt(1)))
+                .delimiter(';')
+                .stringColumn("email", s -> s.required())
+                .longColumn("age", n -> n.min(0))
+                .column("score")
+                .build()
+                .load(file);
+
+        assertEquals(List.of(new Checked("a@b.cd", 30)), report.getRecords());
+        assertEquals(Map.of("age", List.of("must be at most 90")), report.getErrors(2));
+    }
+
+    @Test
+    void shouldSplitQuotedFields() throws IOException {
+        Path file = write("\"Doe, \"\"JD\"\" John\",\"\",,+12,-9223372036854775808,9223372036854775808\n");
+        CsvReport<List<Object>> report = CsvLoader.builder(row -> List.<Object>of(row.getString(0), row.getString(1), row.isNull(2),
+                        row.getLong(3), row.getLong(4), row.getFieldCount()))
+                .column("name").column("nickname").column("title").column("a").column("b")
+                .stringColumn("c", s -> s.matches("\\d+"))
+                .build()
+                .load(file);
+
+        assertEquals(List.of(List.of("Doe, \"JD\" John", "", true, 12L, Long.MIN_VALUE, 6)), report.getRecords());
+        CsvReport<Long> overflow = CsvLoader.builder(row -> row.getLong(0)).column("n").build()
+                .load(write("1\n9223372036854775808\n"));
+        assertEquals(List.of(1L), overflow.getRecords());
+        assertEquals(CsvLoader.MAPPING, overflow.getViolations(2).getCode(0));
+        assertEquals(List.of("row"), List.copyOf(overflow.getErrors(2).keySet()));
+    }
+
+    @Test
+    void shouldLoadEmptyFilesAndRejectBadSettings() throws IOException {
+        CsvReport<User> report = users().build().load(write(""));
+        assertTrue(report.isValid());
+        assertEquals(0, report.getRowCount());
+
+        assertThrows(UncheckedIOException.class, () -> users().build().load(directory.resolve("missing.csv")));
+        assertThrows(IllegalArgumentException.class, () -> users().chunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> users().maxErrors(-1));
+        assertThrows(IllegalArgumentException.class, () -> users().delimiter('"'));
+    }
+
+    @Test
+    void shouldReportEveryRejectedRowAndMapperFailure() throws IOException {
+        String rows = IntStream.rangeClosed(1, 20).mapToObj(i -> "x" + i + ",abc,1.5").collect(Collectors.joining("\n"));
+        CsvReport<User> report = CsvLoader.builder(row -> new User(row.getString(0), 0, row.getDouble(2)))
+                .stringColumn("email", s -> s.email())
+                .doubleColumn("score", d -> d.max(1.0))
+                .doubleColumn("weight", d -> d.max(1.0))
+                .build()
+                .load(write(rows));
+
+        assertEquals(20, report.getRejectedCount());
+        assertEquals(20, report.getRejectedLines().length);
+        assertEquals(Map.of("email", List.of("must be a valid email"), "score", List.of("must be a number"),
+                "weight", List.of("must be at most 1.0")), report.getErrors(20));
+
+        Path wide = write("a".repeat(10_000) + "\nb\n");
+        assertEquals(List.of(10_000, 1), CsvLoader.builder(row -> row.getString(0).length()).column("text").chunkSize(16).build()
+                .load(wide).getRecords());
+        CsvReport<String> rejected = CsvLoader.<String>builder(row -> {
+            throw new RecordValidationException(Map.of("text", List.of("rejected")));
+        }).column("text").build().load(write("a\n"));
+        assertEquals(Map.of("text", List.of("rejected")), rejected.getErrors(1));
+
+        CsvLoader<String> failing = CsvLoader.<String>builder(row -> {
+            throw new AssertionError("broken");
+        }).column("text").build();
+        assertInstanceOf(AssertionError.class, assertThrows(IllegalStateException.class, () -> failing.load(wide)).getCause());
+        assertThrows(IllegalArgumentException.class, () -> users().delimiter('\n'));
+        assertThrows(IllegalArgumentException.class, () -> users().delimiter('\r'));
+        assertThrows(IllegalArgumentException.class, () -> users().delimiter('\u00e9'));
+    }
+
+    @Test
+    void shouldReportMapperFailuresAsRowErrors() throws IOException {
+        CsvReport<String> report = CsvLoader.<String>builder(row -> {
+            throw new IllegalStateException();
+        }).column("text").build().load(write("a\n"));
+
+        assertEquals(Map.of("row", List.of("java.lang.IllegalStateException")), report.getErrors(1));
+    }
+
+    @Test
+    void shouldStreamRecordsToASink() throws IOException {
+        String rows = IntStream.rangeClosed(1, 5_000)
+                .mapToObj(i -> "user" + i + "@example.com," + (i % 500 == 0 ? 5 : 20 + i % 50) + ",0.5")
+                .collect(Collectors.joining("\n", "email,age,score\n", "\n"));
+        Queue<User> sink = new ConcurrentLinkedQueue<>();
+
+        CsvReport<User> report = users().chunkSize(1024).build().load(write(rows), sink::add);
+
+        assertEquals(4_990, sink.size());
+        assertTrue(report.getRecords().isEmpty());
+        assertEquals(5_000, report.getRowCount());
+        assertEquals(10, report.getRejectedCount());
+        assertEquals(Map.of("age", List.of("must be at least 18")), report.getErrors(501));
+    }
+
+    private Path write(final String content) throws IOException {
+        Path file = Files.createTempFile(directory, "rows", ".csv");
+        return Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    public record User(String email, int age, double score) {
+    }
+
+    public record Checked(String email, int age) {
+        public Checked {
+            RecordRules.check(Rule.on(age, "age").max(90));
+        }
+    }
+}
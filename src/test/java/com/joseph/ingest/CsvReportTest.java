@@ -0,0 +1,44 @@
+package com.joseph.ingest;
+
+import com.joseph.result.Violations;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReportTest {
+
+    private static Violations violation(final String path, final String message) {
+        Violations violations = new Violations();
+        violations.add(path, "CUSTOM", message);
+        return violations;
+    }
+
+    @Test
+    void shouldFindErrorsByLine() {
+        Violations[] errors = {violation("a", "x"), violation("b", "y")};
+        CsvReport<String> report = new CsvReport<>(List.of("r"), 4, 3, new long[] {2, 7}, errors);
+
+        assertFalse(report.isValid());
+        assertTrue(report.isTruncated());
+        assertEquals(Map.of("b", List.of("y")), report.getErrors(7));
+        assertEquals(Map.of(), report.getErrors(3));
+        assertEquals("CUSTOM", report.getViolations(2).getCode(0));
+        assertTrue(report.getViolations(3).isEmpty());
+        long[] lines = report.getRejectedLines();
+        lines[0] = 99;
+        assertEquals(2, report.getRejectedLines()[0]);
+    }
+
+    @Test
+    void shouldBeValidWithoutRejectedRows() {
+        CsvReport<String> report = new CsvReport<>(List.of("r"), 1, 0, new long[0], new Violations[0]);
+
+        assertTrue(report.isValid());
+        assertFalse(report.isTruncated());
+        assertEquals(1, report.getRowCount());
+        assertEquals(0, report.getRejectedCount());
+    }
+}
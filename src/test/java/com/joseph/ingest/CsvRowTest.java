@@ -0,0 +1,76 @@
+package com.joseph.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRowTest {
+
+    private static CsvRow row(final String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        CsvRow row = new CsvRow(ByteBuffer.wrap(bytes), (byte) ',');
+        row.reset(0, bytes.length);
+        return row;
+    }
+
+    @Test
+    void shouldSplitFields() {
+        CsvRow row = row("a,,\"\",\"b,\"\"c\"\"\",é");
+
+        assertEquals(5, row.getFieldCount());
+        assertEquals("a", row.getString(0));
+        assertTrue(row.isNull(1));
+        assertNull(row.getString(1));
+        assertFalse(row.isNull(2));
+        assertEquals("", row.getString(2));
+        assertEquals("b,\"c\"", row.getString(3));
+        assertSame(row.getString(3), row.getString(3));
+        assertEquals("é", row.getString(4));
+        assertTrue(row.isNull(5));
+        assertEquals(1, row("").getFieldCount());
+    }
+
+    @Test
+    void shouldSplitWideAndMalformedRows() {
+        CsvRow wide = row(",".repeat(39) + "last");
+        assertEquals(40, wide.getFieldCount());
+        assertEquals("last", wide.getString(39));
+
+        CsvRow row = row("\"a\"b,c,\"open");
+        assertEquals(3, row.getFieldCount());
+        assertEquals("a", row.getString(0));
+        assertEquals("c", row.getString(1));
+        assertEquals("open", row.getString(2));
+        assertFalse(row("99999999999999999999").tryParseLong(0));
+    }
+
+    @Test
+    void shouldParseIntegersFromTheBytes() {
+        CsvRow row = row("0,-42,+7,9223372036854775807,-9223372036854775808,9223372036854775808,-,1x,2147483648");
+
+        assertEquals(0L, row.getLong(0));
+        assertEquals(-42, row.getInt(1));
+        assertEquals(7L, row.getLong(2));
+        assertEquals(Long.MAX_VALUE, row.getLong(3));
+        assertEquals(Long.MIN_VALUE, row.getLong(4));
+        assertFalse(row.tryParseLong(5));
+        assertThrows(NumberFormatException.class, () -> row.getLong(6));
+        assertThrows(NumberFormatException.class, () -> row.getLong(7));
+        assertEquals(2147483648L, row.getLong(8));
+        assertThrows(NumberFormatException.class, () -> row.getInt(8));
+        assertThrows(NumberFormatException.class, () -> row.getLong(9));
+    }
+
+    @Test
+    void shouldParseDoubles() {
+        CsvRow row = row("1.5, -2e3 ,,x");
+
+        assertEquals(1.5, row.getDouble(0));
+        assertEquals(-2000.0, row.getDouble(1));
+        assertThrows(NumberFormatException.class, () -> row.getDouble(2));
+        assertThrows(NumberFormatException.class, () -> row.getDouble(3));
+    }
+}
@@ -0,0 +1,51 @@
+package com.joseph.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldRecordIntoPowerOfTwoBuckets() {
+        assertEquals(0, LatencyHistogram.bucketOf(0));
+        assertEquals(0, LatencyHistogram.bucketOf(1));
+        assertEquals(1, LatencyHistogram.bucketOf(2));
+        assertEquals(1, LatencyHistogram.bucketOf(3));
+        assertEquals(10, LatencyHistogram.bucketOf(1024));
+        assertEquals(62, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(1_000);
+        histogram.record(1_000);
+        histogram.record(1_000_000);
+
+        long[] buckets = histogram.getBuckets();
+        assertEquals(1, buckets[0]);
+        assertEquals(2, buckets[9]);
+        assertEquals(1, buckets[19]);
+        assertEquals(4, histogram.getCount());
+        assertEquals(1_001_000 + 1_000, histogram.getTotalNanos());
+    }
+
+    @Test
+    void shouldEstimatePercentilesFromBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5_000);
+
+        assertEquals(127, histogram.getPercentile(50));
+        assertEquals(127, histogram.getPercentile(99));
+        assertEquals(8_191, histogram.getPercentile(100));
+        assertEquals(127, histogram.getPercentile(0));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getTotalNanos());
+    }
+}
@@ -0,0 +1,110 @@
+package com.joseph.metrics;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.StringRule;
+import com.joseph.schema.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsListenerTest {
+
+    @AfterEach
+    void unregister() {
+        ValidationListeners.register(null);
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        assertFalse(ValidationListeners.isEnabled());
+        assertSame(ValidationListener.NONE, ValidationListeners.get());
+        assertDoesNotThrow(() -> RecordRules.validate(Rule.on((String) null, "name").required()));
+    }
+
+    @Test
+    void shouldCountFailuresPerFieldAndConstraint() {
+        MetricsListener metrics = new MetricsListener();
+        ValidationListeners.register(metrics);
+        assertTrue(ValidationListeners.isEnabled());
+
+        assertThrows(RecordValidationException.class, () -> RecordRules.check(
+                Rule.on("bad-email", "email").required().email().maxLength(3),
+                Rule.on(15, "age").min(18)));
+        RecordRules.check(Rule.on("test@example.com", "email").email());
+        assertThrows(RecordValidationException.class, () -> RecordRules.checkFast(Rule.on(15, "age").min(18)));
+
+        assertEquals(Map.of("email", 2L, "age", 2L), metrics.getFieldFailures());
+        assertEquals(Map.of("EMAIL", 1L, "LENGTH", 1L), metrics.getConstraintFailures().get("email"));
+        assertEquals(Map.of("MIN", 2L), metrics.getConstraintFailures().get("age"));
+        assertEquals(1, metrics.getValidCount());
+        assertEquals(2, metrics.getInvalidCount());
+        assertEquals(3, metrics.getLatency().getCount());
+
+        metrics.reset();
+        assertTrue(metrics.getFieldFailures().isEmpty());
+        assertEquals(0, metrics.getLatency().getCount());
+    }
+
+    @Test
+    void shouldCountSchemaValidationsConcurrently() {
+        Schema<User> schema = RecordRules.schema(User.class)
+                .field("email", User::email, StringRule::new, s -> s.required().satisfies(v -> v.contains("@"), "no at"))
+                .build();
+        MetricsListener metrics = new MetricsListener();
+        ValidationListeners.register(metrics);
+
+        IntStream.range(0, 10_000).parallel()
+                .forEach(i -> schema.validate(new User(i % 2 == 0 ? "a@b.cd" : "ab")));
+
+        assertEquals(5_000, metrics.getValidCount());
+        assertEquals(5_000, metrics.getInvalidCount());
+        assertEquals(Map.of("SATISFIES", 5_000L), metrics.getConstraintFailures().get("email"));
+        assertEquals(10_000, metrics.getLatency().getCount());
+    }
+
+    @Test
+    void shouldTimeParallelAndFastValidations() {
+        MetricsListener metrics = new MetricsListener();
+        ValidationListeners.register(metrics);
+
+        RecordRules.validateParallel(task -> new Thread(task).start(), 0L,
+                Rule.on("a", "first").matches("[a-z]+"), Rule.on("1", "second").matches("[a-z]+"));
+        RecordRules.validateParallel(task -> new Thread(task).start(), 0L,
+                Rule.on("a", "first").matches("[a-z]+"), Rule.on("b", "second").matches("[a-z]+"));
+        assertThrows(RecordValidationException.class, () -> RecordRules.checkFast(2, Rule.on(15, "age").min(18)));
+        RecordRules.checkFast(2, Rule.on(18, "age").min(18));
+        Schema<User> schema = RecordRules.schema(User.class)
+                .field("email", User::email, StringRule::new, s -> s.required().email())
+                .build();
+        schema.getCompactViolations(new User("bad"));
+        schema.getCompactViolations(new User("a@b.cd"));
+
+        assertEquals(3, metrics.getValidCount());
+        assertEquals(3, metrics.getInvalidCount());
+        assertEquals(6, metrics.getLatency().getCount());
+    }
+
+    @Test
+    void shouldReportNestedViolations() {
+        MetricsListener metrics = new MetricsListener();
+        ValidationListeners.register(metrics);
+
+        RecordRules.validate(Rule.on(List.of(), "items").check(v ->
+                RecordRules.check(Rule.on((String) null, "sku").required())));
+
+        assertEquals(Map.of("REQUIRED", 1L), metrics.getConstraintFailures().get("sku"));
+        assertEquals(Map.of("NESTED", 1L), metrics.getConstraintFailures().get("items"));
+    }
+
+    // --- Helper Records ---
+
+    public record User(String email) {
+    }
+}
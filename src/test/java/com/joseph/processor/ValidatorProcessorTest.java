@@ -0,0 +1,227 @@
+package com.joseph.processor;
+
+import com.joseph.RecordRules;
+import com.joseph.annotation.Email;
+import com.joseph.annotation.Future;
+import com.joseph.annotation.Length;
+import com.joseph.annotation.Matches;
+import com.joseph.annotation.Max;
+import com.joseph.annotation.Min;
+import com.joseph.annotation.NotBlank;
+import com.joseph.annotation.Past;
+import com.joseph.annotation.Required;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorProcessorTest {
+
+    @Test
+    void shouldValidateInTheCompactConstructor() {
+        assertDoesNotThrow(() -> new User("test@example.com", 25, "java_dev", 100L, LocalDate.now().minusYears(1)));
+
+        RecordValidationException exception = assertThrows(RecordValidationException.class, () ->
+                new User("bad-email", 15, "  ", null, LocalDate.now().plusDays(1)));
+
+        assertEquals(Map.of(
+                "email", List.of("must be a valid email"),
+                "age", List.of("must be at least 18"),
+                "username", List.of("must not be blank", "must match pattern [a-z_]+"),
+                "balance", List.of("must not be null"),
+                "birthDate", List.of("must be a past date")
+        ), exception.getErrors());
+    }
+
+    @Test
+    void shouldMatchTheFluentRules() {
+        String[] emails = {"test@example.com", "bad-email", "a@b.c", null};
+        int[] ages = {17, 18, 120, 121};
+        for (String email : emails) {
+            for (int age : ages) {
+                Map<String, List<String>> fluent = RecordRules.validate(
+                        Rule.on(email, "email").required().email().length(5, 64),
+                        Rule.on(age, "age").min(18).max(120)
+                ).getErrors();
+                assertEquals(fluent, ValidatorProcessorTest_AccountValidator.getViolations(email, age, LocalDate.now().plusDays(1)),
+                        email + " " + age);
+            }
+        }
+    }
+
+    @Test
+    void shouldUseCustomMessagesAndValidateExistingRecords() {
+        Account account = new Account("test@example.com", 30, LocalDate.now().plusDays(1));
+        assertTrue(ValidatorProcessorTest_AccountValidator.validate(account).isValid());
+
+        Map<String, List<String>> errors = ValidatorProcessorTest_AccountValidator.getViolations("test@example.com", 30, LocalDate.now());
+        assertEquals(Map.of("expiry", List.of("expiry must be in the future")), errors);
+        assertSame(Map.of(), ValidatorProcessorTest_AccountValidator.getViolations("test@example.com", 30, null));
+    }
+
+    @Test
+    void shouldReportMisusedAnnotations() throws IOException {
+        List<String> errors = compile("Bad", """
+                import com.joseph.annotation.*;
+                public record Bad(@Email int code, @Min(1) String name, @Matches("[") String id,
+                        @Length(min = 5, max = 1) String text, @Past java.util.Date date) {
+                }
+                """);
+        assertEquals(List.of(
+                "@Email requires a java.lang.String component",
+                "@Min requires a numeric component",
+                "invalid regex: Unclosed character class",
+                "min must not be greater than max",
+                "@Past requires a java.time.LocalDate, java.time.LocalDateTime, java.time.Instant, java.time.OffsetDateTime component"
+        ), errors);
+
+        assertEquals(List.of(
+                "@NotBlank requires a java.lang.String component",
+                "@Matches requires a java.lang.String component",
+                "@Length requires a java.lang.String component",
+                "@Future requires a java.time.LocalDate, java.time.LocalDateTime, java.time.Instant, java.time.OffsetDateTime component",
+                "@Max requires a numeric component",
+                "@Min requires a numeric component",
+                "@Max requires a numeric component"
+        ), compile("Worse", """
+                import com.joseph.annotation.*;
+                public record Worse(@NotBlank int a, @Matches("x") long b, @Length(max = 1) double c, @Future String d,
+                        @Max(1) String e, @Min(1) boolean f, @Max(1) char g) {
+                }
+                """));
+
+        assertEquals(List.of("validated records must not be private"), compile("Outer", """
+                public class Outer {
+                    private record Hidden(@com.joseph.annotation.Required String name) {
+                    }
+                }
+                """));
+    }
+
+    @Test
+    void shouldGenerateValidatorsForGenericRecords() throws IOException {
+        assertEquals(List.of(), compile("Box", """
+                import com.joseph.annotation.*;
+                public record Box<T extends Comparable<T>>(@Required T value, @Max(10) Integer size, @Length(max = 3) String tag) {
+                    public Box {
+                        BoxValidator.check(value, size, tag);
+                    }
+                }
+                """));
+    }
+
+    @Test
+    void shouldGenerateChecksForEveryAnnotation() throws Exception {
+        Path output = Files.createTempDirectory("validator-processor");
+        assertEquals(List.of(), compile("sample/Outer", """
+                package sample;
+                import com.joseph.annotation.*;
+                public class Outer {
+                    public record Profile<K, V extends Comparable<V> & java.io.Serializable>(
+                            @Required int count, @Required(message = "id is required") String id, @NotBlank @Email String email,
+                            @Matches(value = "[a-z]+", message = "lower case") String code, @Length(min = 2, max = 4) String tag,
+                            @Min(1) @Max(5) double weight, @Min(0) Double ratio, @Max(9) long total,
+                            @Future java.time.Instant start, @Past java.time.LocalDateTime created, @Deprecated K key, V value,
+                            @Future java.time.LocalDate due, @Past java.time.LocalDate born, @Max(2) float level) {
+                    }
+                    public record Plain(@Required String name) {
+                    }
+                }
+                """, output));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {output.toUri().toURL()}, getClass().getClassLoader())) {
+            Method getViolations = Arrays.stream(loader.loadClass("sample.Outer_ProfileValidator").getMethods())
+                    .filter(m -> m.getName().equals("getViolations"))
+                    .findFirst().orElseThrow();
+            assertEquals(Map.ofEntries(
+                    Map.entry("id", List.of("id is required")),
+                    Map.entry("email", List.of("must not be blank", "must be a valid email")),
+                    Map.entry("code", List.of("lower case")),
+                    Map.entry("tag", List.of("must be between 2 and 4 characters")),
+                    Map.entry("weight", List.of("must be at most 5.0")),
+                    Map.entry("ratio", List.of("must be at least 0")),
+                    Map.entry("total", List.of("must be at most 9")),
+                    Map.entry("start", List.of("must be in the future")),
+                    Map.entry("created", List.of("must be in the past")),
+                    Map.entry("due", List.of("must be a future date")),
+                    Map.entry("born", List.of("must be a past date")),
+                    Map.entry("level", List.of("must be at most 2.0"))
+            ), getViolations.invoke(null, 0, null, " ", "ABC", "x", 6.0, -1.0, 10L,
+                    Instant.now().minusSeconds(60), LocalDateTime.now().plusDays(1), null, "v",
+                    LocalDate.now(), LocalDate.now(), 2.5f));
+            assertEquals(Map.of("name", List.of("must not be null")),
+                    loader.loadClass("sample.Outer_PlainValidator").getMethod("getViolations", String.class).invoke(null, (Object) null));
+        }
+    }
+
+    @Test
+    void shouldQuoteStringLiterals() {
+        assertEquals("\"a\\\"b\\\\c\\n\\r\\t\\u0001\"", ValidatorProcessor.literal("a\"b\\c\n\r\t\u0001"));
+    }
+
+    /**
+     * Compiles a single source with the processor and returns the error messages.
+     */
+    private static List<String> compile(final String className, final String source) throws IOException {
+        return compile(className, source, Files.createTempDirectory("validator-processor"));
+    }
+
+    /**
+     * Compiles a single source with the processor into the given directory and returns the error messages.
+     */
+    private static List<String> compile(final String className, final String source, final Path output) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                List.of("-d", output.toString(), "-s", output.toString(), "-classpath", System.getProperty("java.class.path")),
+                null, List.of(file));
+        task.setProcessors(List.of(new ValidatorProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    // --- Helper Records ---
+
+    public record User(@Required @Email String email, @Min(18) @Max(120) int age,
+                       @Required @NotBlank @Matches("[a-z_]+") String username, @Required @Min(0) Long balance,
+                       @Past LocalDate birthDate) {
+        public User {
+            ValidatorProcessorTest_UserValidator.check(email, age, username, balance, birthDate);
+        }
+    }
+
+    public record Account(@Required @Email @Length(min = 5, max = 64) String email, @Min(18) @Max(120) int age,
+                          @Future(message = "expiry must be in the future") LocalDate expiry) {
+    }
+}
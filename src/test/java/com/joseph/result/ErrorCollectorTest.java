@@ -0,0 +1,131 @@
+package com.joseph.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorCollectorTest {
+
+    @Test
+    void shouldFileErrorsUnderTheCurrentPath() {
+        ErrorCollector collector = new ErrorCollector(Integer.MAX_VALUE);
+        assertEquals("", collector.getPath());
+        assertSame(Map.of(), collector.getErrors());
+
+        collector.push("order");
+        collector.push("items");
+        collector.push(42);
+        collector.push("sku");
+        assertEquals("order.items[42].sku", collector.getPath());
+        collector.add("must not be blank");
+        collector.pop();
+        collector.pop();
+        collector.push(7);
+        collector.push(0);
+        collector.addAll(List.of("a", "b"));
+        collector.addAll(List.of());
+
+        assertEquals(Map.of("order.items[42].sku", List.of("must not be blank"), "order.items[7][0]", List.of("a", "b")),
+                collector.getErrors());
+        assertEquals(3, collector.getCount());
+    }
+
+    @Test
+    void shouldGrowThePathStack() {
+        ErrorCollector collector = new ErrorCollector(1);
+        for (int i = 0; i < 20; i++) {
+            collector.push("n" + i);
+        }
+        assertTrue(collector.getPath().endsWith("n18.n19"));
+        for (int i = 0; i < 20; i++) {
+            collector.pop();
+        }
+        assertThrows(IllegalStateException.class, collector::pop);
+    }
+
+    @Test
+    void shouldAddRelativeErrors() {
+        ErrorCollector collector = new ErrorCollector(Integer.MAX_VALUE);
+        collector.addAll(Map.of("zip", List.of("bad zip")));
+        collector.push("items");
+        collector.push(3);
+        collector.addAll(Map.of("", List.of("bad item")));
+        collector.addAll(Map.of("sku", List.of("bad sku")));
+        collector.pop();
+        collector.addAll(Map.of("[4].sku", List.of("bad sku")));
+
+        assertEquals(Map.of("zip", List.of("bad zip"), "items[3]", List.of("bad item"), "items[3].sku", List.of("bad sku"),
+                "items[4].sku", List.of("bad sku")), collector.getErrors());
+    }
+
+    @Test
+    void shouldStopAtTheCapacity() {
+        ErrorCollector collector = new ErrorCollector(3);
+        collector.push("a");
+        collector.addAll(List.of("1", "2"));
+        assertEquals(1, collector.getRemaining());
+
+        int previous = collector.limit(0);
+        assertTrue(collector.isFull());
+        collector.add("dropped");
+        collector.restoreLimit(previous);
+        assertFalse(collector.isFull());
+
+        collector.addAll(Map.of("b", List.of("3", "4")));
+        collector.add("dropped");
+        assertTrue(collector.isFull());
+        assertEquals(Map.of("a", List.of("1", "2"), "a.b", List.of("3")), collector.getErrors());
+
+        assertThrows(IllegalArgumentException.class, () -> new ErrorCollector(0));
+    }
+
+    @Test
+    void shouldFileViolationsIntoAnExistingList() {
+        Violations target = new Violations();
+        target.add("name", "REQUIRED", "must not be null");
+        Violations element = new Violations();
+        element.add("", "MIN", argument -> "must be at least " + argument, 1L);
+        element.add("sku", "REQUIRED", "must not be null");
+        ErrorCollector collector = new ErrorCollector(2, target, Violations.NESTED);
+
+        collector.push("items");
+        collector.push(3);
+        collector.addAll(element);
+        collector.addAll(element);
+        collector.pop();
+        collector.pop();
+
+        assertEquals(2, collector.getCount());
+        assertSame(target, collector.getViolations());
+        assertEquals(3, target.size());
+        assertEquals("items[3].sku", target.getPath(2));
+        assertEquals(Violations.NESTED, target.getCode(1));
+        assertEquals("must be at least 1", target.getMessage(1));
+        assertNull(new ErrorCollector(1).getViolations());
+    }
+
+    @Test
+    void shouldKeepTheStructureOfRelativeViolations() {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        errors.put("[2].sku", List.of("must not be null"));
+        errors.put("[2]", List.of("must be in stock"));
+        Violations element = new Violations();
+        element.addAll(errors, "NESTED");
+        ErrorCollector collector = new ErrorCollector(4);
+
+        collector.push("items");
+        collector.addAll(element);
+        collector.addAll(Map.of("[x]", List.of("bad key")));
+        collector.addAll(List.of("1", "2"));
+        collector.addAll(element);
+        collector.addAll(Map.of("b", List.of("dropped")));
+
+        assertEquals(Map.of("items[2].sku", List.of("must not be null"), "items[2]", List.of("must be in stock"),
+                "items[x]", List.of("bad key"), "items", List.of("1")), collector.getErrors());
+        assertEquals("NESTED", collector.getViolations().getCode(0));
+    }
+}
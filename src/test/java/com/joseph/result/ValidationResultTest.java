@@ -0,0 +1,47 @@
+package com.joseph.result;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationResultTest {
+
+    @Test
+    void shouldShareTheValidResult() {
+        assertSame(ValidationResult.valid(), ValidationResult.of(null));
+        assertSame(ValidationResult.valid(), ValidationResult.of(Map.of()));
+        assertTrue(ValidationResult.valid().isValid());
+        assertTrue(ValidationResult.valid().getErrors().isEmpty());
+        assertDoesNotThrow(() -> ValidationResult.valid().throwIfInvalid());
+        assertEquals("ValidationResult[valid]", ValidationResult.valid().toString());
+    }
+
+    @Test
+    void shouldExposeErrorsOfInvalidResult() {
+        ValidationResult result = ValidationResult.of(Map.of("age", List.of("must be at least 18")));
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("must be at least 18"), result.getErrors("age"));
+        assertEquals(List.of(), result.getErrors("email"));
+        assertEquals("ValidationResult{age=[must be at least 18]}", result.toString());
+        RecordValidationException exception = assertThrows(RecordValidationException.class, result::throwIfInvalid);
+        assertEquals(result.getErrors(), exception.getErrors());
+    }
+
+    @Test
+    void shouldValidateRulesWithoutThrowing() {
+        ValidationResult invalid = RecordRules.validate(
+                Rule.on("bad-email", "email").required().email(),
+                Rule.on(25, "age").min(18));
+        assertFalse(invalid.isValid());
+        assertEquals(Map.of("email", List.of("must be a valid email")), invalid.getErrors());
+
+        assertTrue(RecordRules.validate(Rule.on("test@example.com", "email").email()).isValid());
+    }
+}
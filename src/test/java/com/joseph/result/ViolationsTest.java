@@ -0,0 +1,100 @@
+package com.joseph.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationsTest {
+
+    @Test
+    void shouldKeepViolationsInOrder() {
+        Violations violations = new Violations();
+        for (int i = 0; i < 10; i++) {
+            violations.add(i % 2 == 0 ? "email" : "age", i % 2 == 0 ? "EMAIL" : "MIN", "message " + i);
+        }
+
+        assertEquals(10, violations.size());
+        assertFalse(violations.isEmpty());
+        assertEquals("age", violations.getPath(9));
+        assertEquals("MIN", violations.getCode(9));
+        assertEquals("message 9", violations.getMessage(9));
+        assertEquals(List.of("email", "age"), List.copyOf(violations.getErrors().keySet()));
+        assertEquals(List.of("message 1", "message 3", "message 5", "message 7", "message 9"), violations.getErrors().get("age"));
+        assertEquals(List.of("message 0", "message 1", "message 2"), violations.getMessages().subList(0, 3));
+        assertEquals(10, violations.getMessages().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> violations.getCode(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> violations.getPath(-1));
+    }
+
+    @Test
+    void shouldBuildTheErrorMapOnRequest() {
+        Violations violations = new Violations();
+        violations.add("email", "REQUIRED", "must not be null");
+        Map<String, List<String>> errors = violations.getErrors();
+
+        assertSame(errors, violations.getErrors());
+        violations.add("email", "EMAIL", "must be a valid email");
+        assertEquals(Map.of("email", List.of("must not be null", "must be a valid email")), violations.getErrors());
+        assertEquals("Violations{email=[must not be null, must be a valid email]}", violations.toString());
+    }
+
+    @Test
+    void shouldAddErrorsOfAMap() {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        errors.put("address.zip", List.of("must match pattern \\d{5}"));
+        errors.put("items[1].sku", List.of("must not be null", "must not be blank"));
+        Violations violations = new Violations();
+
+        violations.addAll(errors, Violations.NESTED);
+
+        assertEquals(3, violations.size());
+        assertEquals("items[1].sku", violations.getPath(2));
+        assertEquals(Violations.NESTED, violations.getCode(2));
+        assertEquals(errors, violations.getErrors());
+    }
+
+    @Test
+    void shouldRenderMessagesOnRequest() {
+        AtomicInteger renders = new AtomicInteger();
+        Violations.Message bound = argument -> {
+            renders.incrementAndGet();
+            return "must be at least " + argument;
+        };
+        Violations violations = new Violations();
+
+        violations.add("age", "MIN", bound, 18L);
+        violations.add("age", "MIN", bound, 21L);
+
+        assertEquals(0, renders.get());
+        assertEquals(21L, violations.getArgument(1));
+        assertEquals("must be at least 21", violations.getMessage(1));
+        assertEquals(Map.of("age", List.of("must be at least 18", "must be at least 21")), violations.getErrors());
+        assertEquals(3, renders.get());
+    }
+
+    @Test
+    void shouldRenderPathsAsTheyWereAdded() {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        for (String path : List.of("", "items", "items[0]", "items[0].sku", "items[0][1]", "[2].sku", "a..b", "a.", ".a", "[x]", "[007]", "a[1]b", "[1", "[]", "[/]", "[1234567890]")) {
+            errors.put(path, List.of("bad " + path));
+        }
+        Violations violations = new Violations();
+
+        violations.addAll(errors, Violations.NESTED);
+
+        assertEquals(errors, violations.getErrors());
+    }
+
+    @Test
+    void shouldShareAnImmutableEmptyList() {
+        assertSame(Violations.none(), Violations.none());
+        assertTrue(Violations.none().isEmpty());
+        assertSame(Map.of(), Violations.none().getErrors());
+        assertThrows(UnsupportedOperationException.class, () -> Violations.none().add("a", "MIN", "b"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.joseph.rule;
+
+import com.joseph.rule.child.ObjectRule;
+import com.joseph.rule.child.StringRule;
+import com.joseph.schema.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLookupsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void shouldResolveLookupsBeforeEvaluating() {
+        AtomicInteger lookups = new AtomicInteger();
+        StringRule rule = new StringRule(null, "sku")
+                .satisfiesAsync(v -> {
+                    lookups.incrementAndGet();
+                    return CompletableFuture.completedFuture(v.startsWith("A"));
+                }).message("unknown sku")
+                .minLength(4)
+                .satisfiesAsync(v -> CompletableFuture.supplyAsync(() -> v.length() < 8), "sku too long");
+
+        // Messages keep the declaration order of the constraints
+        assertEquals(List.of("unknown sku", "must be between 4 and 2147483647 characters"),
+                rule.evaluateAsync("B-1", AsyncLookups.defaultExecutor(), TIMEOUT).join());
+        assertEquals(List.of("sku too long"), rule.evaluateAsync("A-123456", AsyncLookups.defaultExecutor(), TIMEOUT).join());
+        assertSame(List.of(), rule.evaluateAsync("A-12", AsyncLookups.defaultExecutor(), TIMEOUT).join());
+        assertEquals(3, lookups.get());
+
+        // Null values skip the lookups, and the synchronous evaluation waits for them
+        assertSame(List.of(), rule.evaluateAsync(null, AsyncLookups.defaultExecutor(), TIMEOUT).join());
+        assertEquals(List.of("unknown sku"), rule.evaluate("B-12"));
+        assertEquals(4, lookups.get());
+    }
+
+    @Test
+    void shouldStartEveryLookupOnTheExecutor() {
+        AtomicInteger submitted = new AtomicInteger();
+        Executor executor = task -> {
+            submitted.incrementAndGet();
+            task.run();
+        };
+        AsyncLookups lookups = new AsyncLookups(executor);
+        Rule.on("a", "first").satisfiesAsync(v -> CompletableFuture.completedFuture(true)).startLookups(lookups);
+        Rule.on("b", "second").satisfiesAsync(v -> CompletableFuture.completedFuture(true))
+                .satisfiesAsync(v -> CompletableFuture.completedFuture(false)).startLookups(lookups);
+        Rule.on((String) null, "third").satisfiesAsync(v -> CompletableFuture.completedFuture(false)).startLookups(lookups);
+
+        assertEquals(3, lookups.size());
+        assertEquals(3, submitted.get());
+        assertEquals("done", lookups.thenValidate(() -> "done", TIMEOUT).join());
+    }
+
+    @Test
+    void shouldBoundTheWaitOutsideOfAPass() {
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        StringRule rule = Rule.on("x", "sku").satisfiesAsync(v -> pending);
+
+        AsyncLookups.setBlockingTimeout(Duration.ofMillis(20));
+        try {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, rule::getViolations);
+            assertInstanceOf(TimeoutException.class, exception.getCause());
+            assertTrue(pending.isCancelled());
+        } finally {
+            AsyncLookups.setBlockingTimeout(AsyncLookups.DEFAULT_BLOCKING_TIMEOUT);
+        }
+        assertEquals(AsyncLookups.DEFAULT_BLOCKING_TIMEOUT, AsyncLookups.getBlockingTimeout());
+        assertThrows(IllegalArgumentException.class, () -> AsyncLookups.setBlockingTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> AsyncLookups.setBlockingTimeout(Duration.ofSeconds(-1)));
+
+        Thread.currentThread().interrupt();
+        StringRule interrupted = Rule.on("x", "sku").satisfiesAsync(v -> new CompletableFuture<>());
+        assertThrows(IllegalStateException.class, interrupted::getViolations);
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void shouldReportAFailedLookupAsAViolation() {
+        StringRule rule = Rule.on("x", "sku").satisfiesAsync(v -> CompletableFuture.failedFuture(new IllegalStateException("service down")),
+                "could not be checked");
+        StringRule throwing = Rule.on("x", "sku").satisfiesAsync(v -> {
+            throw new IllegalStateException("service down");
+        });
+
+        assertEquals(List.of("could not be checked"), rule.evaluateAsync("x", AsyncLookups.defaultExecutor(), TIMEOUT).join());
+        assertEquals(List.of("must satisfy predicate"), throwing.evaluateAsync("x", AsyncLookups.defaultExecutor(), TIMEOUT).join());
+        assertEquals(List.of("could not be checked"), rule.getViolations());
+        assertThrows(NullPointerException.class, () -> new AsyncLookups(null));
+    }
+
+    @Test
+    void shouldStartTheLookupsOfElementsAndNestedSchemasUpFront() {
+        AtomicInteger calls = new AtomicInteger();
+        ObjectRule<List<String>> skus = new ObjectRule<List<String>>(null, "skus")
+                .each(StringRule::new, s -> s.satisfiesAsync(v -> {
+                    calls.incrementAndGet();
+                    return CompletableFuture.supplyAsync(() -> !v.equals("b"));
+                }, "is unknown"));
+
+        AsyncLookups lookups = new AsyncLookups(AsyncLookups.defaultExecutor());
+        skus.startLookups(List.of("a", "b", "a"), lookups);
+        // The same value is only looked up once
+        assertEquals(2, lookups.size());
+        assertEquals(List.of("[1] is unknown"), lookups.thenValidate(() -> skus.evaluate(List.of("a", "b", "a")), TIMEOUT).join());
+        assertEquals(2, calls.get());
+
+        Schema<Line> schema = Schema.builder(Line.class)
+                .stringField("sku", Line::sku, s -> s.satisfiesAsync(v -> {
+                    calls.incrementAndGet();
+                    return CompletableFuture.completedFuture(false);
+                }, "is unknown"))
+                .intField("quantity", Line::quantity, q -> q.satisfiesAsync(v -> CompletableFuture.completedFuture(v.intValue() > 0)))
+                .build();
+        ObjectRule<Line> line = new ObjectRule<Line>(null, "line").when(l -> l.quantity() < 10, r -> r.valid(schema));
+        AsyncLookups nested = new AsyncLookups(AsyncLookups.defaultExecutor());
+        line.startLookups(new Line("c", 0), nested);
+        line.startLookups(new Line("d", 20), nested);
+        assertEquals(2, nested.size());
+        assertEquals("done", nested.thenValidate(() -> "done", TIMEOUT).join());
+        assertEquals(3, calls.get());
+        assertEquals(List.of("sku [is unknown]", "quantity [must satisfy predicate]"),
+                line.evaluateAsync(new Line("c", 0), AsyncLookups.defaultExecutor(), TIMEOUT).join());
+        assertEquals(4, calls.get());
+    }
+
+    public record Line(String sku, int quantity) {
+    }
+}
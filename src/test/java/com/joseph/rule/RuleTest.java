@@ -1,15 +1,22 @@
 package com.joseph.rule;
 
 import com.joseph.RecordRules;
+import com.joseph.cache.BoundedCache;
 import com.joseph.exception.RecordValidationException;
+import com.joseph.result.ErrorCollector;
+import com.joseph.result.Violations;
 import com.joseph.rule.child.DateRule;
+import com.joseph.rule.child.IntRule;
 import com.joseph.rule.child.NumberRule;
 import com.joseph.rule.child.ObjectRule;
 import com.joseph.rule.child.StringRule;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
@@ -106,6 +113,234 @@ class RuleTest {
         assertTrue(violations.get(0).contains("must match pattern"));
     }
 
+    @Test
+    void testViolationLimit() {
+        var rule = Rule.on("val", "field")
+                .satisfies(v -> false, "first")
+                .satisfies(v -> false, "second")
+                .check(v -> RecordRules.check(Rule.on((String) null, "a").required(), Rule.on((String) null, "b").required()));
+
+        assertEquals(List.of("first"), rule.getViolations(1));
+        assertEquals(List.of("first", "second"), rule.getViolations(2));
+        assertEquals(3, rule.getViolations(3).size());
+        assertEquals(4, rule.getViolations().size());
+        assertTrue(Rule.on("val", "field").required().getViolations(1).isEmpty());
+    }
+
+    @Test
+    void shouldSkipNullSafeConstraintsForNull() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeRule rule = new ProbeRule().probe("REQUIRED", v -> v == null)
+                .probe("EMAIL", v -> calls.incrementAndGet() > 0)
+                .probe("LENGTH", v -> calls.incrementAndGet() > 0)
+                .probe("SATISFIES", v -> calls.incrementAndGet() > 0);
+
+        assertEquals(List.of("required"), rule.evaluate(null));
+        assertEquals(0, calls.get());
+
+        ProbeRule custom = new ProbeRule().probe("CUSTOM", v -> calls.incrementAndGet() > 0);
+        assertEquals(List.of("custom"), custom.evaluate(null));
+        assertEquals(1, calls.get());
+        assertEquals(List.of("must not be null"), Rule.on((String) null, "email").required().email().matches("x").getViolations());
+    }
+
+    @Test
+    void shouldTestEachDistinctValueOnceWithACachedPredicate() {
+        AtomicInteger calls = new AtomicInteger();
+        BoundedCache<String, Boolean> countries = new BoundedCache<>(100, Duration.ofMinutes(5));
+        Predicate<String> known = v -> {
+            calls.incrementAndGet();
+            return v.equals("FR") || v.equals("DE");
+        };
+        List<String> rows = List.of("FR", "DE", "FR", "XX", "FR", "XX", "DE");
+
+        int invalid = 0;
+        for (String row : rows) {
+            List<String> violations = Rule.on(row, "country").satisfiesCached(countries, known, "unknown country").getViolations();
+            invalid += violations.size();
+        }
+
+        assertEquals(2, invalid);
+        assertEquals(3, calls.get());
+        assertEquals(4.0 / 7, countries.getHitRate(), 1e-9);
+        assertTrue(Rule.on((String) null, "country").satisfiesCached(countries, known, "unknown country").getViolations().isEmpty());
+    }
+
+    @Test
+    void shouldCheckValidityInCostOrder() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeRule rule = new ProbeRule().probe("CUSTOM", v -> calls.incrementAndGet() > 0)
+                .probe("MATCHES", v -> calls.incrementAndGet() > 0)
+                .probe("LENGTH", v -> v.length() > 3);
+
+        assertFalse(rule.isValid("long value"));
+        assertEquals(0, calls.get());
+
+        // Collecting the messages keeps the declaration order
+        assertEquals(List.of("custom", "matches", "length"), rule.evaluate("long value"));
+        assertEquals(2, calls.get());
+
+        assertTrue(new ProbeRule().probe("LENGTH", v -> v.length() > 3).probe("CUSTOM", v -> false).isValid("abc"));
+        assertTrue(Rule.on("a@b.cd", "email").required().email().isValid("a@b.cd"));
+        assertFalse(Rule.on("a@b.cd", "email").required().email().isValid(null));
+        assertFalse(Rule.on("a", "email").check(v -> RecordRules.check(Rule.on(v, "x").minLength(2))).isValid("a"));
+        assertTrue(Rule.on("a", "email").check(v -> RecordRules.check(Rule.on(v, "x").minLength(2))).isValid("ab"));
+    }
+
+    @Test
+    void shouldSkipTheConstraintsOfANullValueWhenCollectingMessages() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeRule rule = new ProbeRule().custom(v -> calls.incrementAndGet() > 0).required();
+
+        assertEquals(List.of("must not be null"), rule.getViolations());
+        assertEquals(List.of("must not be null"), rule.evaluate(null, 1));
+        assertEquals(1, rule.evaluate(null, Integer.MAX_VALUE, "probe", null).size());
+        assertEquals(0, calls.get());
+        assertEquals(List.of("custom"), rule.evaluate("value"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldCollectTheFirstViolationsInCostOrder() {
+        AtomicInteger calls = new AtomicInteger();
+        ProbeRule rule = new ProbeRule().probe("LENGTH", v -> v.length() > 3)
+                .probe("MATCHES", v -> calls.incrementAndGet() > 0)
+                .probe("MIN", v -> true);
+
+        // The length fails first in declaration order, so the pattern is not needed
+        assertEquals(List.of("length"), rule.evaluate("long value", 1));
+        assertEquals(0, calls.get());
+        // The second violation is the pattern, declared before the other cheap failure
+        assertEquals(List.of("length", "matches"), rule.evaluate("long value", 2));
+        assertEquals(List.of("matches", "min"), rule.evaluate("abc"));
+        assertEquals(2, calls.get());
+
+        ProbeRule many = new ProbeRule();
+        for (int i = 0; i < 70; i++) {
+            many.probe(i % 2 == 0 ? "CUSTOM" : "LENGTH", v -> v.isEmpty());
+        }
+        many.required();
+        assertEquals(70, many.evaluate("").size());
+        assertEquals(List.of("custom", "length"), many.evaluate("", 2));
+        assertEquals(List.of("must not be null"), many.evaluate(null));
+        assertEquals(List.of(), many.evaluate("x"));
+    }
+
+    @Test
+    void shouldEvaluateIntoCompactViolations() {
+        StringRule template = new StringRule(null, "code")
+                .length(2, 3)
+                .matches("[A-Z]+")
+                .check(val -> RecordRules.check(Rule.on(val, "first").satisfies(v -> v.charAt(0) != 'X', "no X")));
+
+        assertNull(template.evaluate("AB", Integer.MAX_VALUE, "code", null));
+        Violations violations = template.evaluate("xxxx", Integer.MAX_VALUE, "code", null);
+        Violations again = template.evaluate("X", 2, "code", new Violations());
+
+        assertEquals(List.of("LENGTH", "MATCHES"), List.of(violations.getCode(0), violations.getCode(1)));
+        assertEquals(List.of("must be between 2 and 3 characters", "must match pattern [A-Z]+"), violations.getErrors().get("code"));
+        assertSame(violations.getMessage(0), again.getMessage(0));
+        assertEquals(2, again.size());
+        assertSame(violations, template.evaluate("XYZ", 1, "code", violations));
+        assertEquals(Violations.NESTED, violations.getCode(2));
+        assertEquals("first [no X]", violations.getMessage(2));
+    }
+
+    @Test
+    void shouldEstimateTheCostOfARule() {
+        assertEquals(0, Rule.on("x", "name").estimateCost());
+        assertEquals(1 + 16 + 16, Rule.on("x", "email").required().email().satisfies(v -> true).estimateCost());
+        assertEquals(2, Rule.on(5, "age").range(0, 10).estimateCost());
+        assertEquals(1 + 3 * 17, Rule.on(List.of("a", "b", "c"), "emails").required()
+                .each(StringRule::new, e -> e.required().email()).estimateCost());
+        assertEquals(16, Rule.on(List.of(), "tags").check(v -> { }).estimateCost());
+    }
+
+    @Test
+    void shouldOnlyRegisterTheConstraintsOfActiveGroups() {
+        AtomicInteger calls = new AtomicInteger();
+        Predicate<String> counted = val -> calls.incrementAndGet() > 0 && val.length() > 3;
+        StringRule onCreate = new StringRule(null, "name").activeGroups("create")
+                .notBlank()
+                .group("create", r -> r.required())
+                .group("update", r -> r.satisfies(counted, "must be long"));
+        StringRule onUpdate = new StringRule(null, "name").activeGroups("update", "audit")
+                .group("create", r -> r.required())
+                .group("update", r -> r.satisfies(counted, "must be long"));
+
+        assertEquals(List.of("must not be null"), onCreate.evaluate(null));
+        assertEquals(List.of("must not be blank"), onCreate.evaluate(" "));
+        assertEquals(0, calls.get());
+        assertEquals(List.of(), onUpdate.evaluate(null));
+        assertEquals(List.of("must be long"), onUpdate.evaluate("abc"));
+        assertEquals(1, calls.get());
+        assertEquals(List.of(), Rule.on("x", "name").group("create", r -> r.length(5, 9)).getViolations());
+    }
+
+    @Test
+    void shouldOnlyApplyConditionalConstraintsWhenTheConditionHolds() {
+        AtomicInteger calls = new AtomicInteger();
+        StringRule phone = new StringRule(null, "phone")
+                .required()
+                .when(s -> s.startsWith("+"), r -> r.matches("\\+\\d{8,15}").satisfies(s -> calls.incrementAndGet() > 0, "never"))
+                .when(s -> s.startsWith("0"), r -> r.length(10, 10)
+                        .when(s -> s.startsWith("06"), m -> m.matches("06\\d+").message("must be a mobile number")))
+                .check(s -> RecordRules.check(Rule.on(s, "phone").notBlank()));
+
+        assertEquals(List.of("must not be null"), phone.evaluate(null));
+        assertEquals(List.of(), phone.evaluate("+33612345678"));
+        assertEquals(1, calls.get());
+        assertEquals(List.of("must match pattern \\+\\d{8,15}"), phone.evaluate("+33"));
+        assertEquals(List.of(), phone.evaluate("0612345678"));
+        assertEquals(List.of("must be between 10 and 10 characters", "must be a mobile number"), phone.evaluate("06x"));
+        assertEquals(List.of("must be between 10 and 10 characters"), phone.evaluate("0123"));
+        assertEquals(List.of(), phone.evaluate("12"));
+        assertEquals(2, calls.get());
+        assertFalse(phone.isValid("06x"));
+        assertTrue(phone.isValid("12"));
+        assertEquals(List.of("must not be blank"), new StringRule(null, "s").when(s -> s.isEmpty(), r -> r.notBlank()).evaluate(""));
+        assertEquals(List.of(), new StringRule(null, "s").when(s -> s.isEmpty(), r -> r.check(v -> RecordRules.check(Rule.on(v, "v").notBlank()))).evaluate(" "));
+    }
+
+    @Test
+    void shouldGuardNestedValidatorsAndSharedConditions() {
+        AtomicInteger checks = new AtomicInteger();
+        StringRule rule = new StringRule(null, "code")
+                .check(v -> checks.incrementAndGet())
+                .when(s -> s.length() > 1, r -> r.check(v -> RecordRules.check(Rule.on(v, "v").length(1, 1)))
+                        .when(s -> s.startsWith("x"), x -> x.length(3, 3).matches("x[0-9]+")));
+
+        assertEquals(List.of(), rule.evaluate(null));
+        assertEquals(List.of(), rule.evaluate("a"));
+        assertEquals(List.of("v [must be between 1 and 1 characters]"), rule.evaluate("ab"));
+        assertEquals(List.of("must be between 3 and 3 characters", "must match pattern x[0-9]+", "v [must be between 1 and 1 characters]"),
+                rule.evaluate("xy"));
+        assertEquals(3, checks.get());
+
+        StringRule invalid = Rule.on("", "name").notBlank();
+        assertSame(invalid.getViolations(), invalid.getViolations());
+        ErrorCollector full = new ErrorCollector(1);
+        full.add("first");
+        invalid.collect("", full);
+        assertEquals(1, full.getCount());
+        assertEquals(List.of("custom"), new ProbeRule().custom(v -> true).evaluate("x"));
+    }
+
+    @Test
+    void shouldGuardPrimitiveBounds() {
+        IntRule rule = new IntRule(0, "quantity")
+                .min(0)
+                .when(n -> n.intValue() % 2 == 0, r -> ((IntRule) r).max(10).message("even quantities stop at 10"))
+                .when(n -> n.intValue() > 100, r -> r.max(50));
+
+        assertEquals(List.of(), rule.evaluate(11, Integer.MAX_VALUE));
+        assertEquals(List.of("even quantities stop at 10"), rule.evaluate(12, Integer.MAX_VALUE));
+        assertEquals(List.of("must be at least 0"), rule.evaluate(-1, Integer.MAX_VALUE));
+        assertEquals(List.of("even quantities stop at 10", "must be at most 50"), rule.evaluate(102, Integer.MAX_VALUE));
+        assertEquals("MAX", rule.evaluate(12, 1, "quantity", null).getCode(0));
+        assertNull(rule.evaluate(13, 1, "quantity", null));
+    }
+
     @Test
     void shouldHandleNullLong_WithoutThrowingNPE() {
         record TestRecord(Long someLongField) {
@@ -120,4 +355,23 @@ class RuleTest {
                 .hasMessageContaining("someLongField")
                 .hasMessageContaining("must not be null");
     }
-}
\ No newline at end of file
+
+    /**
+     * Rule registering arbitrary predicates under a given code, whose message is the lower case code.
+     */
+    static final class ProbeRule extends Rule<String, ProbeRule> {
+        ProbeRule() {
+            super(null, "probe");
+        }
+
+        ProbeRule probe(final String code, final Predicate<String> predicate) {
+            addConstraint(code, predicate, code.toLowerCase());
+            return this;
+        }
+
+        ProbeRule custom(final Predicate<String> predicate) {
+            addConstraint(predicate, "custom");
+            return this;
+        }
+    }
+}
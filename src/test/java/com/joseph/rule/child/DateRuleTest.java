@@ -1,9 +1,14 @@
 package com.joseph.rule.child;
 
 import com.joseph.rule.Rule;
+import com.joseph.time.ValidationClock;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -53,6 +58,18 @@ class DateRuleTest {
         assertEquals(1, ruleToday.getViolations().size());
     }
 
+    @Test
+    void testUsesTheValidationClock() {
+        ValidationClock.pass(Clock.fixed(Instant.parse("2024-02-29T23:00:00Z"), ZoneId.of("Asia/Tokyo")), () -> {
+            LocalDate today = LocalDate.of(2024, 3, 1);
+            assertTrue(Rule.on(today.plusDays(1), "date").isFuture().getViolations().isEmpty());
+            assertEquals(List.of("must be a future date"), Rule.on(today, "date").isFuture().getViolations());
+            assertTrue(Rule.on(today.minusDays(1), "date").isPast().getViolations().isEmpty());
+            assertEquals(List.of("must be a past date"), Rule.on(today, "date").isPast().getViolations());
+            return null;
+        });
+    }
+
     @Test
     void testConstructorAndInheritance() {
         // Targets the constructor explicitly (though covered via Rule.on)
@@ -0,0 +1,30 @@
+package com.joseph.rule.child;
+
+import com.joseph.rule.Rule;
+import com.joseph.time.ValidationClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateTimeRuleTest {
+
+    @Test
+    void shouldCompareWithTheLocalDateTimeOfTheClock() {
+        ValidationClock.pass(Clock.fixed(Instant.parse("2024-06-01T10:00:00Z"), ZoneOffset.ofHours(2)), () -> {
+            LocalDateTime now = LocalDateTime.parse("2024-06-01T12:00:00");
+
+            assertTrue(Rule.on(now.plusSeconds(1), "start").isFuture().getViolations().isEmpty());
+            assertEquals(List.of("must be in the future"), Rule.on(now, "start").isFuture().getViolations());
+            assertTrue(Rule.on(now.minusNanos(1), "created").isPast().getViolations().isEmpty());
+            assertEquals(List.of("must be in the past"), Rule.on(now, "created").isPast().getViolations());
+            assertTrue(Rule.on((LocalDateTime) null, "created").isPast().isFuture().getViolations().isEmpty());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.joseph.rule.child;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.result.ErrorCollector;
+import com.joseph.rule.AsyncLookups;
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleRuleTest {
+
+    @Test
+    void testFactoryMethod() {
+        DoubleRule rule = Rule.on(18.0, "field");
+        assertInstanceOf(NumberRule.class, rule);
+        assertEquals("field", rule.getFieldName());
+    }
+
+    @Test
+    void testMinAndMaxBranches() {
+        // Branch 1: Value is exactly the bounds (Pass)
+        assertTrue(Rule.on(18.0, "age").min(18.0).getViolations().isEmpty());
+        assertTrue(Rule.on(120.0, "age").max(120.0).getViolations().isEmpty());
+
+        // Branch 2: Value is below the minimum (Fail)
+        assertEquals(List.of("must be at least 18.0"), Rule.on(15.5, "age").min(18.0).getViolations());
+
+        // Branch 3: Value is above the maximum (Fail)
+        assertEquals(List.of("must be at most 120.0"), Rule.on(120.5, "age").max(120.0).getViolations());
+
+        // Branch 4: Range reports both bounds independently
+        assertEquals(List.of("must be at least 18.0"), Rule.on(15.5, "age").range(18.0, 120.0).getViolations());
+        assertTrue(Rule.on(18.0, "age").range(18.0, 120.0).getViolations().isEmpty());
+    }
+
+    @Test
+    void testBoundsKeepTheirText() {
+        assertEquals(List.of("must be at least 2.1"), Rule.on(1.5f, "f").min(2.1f).getViolations());
+        assertEquals(List.of("must be at least 10"), Rule.on(5.0, "price").min(10).getViolations());
+        assertEquals(List.of("must be at most 20"), Rule.on(25.0, "price").range(10, 20L).getViolations());
+        assertEquals(List.of("must be at least 10"), Rule.on(5.0, "price").when(n -> true, r -> r.min(10)).getViolations());
+    }
+
+    @Test
+    void testMessagesAndInheritedConstraints() {
+        // message() targets the most recent bound, even after required()
+        DoubleRule rule = Rule.on(15.5, "age").required().min(18.0).message("Too young").max(120.0).message("Too old");
+        assertEquals(List.of("Too young"), rule.getViolations());
+
+        // required() is a no-op for primitives and does not capture the next message
+        assertTrue(Rule.on(15.5, "age").required().message("ignored").getViolations().isEmpty());
+
+        // Inherited constraints are evaluated against the boxed value after the bounds
+        NumberRule mixed = Rule.on(15.5, "age").min(18.0).satisfies(v -> v.intValue() > 100).message("Too small");
+        assertEquals(List.of("must be at least 18.0", "Too small"), mixed.getViolations());
+        assertEquals(List.of("must be at least 18.0"), mixed.getViolations(1));
+        assertEquals(List.of("Too small"), Rule.on(18.0, "age").min(18.0).satisfies(v -> false, "Too small").getViolations());
+    }
+
+    @Test
+    void testEvaluateBoxedAndPrimitiveValues() {
+        DoubleRule rule = Rule.on(18.0, "age").min(18.0).max(120.0);
+        assertTrue(rule.evaluate(18.0, Integer.MAX_VALUE).isEmpty());
+        assertEquals(2, Rule.on(18.0, "age").min(120.0).min(120.0).evaluate(15.5, Integer.MAX_VALUE).size());
+        assertEquals(List.of("must be at most 120.0"), rule.evaluate((Double) 120.5, Integer.MAX_VALUE));
+        assertTrue(rule.evaluate((Number) null, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void testConditionalBoundsAndCompactEvaluation() {
+        DoubleRule rule = new DoubleRule(5.0, "n").min(1.0).max(10.0).min(2.0)
+                .when(n -> n.doubleValue() > 4, r -> ((DoubleRule) r).min(3.0).max(10.0))
+                .activeGroups("strict").group("strict", r -> r.max(11));
+        assertTrue(rule.getViolations().isEmpty());
+        // Guarded and unguarded bounds are reported in declaration order
+        assertEquals(List.of("must be at most 10.0", "must be at most 10.0", "must be at most 11"), rule.evaluate(12.0, Integer.MAX_VALUE));
+        assertEquals(List.of("must be at least 2.0"), rule.evaluate(1.0, Integer.MAX_VALUE));
+        assertNull(rule.evaluate((Number) null, 1, "n", null));
+
+        ErrorCollector collector = new ErrorCollector(5);
+        new DoubleRule(12.0, "n").max(10.0).satisfies(n -> false, "never").collect(collector);
+        assertEquals(Map.of("n", List.of("must be at most 10.0", "never")), collector.getErrors());
+
+        AsyncLookups lookups = new AsyncLookups(Runnable::run);
+        new DoubleRule(5.0, "n").max(10.0).startLookups(lookups);
+        new DoubleRule(5.0, "n").satisfiesAsync(n -> CompletableFuture.completedFuture(true)).startLookups(lookups);
+        assertEquals(1, lookups.size());
+    }
+
+    @Test
+    void shouldThrowForInvalidRecord() {
+        record TestRecord(double value) {
+            TestRecord {
+                RecordRules.check(Rule.on(value, "value").min(18.0));
+            }
+        }
+
+        assertDoesNotThrow(() -> new TestRecord(18.0));
+        assertThatThrownBy(() -> new TestRecord(15.5))
+            .isInstanceOf(RecordValidationException.class)
+            .hasMessageContaining("value: [must be at least 18.0]");
+    }
+}
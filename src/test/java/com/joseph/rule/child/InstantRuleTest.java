@@ -0,0 +1,29 @@
+package com.joseph.rule.child;
+
+import com.joseph.rule.Rule;
+import com.joseph.time.ValidationClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstantRuleTest {
+
+    @Test
+    void shouldCompareWithTheInstantOfTheClock() {
+        Instant now = Instant.parse("2024-06-01T10:00:00Z");
+        ValidationClock.pass(Clock.fixed(now, ZoneOffset.UTC), () -> {
+
+            assertTrue(Rule.on(now.plusNanos(1), "expiry").isFuture().getViolations().isEmpty());
+            assertEquals(List.of("must be in the future"), Rule.on(now, "expiry").isFuture().getViolations());
+            assertTrue(Rule.on(now.minusMillis(1), "issued").isPast().getViolations().isEmpty());
+            assertEquals(List.of("issued in the future"), Rule.on(now.plusSeconds(60), "issued").isPast().message("issued in the future").getViolations());
+            assertTrue(Rule.on((Instant) null, "issued").isPast().getViolations().isEmpty());
+            return null;
+        });
+    }
+}
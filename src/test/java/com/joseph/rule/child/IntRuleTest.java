@@ -0,0 +1,124 @@
+package com.joseph.rule.child;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.result.ErrorCollector;
+import com.joseph.rule.AsyncLookups;
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntRuleTest {
+
+    @Test
+    void testFactoryMethod() {
+        IntRule rule = Rule.on(18, "field");
+        assertInstanceOf(NumberRule.class, rule);
+        assertEquals("field", rule.getFieldName());
+    }
+
+    @Test
+    void testMinAndMaxBranches() {
+        // Branch 1: Value is exactly the bounds (Pass)
+        assertTrue(Rule.on(18, "age").min(18).getViolations().isEmpty());
+        assertTrue(Rule.on(120, "age").max(120).getViolations().isEmpty());
+
+        // Branch 2: Value is below the minimum (Fail)
+        assertEquals(List.of("must be at least 18"), Rule.on(15, "age").min(18).getViolations());
+
+        // Branch 3: Value is above the maximum (Fail)
+        assertEquals(List.of("must be at most 120"), Rule.on(121, "age").max(120).getViolations());
+
+        // Branch 4: Range reports both bounds independently
+        assertEquals(List.of("must be at least 18"), Rule.on(15, "age").range(18, 120).getViolations());
+        assertTrue(Rule.on(18, "age").range(18, 120).getViolations().isEmpty());
+    }
+
+    @Test
+    void testMessagesAndInheritedConstraints() {
+        // message() targets the most recent bound, even after required()
+        IntRule rule = Rule.on(15, "age").required().min(18).message("Too young").max(120).message("Too old");
+        assertEquals(List.of("Too young"), rule.getViolations());
+
+        // required() is a no-op for primitives and does not capture the next message
+        assertTrue(Rule.on(15, "age").required().message("ignored").getViolations().isEmpty());
+
+        // Inherited constraints are evaluated against the boxed value after the bounds
+        NumberRule mixed = Rule.on(15, "age").min(18).satisfies(v -> v.intValue() > 100).message("Too small");
+        assertEquals(List.of("must be at least 18", "Too small"), mixed.getViolations());
+        assertEquals(List.of("must be at least 18"), mixed.getViolations(1));
+        assertEquals(List.of("Too small"), Rule.on(18, "age").min(18).satisfies(v -> false, "Too small").getViolations());
+    }
+
+    @Test
+    void testEvaluateBoxedAndPrimitiveValues() {
+        IntRule rule = Rule.on(18, "age").min(18).max(120);
+        assertTrue(rule.evaluate(18, Integer.MAX_VALUE).isEmpty());
+        assertEquals(2, Rule.on(18, "age").min(120).min(120).evaluate(15, Integer.MAX_VALUE).size());
+        assertEquals(List.of("must be at most 120"), rule.evaluate((Integer) 121, Integer.MAX_VALUE));
+        assertTrue(rule.evaluate((Number) null, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void testConditionalBoundsAndCompactEvaluation() {
+        IntRule rule = new IntRule(5, "n").min(1).max(10).min(2)
+                .when(n -> n.doubleValue() > 4, r -> ((IntRule) r).min(3).max(10))
+                .activeGroups("strict").group("strict", r -> r.max(11));
+        assertTrue(rule.getViolations().isEmpty());
+        assertEquals(List.of("must be at most 10", "must be at most 10", "must be at most 11"), rule.evaluate(12, Integer.MAX_VALUE));
+        assertEquals(List.of("must be at least 2"), rule.evaluate(1, Integer.MAX_VALUE));
+        assertNull(rule.evaluate((Number) null, 1, "n", null));
+
+        ErrorCollector collector = new ErrorCollector(5);
+        new IntRule(12, "n").max(10).satisfies(n -> false, "never").collect(collector);
+        assertEquals(Map.of("n", List.of("must be at most 10", "never")), collector.getErrors());
+
+        AsyncLookups lookups = new AsyncLookups(Runnable::run);
+        new IntRule(5, "n").max(10).startLookups(lookups);
+        new IntRule(5, "n").satisfiesAsync(n -> CompletableFuture.completedFuture(true)).startLookups(lookups);
+        assertEquals(1, lookups.size());
+    }
+
+    @Test
+    void shouldKeepBlockBoundsPrimitiveAndReportInDeclarationOrder() {
+        // Bounds registered through the NumberRule of a group block stay primitive
+        IntRule grouped = new IntRule(5, "n").activeGroups("create").group("create", r -> r.min(10).message("too low").max(20));
+        assertFalse(grouped.needsBoxedValue());
+        assertEquals(List.of("too low"), grouped.getViolations());
+
+        IntRule mixed = new IntRule(5, "n");
+        mixed.satisfies(v -> false, "first").min(10);
+        assertTrue(mixed.needsBoxedValue());
+        assertEquals(List.of("first", "must be at least 10"), mixed.getViolations());
+        assertEquals(List.of("first"), mixed.getViolations(1));
+
+        IntRule wide = new IntRule(5, "n").min(5.5).max(1L << 40).min(4L);
+        assertTrue(wide.needsBoxedValue());
+        assertEquals(List.of("must be at least 5.5"), wide.getViolations());
+        assertFalse(new IntRule(5, "n").min(4L).max((short) 9).min((byte) 1).needsBoxedValue());
+        IntRule checked = new IntRule(5, "n").min(1);
+        checked.check(v -> { });
+        assertTrue(checked.needsBoxedValue());
+        assertTrue(new IntRule(5, "n").when(v -> true, r -> r.min(1)).needsBoxedValue());
+    }
+
+    @Test
+    void shouldThrowForInvalidRecord() {
+        record TestRecord(int value) {
+            TestRecord {
+                RecordRules.check(Rule.on(value, "value").min(18));
+            }
+        }
+
+        assertDoesNotThrow(() -> new TestRecord(18));
+        assertThatThrownBy(() -> new TestRecord(15))
+            .isInstanceOf(RecordValidationException.class)
+            .hasMessageContaining("value: [must be at least 18]");
+    }
+}
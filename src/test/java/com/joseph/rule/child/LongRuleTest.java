@@ -0,0 +1,126 @@
+package com.joseph.rule.child;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.result.ErrorCollector;
+import com.joseph.rule.AsyncLookups;
+import com.joseph.rule.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongRuleTest {
+
+    @Test
+    void testFactoryMethod() {
+        LongRule rule = Rule.on(18L, "field");
+        assertInstanceOf(NumberRule.class, rule);
+        assertEquals("field", rule.getFieldName());
+    }
+
+    @Test
+    void testMinAndMaxBranches() {
+        // Branch 1: Value is exactly the bounds (Pass)
+        assertTrue(Rule.on(18L, "age").min(18L).getViolations().isEmpty());
+        assertTrue(Rule.on(120L, "age").max(120L).getViolations().isEmpty());
+
+        // Branch 2: Value is below the minimum (Fail)
+        assertEquals(List.of("must be at least 18"), Rule.on(15L, "age").min(18L).getViolations());
+
+        // Branch 3: Value is above the maximum (Fail)
+        assertEquals(List.of("must be at most 120"), Rule.on(121L, "age").max(120L).getViolations());
+
+        // Branch 4: Range reports both bounds independently
+        assertEquals(List.of("must be at least 18"), Rule.on(15L, "age").range(18L, 120L).getViolations());
+        assertTrue(Rule.on(18L, "age").range(18L, 120L).getViolations().isEmpty());
+    }
+
+    @Test
+    void testMessagesAndInheritedConstraints() {
+        // message() targets the most recent bound, even after required()
+        LongRule rule = Rule.on(15L, "age").required().min(18L).message("Too young").max(120L).message("Too old");
+        assertEquals(List.of("Too young"), rule.getViolations());
+
+        // required() is a no-op for primitives and does not capture the next message
+        assertTrue(Rule.on(15L, "age").required().message("ignored").getViolations().isEmpty());
+
+        // Inherited constraints are evaluated against the boxed value after the bounds
+        NumberRule mixed = Rule.on(15L, "age").min(18L).satisfies(v -> v.intValue() > 100).message("Too small");
+        assertEquals(List.of("must be at least 18", "Too small"), mixed.getViolations());
+        assertEquals(List.of("must be at least 18"), mixed.getViolations(1));
+        assertEquals(List.of("Too small"), Rule.on(18L, "age").min(18L).satisfies(v -> false, "Too small").getViolations());
+    }
+
+    @Test
+    void testEvaluateBoxedAndPrimitiveValues() {
+        LongRule rule = Rule.on(18L, "age").min(18L).max(120L);
+        assertTrue(rule.evaluate(18L, Integer.MAX_VALUE).isEmpty());
+        assertEquals(2, Rule.on(18L, "age").min(120L).min(120L).evaluate(15L, Integer.MAX_VALUE).size());
+        assertEquals(List.of("must be at most 120"), rule.evaluate((Long) 121L, Integer.MAX_VALUE));
+        assertTrue(rule.evaluate((Number) null, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void testConditionalBoundsCompareUnboxedValues() {
+        LongRule rule = new LongRule(0L, "id")
+                .when(n -> n.longValue() > 0, r -> ((LongRule) r).max(Long.MAX_VALUE - 1).message("must leave room"));
+
+        assertEquals(List.of("must leave room"), rule.evaluate(Long.MAX_VALUE, Integer.MAX_VALUE));
+        assertTrue(rule.evaluate(Long.MAX_VALUE - 1, Integer.MAX_VALUE).isEmpty());
+        assertEquals(List.of("must be at least 5"), new LongRule(1L, "id").when(n -> true, r -> ((LongRule) r).min(5L)).getViolations());
+    }
+
+    @Test
+    void testConditionalBoundsAndCompactEvaluation() {
+        LongRule rule = new LongRule(5L, "n").min(1L).max(10L).min(2L)
+                .when(n -> n.doubleValue() > 4, r -> ((LongRule) r).min(3L).max(10L))
+                .activeGroups("strict").group("strict", r -> r.max(11));
+        assertTrue(rule.getViolations().isEmpty());
+        assertEquals(List.of("must be at most 10", "must be at most 10", "must be at most 11"), rule.evaluate(12L, Integer.MAX_VALUE));
+        assertEquals(List.of("must be at least 2"), rule.evaluate(1L, Integer.MAX_VALUE));
+        assertNull(rule.evaluate((Number) null, 1, "n", null));
+
+        ErrorCollector collector = new ErrorCollector(5);
+        new LongRule(12L, "n").max(10L).satisfies(n -> false, "never").collect(collector);
+        assertEquals(Map.of("n", List.of("must be at most 10", "never")), collector.getErrors());
+
+        AsyncLookups lookups = new AsyncLookups(Runnable::run);
+        new LongRule(5L, "n").max(10L).startLookups(lookups);
+        new LongRule(5L, "n").satisfiesAsync(n -> CompletableFuture.completedFuture(true)).startLookups(lookups);
+        assertEquals(1, lookups.size());
+    }
+
+    @Test
+    void shouldKeepBlockBoundsPrimitiveAndReportInDeclarationOrder() {
+        LongRule grouped = new LongRule(5L, "n").activeGroups("create").group("create", r -> r.min(10).max(20L));
+        assertFalse(grouped.needsBoxedValue());
+        assertEquals(List.of("must be at least 10"), grouped.getViolations());
+
+        LongRule mixed = new LongRule(5L, "n");
+        mixed.satisfies(v -> false, "first").min((short) 10);
+        assertEquals(List.of("first", "must be at least 10"), mixed.getViolations());
+
+        LongRule wide = new LongRule(5L, "n").max(4.5).min((byte) 1);
+        assertTrue(wide.needsBoxedValue());
+        assertEquals(List.of("must be at most 4.5"), wide.getViolations());
+    }
+
+    @Test
+    void shouldThrowForInvalidRecord() {
+        record TestRecord(long value) {
+            TestRecord {
+                RecordRules.check(Rule.on(value, "value").min(18L));
+            }
+        }
+
+        assertDoesNotThrow(() -> new TestRecord(18L));
+        assertThatThrownBy(() -> new TestRecord(15L))
+            .isInstanceOf(RecordValidationException.class)
+            .hasMessageContaining("value: [must be at least 18]");
+    }
+}
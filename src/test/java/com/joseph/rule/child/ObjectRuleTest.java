@@ -2,11 +2,23 @@ package com.joseph.rule.child;
 
 import com.joseph.RecordRules;
 import com.joseph.exception.RecordValidationException;
+import com.joseph.result.ErrorCollector;
+import com.joseph.result.ValidationResult;
+import com.joseph.result.Validator;
+import com.joseph.result.Violations;
 import com.joseph.rule.Rule;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,6 +64,7 @@ class ObjectRuleTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void testForEach() {
         List<String> items = List.of("First", "Second");
         List<String> capturedValues = new ArrayList<>();
@@ -68,11 +81,258 @@ class ObjectRuleTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void testForEachWithNonIterable() {
         Rule.on(new Object(), "field").forEach((val, idx) ->
                 fail("BiConsumer should not be called for non-iterable types"));
     }
 
+    @Test
+    void testEach() {
+        ObjectRule<List<String>> rule = Rule.on(List.of("a@b.cd", "bad", ""), "emails")
+                .each(StringRule::new, s -> s.required().email());
+
+        assertEquals(List.of("[1] must be a valid email", "[2] must be a valid email"), rule.getViolations());
+        assertEquals(List.of("[0] must not be null"),
+                rule.evaluate(Arrays.asList(null, "a@b.cd")));
+        assertSame(List.of(), rule.evaluate(List.of("a@b.cd")));
+        assertSame(List.of(), rule.evaluate(null));
+    }
+
+    @Test
+    void testEachBuildsTheElementRuleOnceAndLazily() {
+        AtomicInteger builds = new AtomicInteger();
+        ObjectRule<List<Integer>> rule = Rule.on(List.of(1, 20), "ages").each(NumberRule::new, n -> {
+            builds.incrementAndGet();
+            n.min(18);
+        });
+        assertEquals(0, builds.get());
+
+        assertEquals(List.of("[0] must be at least 18"), rule.getViolations());
+        assertEquals(List.of("[1] must be at least 18"), rule.evaluate(List.of(30, 2)));
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void testEachWithNonListIterables() {
+        Set<String> skus = new LinkedHashSet<>(List.of("A-1", "", "B-2"));
+        assertEquals(List.of("[1] must not be blank"), Rule.on(skus, "skus").each(StringRule::new, StringRule::notBlank).getViolations());
+        assertTrue(Rule.on(new Object(), "skus").each(StringRule::new, StringRule::notBlank).getViolations().isEmpty());
+    }
+
+    @Test
+    void testEachErrorCaps() {
+        List<String> skus = List.of("", " ", "ok", "  ");
+        ObjectRule<List<String>> rule = Rule.on(skus, "skus").minSize(10)
+                .each(StringRule::new, s -> s.notBlank().minLength(1)).maxElementErrors(3);
+
+        assertEquals(List.of("must have at least 10 items", "[0] must not be blank", "[0] must be between 1 and 2147483647 characters",
+                "[1] must not be blank"), rule.getViolations());
+        assertEquals(List.of("must have at least 10 items", "[0] must not be blank"), rule.getViolations(2));
+        assertEquals(List.of("must have at least 10 items"), rule.getViolations(1));
+
+        assertThrows(IllegalArgumentException.class, () -> rule.maxElementErrors(0));
+        assertThrows(IllegalArgumentException.class, () -> rule.parallel(0));
+        assertThrows(IllegalStateException.class, () -> Rule.on(skus, "skus").maxElementErrors(1));
+    }
+
+    @Test
+    void testEachInParallel() {
+        List<String> skus = IntStream.range(0, 50_000).mapToObj(i -> i % 1000 == 999 ? "" : "SKU-" + i).toList();
+        ObjectRule<List<String>> sequential = Rule.on(skus, "skus").each(StringRule::new, StringRule::notBlank).maxElementErrors(20);
+        ObjectRule<List<String>> parallel = Rule.on(skus, "skus").each(StringRule::new, StringRule::notBlank).maxElementErrors(20).parallel(1000);
+
+        List<String> violations = parallel.getViolations();
+        assertEquals(20, violations.size());
+        assertEquals("[999] must not be blank", violations.get(0));
+        assertEquals("[19999] must not be blank", violations.get(19));
+        assertEquals(sequential.getViolations(), violations);
+        assertEquals(sequential.getViolations(5), parallel.getViolations(5));
+
+        Collection<String> linked = new LinkedList<>(skus.subList(0, 5000));
+        assertEquals(List.of("[999] must not be blank", "[1999] must not be blank", "[2999] must not be blank",
+                        "[3999] must not be blank", "[4999] must not be blank"),
+                Rule.on(linked, "skus").each(StringRule::new, StringRule::notBlank).parallel(1000).getViolations());
+    }
+
+    @Test
+    void testEachInParallelStopsAtTheErrorLimit() {
+        List<String> skus = IntStream.range(0, 50_000).mapToObj(i -> "SKU-" + i).toList();
+        AtomicInteger calls = new AtomicInteger();
+        ObjectRule<List<String>> rule = Rule.on(skus, "skus")
+                .each(StringRule::new, s -> s.satisfies(sku -> calls.incrementAndGet() < 0, "is unknown")).maxElementErrors(5).parallel(1000);
+
+        assertEquals(List.of("[0] is unknown", "[1] is unknown", "[2] is unknown", "[3] is unknown", "[4] is unknown"), rule.getViolations());
+        assertTrue(calls.get() <= 1024, calls.get() + " elements validated");
+
+        calls.set(0);
+        ErrorCollector collector = new ErrorCollector(100);
+        rule.collect(collector);
+        assertEquals(5, collector.getCount());
+        assertTrue(calls.get() <= 1024, calls.get() + " elements validated");
+    }
+
+    @Test
+    void testValidWithoutExceptions() {
+        Validator<Address> addressValidator = (address, collector) -> {
+            collector.push("zip");
+            if (!address.zip().matches("\\d{5}")) {
+                collector.add("must match pattern \\d{5}");
+            }
+            collector.pop();
+        };
+        ObjectRule<Address> rule = Rule.on(new Address("Paris", "abc"), "address").required().valid(addressValidator);
+
+        assertTrue(rule.isComposite());
+        assertFalse(Rule.on(new Address("Paris", "abc"), "address").required().isComposite());
+        assertEquals(List.of("zip [must match pattern \\d{5}]"), rule.getViolations());
+        assertSame(List.of(), rule.evaluate(new Address("Paris", "12345")));
+        assertEquals(List.of("must not be null"), rule.evaluate(null));
+
+        ValidationResult result = RecordRules.validate(rule, Rule.on(List.of("", "b"), "tags").each(StringRule::new, StringRule::notBlank));
+        assertEquals(Map.of("address.zip", List.of("must match pattern \\d{5}"), "tags[0]", List.of("must not be blank")),
+                result.getErrors());
+
+        RecordValidationException exception = assertThrows(RecordValidationException.class, () ->
+                RecordRules.checkFast(Rule.on((Address) null, "address").required().valid(addressValidator), rule));
+        assertEquals(Map.of("address", List.of("must not be null")), exception.getErrors());
+    }
+
+    @Test
+    void testWhenGuardsNestedAndElementValidations() {
+        Validator<Address> zipValidator = (address, collector) -> {
+            collector.push("zip");
+            if (!address.zip().matches("\\d{5}")) {
+                collector.add("must match pattern \\d{5}");
+            }
+            collector.pop();
+        };
+        ObjectRule<Address> address = new ObjectRule<Address>(null, "address")
+                .when(a -> "Paris".equals(a.city()), r -> r.valid(zipValidator));
+        Address london = new Address("London", "SW1A");
+
+        assertEquals(List.of(), address.evaluate(london));
+        assertNull(address.evaluate(london, 10, "address", null));
+        assertTrue(address.isValid(london));
+        assertEquals(List.of("zip [must match pattern \\d{5}]"), address.evaluate(new Address("Paris", "SW1A")));
+
+        ObjectRule<List<String>> tags = new ObjectRule<List<String>>(null, "tags")
+                .when(t -> t.size() > 1, r -> r.when(t -> t.contains("b"), n -> n.each(StringRule::new, StringRule::notBlank)));
+        ErrorCollector collector = new ErrorCollector(10);
+        tags.collect(List.of(""), collector);
+        tags.collect(List.of("", "c"), collector);
+
+        assertEquals(0, collector.getCount());
+        assertEquals(List.of(), tags.evaluate(List.of("", "c")));
+        assertEquals(List.of("[0] must not be blank"), tags.evaluate(List.of("", "b")));
+    }
+
+    @Test
+    void testEachCollectsIntoPaths() {
+        List<String> skus = IntStream.range(0, 5000).mapToObj(i -> i % 1000 == 0 ? "" : "SKU").toList();
+        ErrorCollector sequential = new ErrorCollector(100);
+        Rule.on(skus, "skus").each(StringRule::new, StringRule::notBlank).maxElementErrors(3).collect(sequential);
+        ErrorCollector parallel = new ErrorCollector(100);
+        Rule.on(new LinkedList<>(skus), "skus").each(StringRule::new, StringRule::notBlank).maxElementErrors(3).parallel(100).collect(parallel);
+
+        Map<String, List<String>> expected = Map.of("skus[0]", List.of("must not be blank"), "skus[1000]", List.of("must not be blank"),
+                "skus[2000]", List.of("must not be blank"));
+        assertEquals(expected, sequential.getErrors());
+        assertEquals(expected, parallel.getErrors());
+
+        ErrorCollector set = new ErrorCollector(1);
+        Rule.on(new LinkedHashSet<>(List.of("a", "", " ")), "tags").each(StringRule::new, StringRule::notBlank).collect(set);
+        assertEquals(Map.of("tags[1]", List.of("must not be blank")), set.getErrors());
+
+        ErrorCollector full = new ErrorCollector(1);
+        full.add("first");
+        Rule.on(skus, "skus").minSize(1_000_000).collect(full);
+        assertEquals(1, full.getCount());
+    }
+
+    @Test
+    void testEachOverEveryKindOfValue() {
+        ObjectRule<Object> rule = new ObjectRule<>(null, "tags").each(StringRule::new, StringRule::notBlank);
+        assertEquals(List.of("[1] must not be blank"), rule.evaluate(new LinkedList<>(List.of("a", " "))));
+        assertEquals(List.of("[0] must not be blank"), rule.evaluate(new LinkedHashSet<>(List.of(" ", "b"))));
+        assertEquals(List.of(), rule.evaluate("not iterable"));
+
+        ObjectRule<Object> parallel = new ObjectRule<>(null, "tags").minSize(3).each(StringRule::new, StringRule::notBlank).parallel(2);
+        assertEquals(List.of("must have at least 3 items", "[1] must not be blank"), parallel.evaluate(List.of("a", " ")));
+        assertEquals(List.of("must have at least 3 items"), parallel.evaluate(new LinkedHashSet<>(List.of("a", "b"))));
+        assertEquals(List.of("[0] must not be blank"), parallel.evaluate(List.of(" ", "b", "c")));
+
+        ErrorCollector collector = new ErrorCollector(10);
+        new ObjectRule<Object>(new LinkedHashSet<>(List.of(" ", "b")), "set").each(StringRule::new, StringRule::notBlank).parallel(1).collect(collector);
+        new ObjectRule<Object>(List.of("a", " "), "list").each(StringRule::new, StringRule::notBlank).parallel(1).collect(collector);
+        new ObjectRule<Object>("not iterable", "text").each(StringRule::new, StringRule::notBlank).collect(collector);
+        assertEquals(Map.of("set[0]", List.of("must not be blank"), "list[1]", List.of("must not be blank")), collector.getErrors());
+
+        ErrorCollector full = new ErrorCollector(1);
+        new ObjectRule<Object>(List.of(" ", " "), "list").each(StringRule::new, StringRule::notBlank).parallel(1).collect(full);
+        new ObjectRule<Object>(new LinkedHashSet<>(List.of(" ", "  ")), "set").each(StringRule::new, StringRule::notBlank).collect(full);
+        assertEquals(Map.of("list[0]", List.of("must not be blank")), full.getErrors());
+        ErrorCollector sequential = new ErrorCollector(1);
+        new ObjectRule<Object>(List.of(" ", " "), "list").each(StringRule::new, StringRule::notBlank).collect(sequential);
+        new ObjectRule<Object>(new LinkedHashSet<>(List.of(" ", "  ")), "set").each(StringRule::new, StringRule::notBlank).collect(sequential);
+        assertEquals(Map.of("list[0]", List.of("must not be blank")), sequential.getErrors());
+        ErrorCollector iterable = new ErrorCollector(1);
+        new ObjectRule<Object>(new LinkedHashSet<>(List.of(" ", "  ")), "set").each(StringRule::new, StringRule::notBlank).collect(iterable);
+        assertEquals(Map.of("set[0]", List.of("must not be blank")), iterable.getErrors());
+    }
+
+    @Test
+    void testCompositeEvaluationLimits() {
+        Validator<List<String>> notEmpty = (list, collector) -> {
+            if (list.isEmpty()) {
+                collector.add("must not be empty");
+            }
+        };
+        Validator<List<String>> sorted = (list, collector) -> {
+            if (!list.equals(list.stream().sorted().toList())) {
+                collector.add("must be sorted");
+            }
+        };
+        ObjectRule<List<String>> rule = new ObjectRule<List<String>>(null, "tags").minSize(3)
+                .each(StringRule::new, StringRule::notBlank).each(StringRule::new, s -> s.matches("[a-z]*"))
+                .valid(notEmpty).valid(sorted)
+                .when(list -> list.size() > 1, r -> r.each(StringRule::new, s -> s.matches("[a-c]*")).valid(sorted));
+
+        assertEquals(List.of("must have at least 3 items"), rule.evaluate(List.of("b", "a"), 1));
+        assertEquals(List.of("must have at least 3 items", "[0] must not be blank"), rule.evaluate(List.of(" ", "a"), 2));
+        assertEquals(List.of("must have at least 3 items", " [must be sorted, must be sorted]"), rule.evaluate(List.of("b", "a")));
+        assertEquals(List.of("must have at least 3 items", " [must not be empty]"), rule.evaluate(List.of()));
+
+        assertNull(rule.evaluate(null, 5, "tags", null));
+        assertEquals(1, rule.evaluate(List.of("b", "a"), 1, "tags", null).size());
+        Violations violations = rule.evaluate(List.of("b", "a"), 5, "tags", null);
+        assertEquals(List.of("MIN_SIZE", "NESTED", "NESTED"), List.of(violations.getCode(0), violations.getCode(1), violations.getCode(2)));
+        assertNull(new ObjectRule<List<String>>(null, "tags").minSize(1).evaluate(List.of("a"), 5, "tags", null));
+        assertEquals(1, new ObjectRule<List<String>>(null, "tags").valid(notEmpty).evaluate(List.of(), 5, "tags", null).size());
+        assertEquals(1, new ObjectRule<List<String>>(null, "tags").each(StringRule::new, StringRule::notBlank)
+                .evaluate(List.of(" "), 5, "tags", null).size());
+
+        ErrorCollector collector = new ErrorCollector(1);
+        rule.collect(List.of(" ", "B", "a"), collector);
+        assertEquals(Map.of("[0]", List.of("must not be blank")), collector.getErrors());
+        ErrorCollector nested = new ErrorCollector(1);
+        new ObjectRule<List<String>>(null, "tags").valid(notEmpty).valid(sorted).collect(List.of(), nested);
+        assertEquals(1, nested.getCount());
+    }
+
+    @Test
+    void testCompositeValidityAndCost() {
+        ObjectRule<List<String>> rule = Rule.on(List.of("a", "b"), "tags").minSize(2)
+                .each(StringRule::new, StringRule::notBlank).valid((list, collector) -> { });
+
+        assertFalse(rule.isValid(List.of("a")));
+        assertTrue(rule.isValid(null));
+        assertTrue(rule.isValid(List.of("a", "b")));
+        assertFalse(rule.isValid(List.of("a", " ")));
+        assertTrue(Rule.on(List.of("a"), "tags").minSize(1).isValid(List.of("a")));
+        assertEquals(1 + 16 + 2, rule.estimateCost());
+        assertEquals(1, new ObjectRule<Object>("text", "text").each(StringRule::new, StringRule::notBlank).minSize(1).estimateCost());
+    }
 
     @Test
     void shouldFailWhenNestedRecordIsInvalid() {
@@ -117,6 +377,7 @@ class ObjectRuleTest {
     }
 
     public record Team(String teamName, List<String> memberEmails) {
+        @SuppressWarnings("deprecation")
         public Team {
             RecordRules.check(
                     Rule.on(teamName, "teamName").required(),
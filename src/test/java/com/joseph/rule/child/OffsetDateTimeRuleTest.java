@@ -0,0 +1,30 @@
+package com.joseph.rule.child;
+
+import com.joseph.rule.Rule;
+import com.joseph.time.ValidationClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffsetDateTimeRuleTest {
+
+    @Test
+    void shouldCompareInstantsWhateverTheOffset() {
+        ValidationClock.pass(Clock.fixed(Instant.parse("2024-06-01T10:00:00Z"), ZoneOffset.UTC), () -> {
+
+            // 11:00 in Paris is 09:00 UTC, in the past although its local time is later
+            OffsetDateTime paris = OffsetDateTime.parse("2024-06-01T11:00:00+02:00");
+            assertTrue(Rule.on(paris, "departure").isPast().getViolations().isEmpty());
+            assertEquals(List.of("must be in the future"), Rule.on(paris, "departure").isFuture().getViolations());
+            assertTrue(Rule.on(OffsetDateTime.parse("2024-06-01T06:00:01-04:00"), "arrival").isFuture().getViolations().isEmpty());
+            assertTrue(Rule.on((OffsetDateTime) null, "arrival").isFuture().getViolations().isEmpty());
+            return null;
+        });
+    }
+}
@@ -5,6 +5,10 @@ import com.joseph.exception.RecordValidationException;
 import com.joseph.rule.Rule;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +46,40 @@ class StringRuleTest {
         assertTrue(ruleValid.getViolations().isEmpty());
     }
 
+    @Test
+    void testEmailScannerAcceptsTheRegexLanguage() {
+        List<String> samples = List.of("a@b.cd", "A.B%c+d_e-f@x-y.Example.MUSEUM", "first.last+tag@sub.example.com", "@b.cd", "a@.cd",
+                "a@b..cd", "a@b.c", "a@b.abcdefg", "a@b.abcdef", "a@b.c0", "a@b.cd-", "a@b.cd.", "a@b-.cd", "a@b@c.de", "a@bcd",
+                "a@b.cd\n", "a b@c.de", "a@b.\u212Aa", "\u0131@b.cd", "a@b.c\u0131", "", "@", "a@", "a@b.", ".@..cd", "-@-.de", "a@b.co.uk");
+        for (String sample : samples) {
+            assertEquals(StringRule.matchesEmailRegex(sample), StringRule.scanEmail(sample), sample);
+        }
+
+        char[] alphabet = "aZ09._%+-@.@..zA\n \u212A\u0131\u00E9".toCharArray();
+        Random random = new Random(42);
+        for (int n = 0; n < 200_000; n++) {
+            char[] chars = new char[random.nextInt(14)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String sample = new String(chars);
+            assertEquals(StringRule.matchesEmailRegex(sample), StringRule.scanEmail(sample), sample);
+        }
+    }
+
+    @Test
+    void testEmailRegexFallback() {
+        assertFalse(StringRule.isEmailRegexEnabled());
+        try {
+            StringRule.setEmailRegexEnabled(true);
+            assertTrue(StringRule.isEmailRegexEnabled());
+            assertTrue(Rule.on("test@example.com", "email").email().getViolations().isEmpty());
+            assertEquals(List.of("must be a valid email"), Rule.on("test@example", "email").email().getViolations());
+        } finally {
+            StringRule.setEmailRegexEnabled(false);
+        }
+    }
+
     @Test
     void testMatchesBranches() {
         String regex = "^[0-9]+$";
@@ -58,6 +96,20 @@ class StringRuleTest {
         assertTrue(rulePass.getViolations().isEmpty());
     }
 
+    @Test
+    void testMatchesPrecompiledPattern() {
+        Pattern pattern = Pattern.compile("^[0-9]+$");
+
+        var ruleNull = Rule.on((String) null, "field").matches(pattern);
+        assertTrue(ruleNull.getViolations().isEmpty());
+
+        var ruleFail = Rule.on("abc", "field").matches(pattern);
+        assertEquals(List.of("must match pattern ^[0-9]+$"), ruleFail.getViolations());
+
+        var rulePass = Rule.on("123", "field").matches(pattern);
+        assertTrue(rulePass.getViolations().isEmpty());
+    }
+
     @Test
     void testLengthBranches() {
         // Branch 1: Value is null
@@ -0,0 +1,88 @@
+package com.joseph.schema;
+
+import com.joseph.RecordRules;
+import com.joseph.result.Violations;
+import com.joseph.rule.child.StringRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchReportTest {
+
+    private static final Schema<Row> ROW_SCHEMA = RecordRules.schema(Row.class)
+            .field("email", Row::email, StringRule::new, s -> s.required().email())
+            .intField("quantity", Row::quantity, r -> r.min(1))
+            .build();
+
+    private static List<Row> rows(final int count) {
+        // Every 10th row has a bad email, every 25th row a bad quantity
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Row(i % 10 == 0 ? "bad-" + i : "user" + i + "@example.com", i % 25 == 0 ? 0 : i))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Test
+    void shouldReportInvalidRowsInRowOrder() {
+        BatchReport report = RecordRules.validateAll(rows(50_000), ROW_SCHEMA);
+
+        assertFalse(report.isValid());
+        assertEquals(50_000, report.getRowCount());
+        assertEquals(5_000 + 2_000 - 1_000, report.getInvalidCount());
+        assertFalse(report.isTruncated());
+
+        int[] invalidRows = report.getInvalidRows();
+        assertEquals(6_000, invalidRows.length);
+        assertEquals(0, invalidRows[0]);
+        assertEquals(10, invalidRows[1]);
+        assertEquals(Map.of("email", List.of("must be a valid email"), "quantity", List.of("must be at least 1")),
+                report.getErrors(0));
+        assertEquals(Map.of("quantity", List.of("must be at least 1")), report.getErrors(25));
+        assertTrue(report.getErrors(1).isEmpty());
+
+        Violations violations = report.getViolations(0);
+        assertEquals("EMAIL", violations.getCode(0));
+        assertEquals("MIN", violations.getCode(1));
+        assertSame(violations.getMessage(1), report.getViolations(25).getMessage(0));
+        assertSame(Violations.none(), report.getViolations(1));
+    }
+
+    @Test
+    void shouldKeepOnlyTheFirstErrorsUpToTheCap() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        BatchReport report = ROW_SCHEMA.validateAll(rows(20_000), 3, pool);
+        pool.shutdown();
+
+        assertTrue(report.isTruncated());
+        assertEquals(2_400, report.getInvalidCount());
+        assertArrayEquals(new int[] {0, 10, 20}, report.getInvalidRows());
+        assertTrue(report.getErrors(25).isEmpty());
+
+        BatchReport countOnly = ROW_SCHEMA.validateAll(rows(1_000), 0);
+        assertEquals(0, countOnly.getInvalidRows().length);
+        assertEquals(120, countOnly.getInvalidCount());
+        assertThrows(IllegalArgumentException.class, () -> ROW_SCHEMA.validateAll(rows(1), -1));
+    }
+
+    @Test
+    void shouldValidateNonRandomAccessAndEmptyLists() {
+        BatchReport report = ROW_SCHEMA.validateAll(new LinkedList<>(rows(100)));
+        assertEquals(12, report.getInvalidCount());
+
+        BatchReport empty = ROW_SCHEMA.validateAll(List.of());
+        assertTrue(empty.isValid());
+        assertEquals(0, empty.getRowCount());
+    }
+
+    // --- Helper Records ---
+
+    public record Row(String email, int quantity) {
+    }
+}
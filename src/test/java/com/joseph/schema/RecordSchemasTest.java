@@ -0,0 +1,182 @@
+package com.joseph.schema;
+
+import com.joseph.annotation.Email;
+import com.joseph.annotation.Future;
+import com.joseph.annotation.Length;
+import com.joseph.annotation.Matches;
+import com.joseph.annotation.Max;
+import com.joseph.annotation.Min;
+import com.joseph.annotation.NotBlank;
+import com.joseph.annotation.Past;
+import com.joseph.annotation.Required;
+import com.joseph.result.ValidationResult;
+import com.joseph.time.ValidationClock;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordSchemasTest {
+
+    @Test
+    void shouldValidateFromComponentAnnotations() {
+        Profile valid = new Profile("test@example.com", 25, "java_dev", 10L, LocalDate.now().minusYears(1), 70.5, List.of("a"), "ignored");
+        assertTrue(RecordSchemas.validate(valid).isValid());
+
+        Profile invalid = new Profile("bad-email", 15, "  ", -1L, LocalDate.now().plusDays(1), 0.5, null, null);
+        assertEquals(Map.of(
+                "email", List.of("must be a valid email"),
+                "age", List.of("must be at least 18"),
+                "username", List.of("must not be blank", "must match pattern [a-z_]+"),
+                "balance", List.of("must be at least 0"),
+                "birthDate", List.of("must be a past date"),
+                "weight", List.of("must be at least 1.0"),
+                "tags", List.of("tags are required")
+        ), RecordSchemas.validate(invalid).getErrors());
+    }
+
+    @Test
+    void shouldMatchTheGeneratedValidator() {
+        String[] emails = {"test@example.com", "bad-email", "a@b.c", null};
+        String[] usernames = {"java_dev", " ", "UPPER", null};
+        long[] ages = {Long.MIN_VALUE, 17, 18, 120, 121};
+        for (String email : emails) {
+            for (String username : usernames) {
+                for (long age : ages) {
+                    Member member = new Member(email, username, age, (int) age, LocalDate.now());
+                    assertEquals(RecordSchemasTest_MemberValidator.validate(member).getErrors(),
+                            RecordSchemas.validate(member).getErrors(), member.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldValidateTimeComponents() {
+        Instant now = Instant.parse("2024-06-01T10:00:00Z");
+        ValidationClock.pass(Clock.fixed(now, ZoneOffset.UTC), () -> {
+            Booking valid = new Booking(now.plusSeconds(1), LocalDateTime.parse("2024-06-01T09:00:00"), OffsetDateTime.parse("2024-06-01T11:00:00Z"));
+            assertTrue(RecordSchemas.validate(valid).isValid());
+            assertEquals(Map.of(), RecordSchemasTest_BookingValidator.validate(valid).getErrors());
+
+            Booking invalid = new Booking(now, LocalDateTime.parse("2024-06-01T10:00:01"), OffsetDateTime.parse("2024-06-01T11:00:00+02:00"));
+            Map<String, List<String>> errors = Map.of(
+                    "start", List.of("must be in the future"),
+                    "created", List.of("must be in the past"),
+                    "end", List.of("must end in the future"));
+            assertEquals(errors, RecordSchemas.validate(invalid).getErrors());
+            assertEquals(errors, RecordSchemasTest_BookingValidator.validate(invalid).getErrors());
+            return null;
+        });
+    }
+
+    @Test
+    void shouldBuildEachSchemaOnce() {
+        Schema<Profile> schema = RecordSchemas.of(Profile.class);
+        assertSame(schema, RecordSchemas.of(Profile.class));
+        assertEquals(Profile.class, schema.getType());
+
+        RecordSchemas.warmUp(Member.class, Unannotated.class);
+        assertSame(RecordSchemas.of(Member.class), RecordSchemas.of(Member.class));
+        assertSame(ValidationResult.valid(), RecordSchemas.validate(new Unannotated(null)));
+    }
+
+    @Test
+    void shouldRejectTypesThatAreNotRecords() {
+        assertThrows(IllegalArgumentException.class, () -> RecordSchemas.warmUp(String.class));
+        assertThrows(IllegalArgumentException.class, () -> RecordSchemas.of(Record.class));
+    }
+
+    @Test
+    void shouldBoundEveryNumericKind() {
+        assertTrue(RecordSchemas.validate(new Sizes((short) 1, (byte) 2, 1.0f, 5)).isValid());
+        assertEquals(Map.of(
+                "small", List.of("must be at least 1"),
+                "tiny", List.of("must be at most 2"),
+                "ratio", List.of("must be at most 1.0"),
+                "count", List.of("must be at most 5")
+        ), RecordSchemas.validate(new Sizes((short) 0, (byte) 3, 1.5f, 6)).getErrors());
+    }
+
+    @Test
+    void shouldPropagateAccessorFailures() {
+        for (int component = 1; component <= 3; component++) {
+            Failing unchecked = new Failing("name", 1, 1.0, component);
+            assertEquals("broken", assertThrows(IllegalStateException.class, () -> RecordSchemas.validate(unchecked)).getMessage());
+            Failing checked = new Failing("name", 1, 1.0, -component);
+            assertInstanceOf(IOException.class, assertThrows(IllegalStateException.class, () -> RecordSchemas.validate(checked)).getCause());
+        }
+        assertTrue(RecordSchemas.validate(new Failing("name", 1, 1.0, 0)).isValid());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(final Throwable e) throws E {
+        throw (E) e;
+    }
+
+    // --- Helper Records ---
+
+    public record Profile(@Required @Email String email, @Min(18) @Max(120) int age,
+                          @Required @NotBlank @Matches("[a-z_]+") String username, @Min(0) Long balance,
+                          @Past LocalDate birthDate, @Min(1) double weight, @Required(message = "tags are required") List<String> tags,
+                          String notes) {
+    }
+
+    public record Member(@Required @Email @Length(min = 6, max = 32) String email,
+                         @NotBlank @Matches(value = "[a-z_]+", message = "lower case only") String username,
+                         @Min(18) @Max(120) long age, @Min(18) Integer boxedAge, @Future LocalDate expiry) {
+    }
+
+    public record Booking(@Future Instant start, @Past LocalDateTime created, @Future(message = "must end in the future") OffsetDateTime end) {
+    }
+
+    public record Unannotated(String name) {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Note {
+    }
+
+    public record Sizes(@Min(1) short small, @Max(2) byte tiny, @Max(1) float ratio, @Note @Max(5) Integer count) {
+    }
+
+    public record Failing(@Required String name, @Min(1) int count, @Min(1) double ratio, int mode) {
+        @Override
+        public String name() {
+            fail(1);
+            return name;
+        }
+
+        @Override
+        public int count() {
+            fail(2);
+            return count;
+        }
+
+        @Override
+        public double ratio() {
+            fail(3);
+            return ratio;
+        }
+
+        private void fail(final int component) {
+            if (mode == component) {
+                throw new IllegalStateException("broken");
+            }
+            if (mode == -component) {
+                RecordSchemasTest.<RuntimeException>sneakyThrow(new IOException("checked"));
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.joseph.schema;
+
+import com.joseph.RecordRules;
+import com.joseph.exception.RecordValidationException;
+import com.joseph.result.ValidationResult;
+import com.joseph.result.Violations;
+import com.joseph.rule.Rule;
+import com.joseph.rule.child.InstantRule;
+import com.joseph.rule.child.NumberRule;
+import com.joseph.rule.child.ObjectRule;
+import com.joseph.rule.child.StringRule;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaTest {
+
+    private static final Schema<User> USER_SCHEMA = RecordRules.schema(User.class)
+            .stringField("email", User::email, s -> s.required().email())
+            .numberField("age", User::age, n -> n.min(18).max(120))
+            .objectField("tags", User::tags, o -> o.required().minSize(1))
+            .build();
+
+    @Test
+    void shouldPassWhenInstanceIsValid() {
+        assertTrue(USER_SCHEMA.getViolations(new User("test@example.com", 25, List.of("a"))).isEmpty());
+        assertDoesNotThrow(() -> USER_SCHEMA.check(new User("test@example.com", 25, List.of("a"))));
+        assertEquals(User.class, USER_SCHEMA.getType());
+    }
+
+    @Test
+    void shouldCollectViolationsPerField() {
+        Map<String, List<String>> errors = USER_SCHEMA.getViolations(new User("bad-email", 15, null));
+
+        assertEquals(3, errors.size());
+        assertEquals(List.of("must be a valid email"), errors.get("email"));
+        assertEquals(List.of("must be at least 18"), errors.get("age"));
+        assertEquals(List.of("must not be null"), errors.get("tags"));
+    }
+
+    @Test
+    void shouldThrowWhenInstanceIsInvalid() {
+        assertThatThrownBy(() -> USER_SCHEMA.check(new User(null, 25, List.of())))
+                .isInstanceOf(RecordValidationException.class)
+                .hasMessageContaining("email: [must not be null]")
+                .hasMessageContaining("tags: [must have at least 1 items]");
+    }
+
+    @Test
+    void shouldReturnResultWithoutThrowing() {
+        ValidationResult invalid = USER_SCHEMA.validate(new User("bad-email", 25, List.of("a")));
+        assertFalse(invalid.isValid());
+        assertEquals(List.of("must be a valid email"), invalid.getErrors("email"));
+
+        assertSame(ValidationResult.valid(), USER_SCHEMA.validate(new User("test@example.com", 25, List.of("a"))));
+    }
+
+    @Test
+    void shouldPartitionStreamsWithoutThrowing() {
+        List<String> rejected = new ArrayList<>();
+        AtomicInteger pulled = new AtomicInteger();
+
+        List<User> valid = USER_SCHEMA.filterValid(
+                        Stream.iterate(0, i -> i + 1)
+                                .peek(i -> pulled.incrementAndGet())
+                                .map(i -> new User(i % 3 == 0 ? "bad" + i : "user" + i + "@example.com", 30, List.of("t"))),
+                        (user, errors) -> rejected.add(user.email() + " " + errors.get("email")))
+                .limit(4)
+                .toList();
+
+        assertEquals(List.of("user1@example.com", "user2@example.com", "user4@example.com", "user5@example.com"),
+                valid.stream().map(User::email).toList());
+        assertEquals(List.of("bad0 [must be a valid email]", "bad3 [must be a valid email]"), rejected);
+        assertEquals(6, pulled.get());
+    }
+
+    @Test
+    void shouldFilterParallelStreams() {
+        LongAdder rejected = new LongAdder();
+        long valid = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> new User("user" + i + "@example.com", i % 4 == 0 ? 5 : 30, List.of("t")))
+                .filter(USER_SCHEMA.validOrElse((user, errors) -> rejected.increment()))
+                .count();
+
+        assertEquals(7_500, valid);
+        assertEquals(2_500, rejected.sum());
+    }
+
+    @Test
+    void shouldReuseTheSameRulesAcrossInstances() {
+        AtomicInteger built = new AtomicInteger();
+        Schema<User> schema = RecordRules.schema(User.class)
+                .field("email", User::email, (value, name) -> {
+                    built.incrementAndGet();
+                    return new StringRule(value, name);
+                }, s -> s.email().message("bad email"))
+                .build();
+
+        assertEquals(List.of("bad email"), schema.getViolations(new User("x", 1, null)).get("email"));
+        assertTrue(schema.getViolations(new User("a@b.cd", 1, null)).isEmpty());
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    void shouldValidateConcurrently() {
+        long failures = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> new User(i % 2 == 0 ? "user" + i + "@example.com" : "user" + i, 30, List.of("t")))
+                .filter(user -> !USER_SCHEMA.getViolations(user).isEmpty())
+                .count();
+        assertEquals(5_000, failures);
+    }
+
+    @Test
+    void shouldRunNestedChecksAgainstEachInstance() {
+        Schema<Order> schema = RecordRules.schema(Order.class)
+                .field("address", Order::address, ObjectRule::new, o -> o.required().check(address ->
+                        RecordRules.check(Rule.on(address.zip(), "zip").matches("\\d{5}"))))
+                .build();
+
+        assertTrue(schema.getViolations(new Order(new Address("12345"))).isEmpty());
+        assertEquals(List.of("zip [must match pattern \\d{5}]"),
+                schema.getViolations(new Order(new Address("abc"))).get("address"));
+        assertEquals(List.of("must not be null"), schema.getViolations(new Order(null)).get("address"));
+    }
+
+    @Test
+    void shouldNestSchemasUnderHierarchicalPaths() {
+        Schema<Address> addressSchema = RecordRules.schema(Address.class)
+                .field("zip", Address::zip, StringRule::new, s -> s.required().matches("\\d{5}"))
+                .build();
+        Schema<Item> itemSchema = RecordRules.schema(Item.class)
+                .field("sku", Item::sku, StringRule::new, s -> s.required().notBlank())
+                .intField("quantity", Item::quantity, q -> q.min(1))
+                .build();
+        Schema<Shipment> schema = RecordRules.schema(Shipment.class)
+                .nested("address", Shipment::address, addressSchema)
+                .field("items", Shipment::items, ObjectRule::new, o -> o.required().each(itemSchema))
+                .build();
+
+        assertSame(Map.of(), schema.getViolations(new Shipment(new Address("12345"), List.of(new Item("A", 1)))));
+        assertSame(Map.of(), schema.getViolations(new Shipment(null, List.of())));
+
+        Map<String, List<String>> errors = schema.getViolations(new Shipment(new Address("abc"),
+                List.of(new Item("A", 1), new Item(" ", 0), new Item(null, 2))));
+        assertEquals(Map.of(
+                "address.zip", List.of("must match pattern \\d{5}"),
+                "items[1].sku", List.of("must not be blank"),
+                "items[1].quantity", List.of("must be at least 1"),
+                "items[2].sku", List.of("must not be null")
+        ), errors);
+        assertEquals(Map.of("items", List.of("must not be null")), schema.getViolations(new Shipment(null, null)));
+
+        Schema<Depot> depotSchema = RecordRules.schema(Depot.class).nested("shipment", Depot::shipment, schema).maxViolations(2).build();
+        assertEquals(Map.of("shipment.address.zip", List.of("must match pattern \\d{5}"), "shipment.items[0].sku", List.of("must not be blank")),
+                depotSchema.getViolations(new Depot(new Shipment(new Address("x"), List.of(new Item("", 1), new Item("", 1))))));
+    }
+
+    @Test
+    void shouldCheckABatchAgainstOneNow() {
+        AtomicInteger reads = new AtomicInteger();
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T10:00:00Z"), ZoneOffset.UTC);
+        Clock counting = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return clock.getZone();
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                reads.incrementAndGet();
+                return clock.instant();
+            }
+        };
+        Schema<Event> schema = RecordRules.schema(Event.class)
+                .field("at", Event::at, InstantRule::new, InstantRule::isPast)
+                .clock(counting)
+                .build();
+        List<Event> events = IntStream.range(0, 10_000).mapToObj(i -> new Event(Instant.parse("2024-06-01T09:00:00Z").plusSeconds(i))).toList();
+
+        BatchReport report = schema.validateAll(events);
+        assertEquals(1, reads.get());
+        assertEquals(10_000 - 3600, report.getInvalidCount());
+        assertEquals(3600, report.getInvalidRows()[0]);
+
+        // Each call is a pass of its own, which reads the clock once for both constraints
+        Schema<Event> window = RecordRules.schema(Event.class)
+                .field("at", Event::at, InstantRule::new, r -> r.isPast().isFuture())
+                .clock(counting)
+                .build();
+        assertEquals(Map.of("at", List.of("must be in the future")), window.getViolations(events.get(0)));
+        assertEquals(2, reads.get());
+        assertFalse(window.isValid(events.get(0)));
+        assertThrows(RecordValidationException.class, () -> window.check(events.get(0)));
+        assertEquals(4, reads.get());
+    }
+
+    @Test
+    void shouldTellValidityWithoutCollectingMessages() {
+        Schema<Reading> readings = RecordRules.schema(Reading.class)
+                .intField("sensor", Reading::sensor, r -> r.min(1))
+                .doubleField("celsius", Reading::celsius, r -> r.range(-50, 60))
+                .build();
+        assertTrue(readings.isValid(new Reading(1, 0L, 20.0)));
+        assertFalse(readings.isValid(new Reading(1, 0L, 80.0)));
+        assertFalse(readings.isValid(new Reading(0, 0L, 20.0)));
+
+        Schema<Shipment> shipments = RecordRules.schema(Shipment.class)
+                .field("items", Shipment::items, ObjectRule::new, o -> o.required().each(StringRule::new, StringRule::notBlank))
+                .build();
+        assertTrue(shipments.isValid(new Shipment(null, List.of())));
+        assertFalse(shipments.isValid(new Shipment(null, null)));
+    }
+
+    @Test
+    void shouldStopAtViolationLimitWhenFailingFast() {
+        AtomicInteger predicateCalls = new AtomicInteger();
+        Schema<User> schema = RecordRules.schema(User.class)
+                .field("email", User::email, StringRule::new, s -> s.required().email())
+                .field("age", User::age, NumberRule::new, n -> n.min(18).satisfies(v -> predicateCalls.incrementAndGet() > 0))
+                .failFast()
+                .build();
+
+        assertEquals(1, schema.getMaxViolations());
+        assertEquals(Map.of("email", List.of("must be a valid email")), schema.getViolations(new User("bad", 5, null)));
+        assertEquals(Map.of("age", List.of("must be at least 18")), schema.getViolations(new User("a@b.cd", 5, null)));
+        assertEquals(0, predicateCalls.get());
+
+        Schema<User> limited = RecordRules.schema(User.class)
+                .field("email", User::email, StringRule::new, s -> s.email().maxLength(2))
+                .field("age", User::age, NumberRule::new, n -> n.min(18))
+                .maxViolations(2)
+                .build();
+        assertEquals(Map.of("email", List.of("must be a valid email", "must be between 0 and 2 characters")),
+                limited.getViolations(new User("bad", 5, null)));
+        assertThrows(IllegalArgumentException.class, () -> RecordRules.schema(User.class).maxViolations(0));
+    }
+
+    @Test
+    void shouldValidatePrimitiveFieldsWithoutBoxing() {
+        Schema<Reading> schema = RecordRules.schema(Reading.class)
+                .intField("sensor", Reading::sensor, r -> r.min(1).message("unknown sensor"))
+                .longField("timestamp", Reading::timestamp, r -> r.min(0L))
+                .doubleField("celsius", Reading::celsius, r -> r.range(-90.0, 60.0))
+                .build();
+
+        assertTrue(schema.getViolations(new Reading(7, 1_700_000_000_000L, 21.5)).isEmpty());
+        Map<String, List<String>> errors = schema.getViolations(new Reading(0, -1L, 70.0));
+        assertEquals(List.of("unknown sensor"), errors.get("sensor"));
+        assertEquals(List.of("must be at least 0"), errors.get("timestamp"));
+        assertEquals(List.of("must be at most 60.0"), errors.get("celsius"));
+    }
+
+    @Test
+    void shouldCollectCompactViolationsWithCodes() {
+        Violations first = USER_SCHEMA.getCompactViolations(new User("bad-email", 15, null));
+        Violations second = USER_SCHEMA.getCompactViolations(new User("worse", 16, List.of()));
+
+        assertEquals(3, first.size());
+        assertEquals(List.of("email", "age", "tags"), List.of(first.getPath(0), first.getPath(1), first.getPath(2)));
+        assertEquals(List.of("EMAIL", "MIN", "REQUIRED"), List.of(first.getCode(0), first.getCode(1), first.getCode(2)));
+        assertEquals(Map.of("email", List.of("must be a valid email"), "age", List.of("must be at least 18"),
+                "tags", List.of("must not be null")), first.getErrors());
+        // Every failure of a constraint shares the message rendered on its first failure
+        assertSame(first.getMessage(1), second.getMessage(1));
+        assertEquals("MIN_SIZE", second.getCode(2));
+        assertSame(Violations.none(), USER_SCHEMA.getCompactViolations(new User("test@example.com", 25, List.of("a"))));
+
+        RecordValidationException exception = assertThrows(RecordValidationException.class,
+                () -> USER_SCHEMA.check(new User(null, 25, List.of("a"))));
+        assertEquals("REQUIRED", exception.getViolations().getCode(0));
+        assertEquals(Map.of("email", List.of("must not be null")), exception.getErrors());
+    }
+
+    @Test
+    void shouldFileCompactViolationsOfNestedSchemasUnderPaths() {
+        Schema<Item> itemSchema = RecordRules.schema(Item.class)
+                .field("sku", Item::sku, StringRule::new, s -> s.required())
+                .intField("quantity", Item::quantity, q -> q.min(1))
+                .build();
+        Schema<Shipment> schema = RecordRules.schema(Shipment.class)
+                .field("items", Shipment::items, ObjectRule::new, o -> o.maxSize(1).each(itemSchema))
+                .build();
+        Schema<Reading> readings = RecordRules.schema(Reading.class)
+                .intField("sensor", Reading::sensor, r -> r.max(9))
+                .longField("timestamp", Reading::timestamp, r -> r.min(0L).max(10L))
+                .doubleField("celsius", Reading::celsius, r -> r.max(60.0).message("too hot"))
+                .maxViolations(2)
+                .build();
+
+        Violations violations = schema.getCompactViolations(new Shipment(null, List.of(new Item("A", 0), new Item(null, 1))));
+        assertEquals(List.of("MAX_SIZE", Violations.NESTED, Violations.NESTED),
+                List.of(violations.getCode(0), violations.getCode(1), violations.getCode(2)));
+        assertEquals(schema.getViolations(new Shipment(null, List.of(new Item("A", 0), new Item(null, 1)))), violations.getErrors());
+
+        Violations primitives = readings.getCompactViolations(new Reading(10, -1L, 70.0));
+        assertEquals(2, primitives.size());
+        assertEquals(Map.of("sensor", List.of("must be at most 9"), "timestamp", List.of("must be at least 0")), primitives.getErrors());
+        assertEquals("MAX", primitives.getCode(0));
+        assertEquals("MIN", primitives.getCode(1));
+        assertEquals(Map.of("celsius", List.of("too hot")), readings.getCompactViolations(new Reading(1, 1L, 70.0)).getErrors());
+    }
+
+    @Test
+    void shouldResolveValidationGroupsOncePerSchema() {
+        AtomicInteger lookups = new AtomicInteger();
+        Schema.Builder<Account> builder = RecordRules.schema(Account.class)
+                .field("username", Account::username, StringRule::new, s -> s.required()
+                        .group("create", g -> g.satisfies(name -> lookups.incrementAndGet() > 0 && !name.equals("taken"), "is already taken")))
+                .field("age", Account::age, NumberRule::new, n -> n.group("create", g -> g.required()).min(18))
+                .intField("logins", Account::logins, r -> r.group("update", g -> g.min(1)))
+                .field("roles", Account::roles, ObjectRule::new, o -> o.when(roles -> roles != null && roles.contains("admin"), w -> w.maxSize(1)));
+        Schema<Account> onCreate = builder.activeGroups("create").build();
+        Schema<Account> onUpdate = builder.activeGroups("update").build();
+        Schema<Account> always = builder.activeGroups().build();
+        Account account = new Account("taken", null, List.of("admin", "user"), 0);
+
+        assertEquals(Map.of("username", List.of("is already taken"), "age", List.of("must not be null"),
+                "roles", List.of("must have at most 1 items")), onCreate.getViolations(account));
+        assertEquals(1, lookups.get());
+        assertEquals(Map.of("logins", List.of("must be at least 1"), "roles", List.of("must have at most 1 items")),
+                onUpdate.getViolations(account));
+        assertEquals(Map.of("roles", List.of("must have at most 1 items")), always.getViolations(account));
+        assertTrue(always.getViolations(new Account("taken", null, List.of("user", "guest"), 0)).isEmpty());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void shouldNotAllocateWhenInstanceIsValid() {
+        Schema<Account> schema = RecordRules.schema(Account.class)
+                .field("username", Account::username, StringRule::new, s -> s.required().notBlank().length(3, 16))
+                .field("age", Account::age, NumberRule::new, n -> n.required().min(18).max(120))
+                .intField("logins", Account::logins, r -> r.required().range(0, 1_000_000))
+                .field("roles", Account::roles, ObjectRule::new, o -> o.required().minSize(1).maxSize(5))
+                .build();
+        Account account = new Account("java_dev", 25, List.of("admin"), 123_456);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < 200_000; i++) {
+            schema.check(account);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            schema.check(account);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Allows for the measurement itself, but not for one object per validation
+        assertTrue(allocated < 16_000, "allocated " + allocated + " bytes for 100000 valid instances");
+        assertEquals(List.of("must be at least 18"), schema.getViolations(new Account("java_dev", 5, List.of("a"), 0)).get("age"));
+    }
+
+    @Test
+    void shouldRegisterTemporalFieldsWithoutAFactory() {
+        Schema<Booking> schema = RecordRules.schema(Booking.class)
+                .dateField("day", Booking::day, d -> d.required())
+                .dateTimeField("start", Booking::start, d -> d.required())
+                .instantField("created", Booking::created, i -> i.required())
+                .offsetDateTimeField("confirmed", Booking::confirmed, o -> o.required())
+                .build();
+
+        assertEquals(Set.of("day", "start", "created", "confirmed"),
+                schema.getViolations(new Booking(null, null, null, null)).keySet());
+        assertTrue(schema.isValid(new Booking(LocalDate.EPOCH, LocalDateTime.MIN, Instant.EPOCH, OffsetDateTime.MIN)));
+    }
+
+    // --- Helper Records ---
+
+    public record User(String email, int age, List<String> tags) {
+    }
+
+    public record Address(String zip) {
+    }
+
+    public record Order(Address address) {
+    }
+
+    public record Item(String sku, int quantity) {
+    }
+
+    public record Shipment(Address address, List<Item> items) {
+    }
+
+    public record Depot(Shipment shipment) {
+    }
+
+    public record Account(String username, Integer age, List<String> roles, int logins) {
+    }
+
+    public record Event(Instant at) {
+    }
+
+    public record Booking(LocalDate day, LocalDateTime start, Instant created, OffsetDateTime confirmed) {
+    }
+
+    public record Reading(int sensor, long timestamp, double celsius) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.joseph.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationClockTest {
+
+    @AfterEach
+    void restoreClock() {
+        ValidationClock.setClock(Clock.systemDefaultZone());
+    }
+
+    @Test
+    void shouldReadTheConfiguredClock() {
+        Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+        ValidationClock.setClock(Clock.fixed(instant, ZoneOffset.UTC));
+
+        assertEquals(instant, ValidationClock.now().getInstant());
+        assertEquals(ZoneOffset.UTC, ValidationClock.getClock().getZone());
+        assertThrows(NullPointerException.class, () -> ValidationClock.setClock(null));
+    }
+
+    @Test
+    void shouldReadTheClockOncePerPass() {
+        CountingClock clock = new CountingClock();
+
+        ValidationTime pinned = ValidationClock.pass(clock, () -> {
+            assertEquals(0, clock.reads.get());
+            ValidationTime first = ValidationClock.now();
+            assertSame(first, ValidationClock.now());
+            assertSame(first, ValidationClock.pass(new CountingClock(), ValidationClock::now));
+            assertSame(first, ValidationClock.now(new CountingClock()));
+            return first;
+        });
+        assertEquals(1, clock.reads.get());
+
+        assertNotSame(pinned, ValidationClock.pass(clock, ValidationClock::now));
+        assertEquals(2, clock.reads.get());
+        assertEquals(3, ValidationClock.now(clock).getInstant().getEpochSecond());
+        assertThrows(NullPointerException.class, () -> ValidationClock.pass(null, ValidationClock::now));
+
+        ValidationTime fixed = ValidationTime.of(Instant.EPOCH, ZoneOffset.UTC);
+        assertSame(fixed, ValidationClock.pinned(fixed, ValidationClock::now));
+        assertSame(fixed, ValidationClock.pass(clock, () -> ValidationClock.pinned(fixed, ValidationClock::now)));
+        assertThrows(IllegalStateException.class, () -> ValidationClock.pinned(fixed, () -> {
+            throw new IllegalStateException();
+        }));
+        assertNotSame(fixed, ValidationClock.now());
+        assertEquals(3, clock.reads.get());
+    }
+
+    @Test
+    void shouldKeepTheOuterPass() {
+        CountingClock outer = new CountingClock();
+        CountingClock inner = new CountingClock();
+
+        boolean started = ValidationClock.startPass(outer);
+        try {
+            assertTrue(started);
+            boolean nested = ValidationClock.startPass(inner);
+            assertFalse(nested);
+            ValidationClock.endPass(nested);
+            assertSame(ValidationClock.now(), ValidationClock.now());
+        } finally {
+            ValidationClock.endPass(started);
+        }
+        assertEquals(1, outer.reads.get());
+        assertEquals(0, inner.reads.get());
+    }
+
+    /**
+     * Clock counting its reads.
+     */
+    private static final class CountingClock extends Clock {
+        private final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochSecond(reads.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.joseph.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationTimeTest {
+
+    @Test
+    void shouldCompareWithTheLocalDateOfTheClockZone() {
+        Instant instant = Instant.parse("2024-03-10T23:30:00Z");
+        ValidationTime utc = ValidationTime.of(Clock.fixed(instant, ZoneOffset.UTC));
+        ValidationTime paris = ValidationTime.of(Clock.fixed(instant, ZoneId.of("Europe/Paris")));
+
+        assertEquals(LocalDate.of(2024, 3, 10), utc.getDate());
+        assertEquals(LocalDate.of(2024, 3, 11), paris.getDate());
+        assertEquals(0, utc.compare(LocalDate.of(2024, 3, 10)));
+        assertTrue(paris.compare(LocalDate.of(2024, 3, 10)) < 0);
+        assertTrue(utc.compare(LocalDate.of(2024, 3, 11)) > 0);
+        assertEquals(instant, paris.getInstant());
+
+        ValidationTime beforeEpoch = ValidationTime.of(Instant.parse("1969-12-31T23:59:59Z"), ZoneOffset.UTC);
+        assertEquals(LocalDate.of(1969, 12, 31), beforeEpoch.getDate());
+    }
+
+    @Test
+    void shouldCompareDateTimesToTheNanosecond() {
+        ValidationTime now = ValidationTime.of(Instant.parse("2024-03-10T10:00:00.000000500Z"), ZoneOffset.ofHours(2));
+
+        assertEquals(0, now.compare(LocalDateTime.parse("2024-03-10T12:00:00.000000500")));
+        assertTrue(now.compare(LocalDateTime.parse("2024-03-10T12:00:00.000000499")) < 0);
+        assertTrue(now.compare(LocalDateTime.parse("2024-03-10T10:00:01")) < 0);
+
+        assertEquals(0, now.compare(Instant.parse("2024-03-10T10:00:00.000000500Z")));
+        assertTrue(now.compare(Instant.parse("2024-03-10T10:00:00.000000501Z")) > 0);
+
+        assertEquals(0, now.compare(OffsetDateTime.parse("2024-03-10T05:00:00.000000500-05:00")));
+        assertTrue(now.compare(OffsetDateTime.parse("2024-03-10T11:00:00+02:00")) < 0);
+        assertTrue(now.compare(OffsetDateTime.parse("2024-03-10T11:00:00Z")) > 0);
+    }
+}